@@ -0,0 +1,171 @@
+package checker.ai;
+
+import checker.engine.CheckerMoveTable;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerDefaultEvaluator implements CheckerEvaluator
+{
+	/**
+	 * Constant value for the default evaluation of a man
+	 */
+	public final static int MAN_VALUE = 100;
+	/**
+	 * Constant value for the default evaluation of a king
+	 */
+	public final static int KING_VALUE = 300;
+	/**
+	 * Constant value for the default evaluation of each row a man has advanced
+	 */
+	public final static int ADVANCE_VALUE = 2;
+	/**
+	 * Constant value for the default evaluation of a man still on its back rank, where it keeps the opponent from crowning
+	 */
+	public final static int BACK_RANK_VALUE = 4;
+	/**
+	 * Constant value for the default evaluation of each empty square a piece can step to
+	 */
+	public final static int MOBILITY_VALUE = 1;
+
+	/**
+	 * Bit mask of the neighbouring squares a piece on each square steps to, indexed by [side][sq] for men and [2][sq] for kings
+	 */
+	private final static int[][] STEPS = new int[3][CheckerState.SQUARES];
+
+	static
+	{
+		for (int sq = 0; sq < CheckerState.SQUARES; sq++)
+		{
+			for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+			{
+				int to = CheckerMoveTable.NEIGHBOUR[sq][dir];
+				if (to == CheckerState.NONE)
+					continue;
+				STEPS[2][sq] |= 1 << to;
+				for (int side = CheckerState.ORANGE; side <= CheckerState.WHITE; side++)
+				{
+					if (CheckerMoveTable.isForward(dir, side))
+						STEPS[side][sq] |= 1 << to;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Piece-square table of the material, advancement and back-rank terms, see CheckerState.tableIndex
+	 */
+	private final int[] table = new int[2 * 2 * CheckerState.SQUARES];
+	/**
+	 * Evaluation of each empty square a piece can step to
+	 */
+	private final int mobilityValue;
+
+	/**
+	 * Constructor of CheckerDefaultEvaluator class
+	 * <p>
+	 * This constructor will fold the material, advancement and back-rank terms into one piece-square table, which the state keeps summed
+	 * up as pieces are added, removed and crowned. Mobility depends on the neighbouring pieces and is counted when evaluating.
+	 *
+	 * @param manValue Evaluation of a man
+	 * @param kingValue Evaluation of a king
+	 * @param advanceValue Evaluation of each row a man has advanced
+	 * @param backRankValue Evaluation of a man on its back rank
+	 * @param mobilityValue Evaluation of each empty square a piece can step to, 0 to leave mobility out
+	 */
+	public CheckerDefaultEvaluator(int manValue, int kingValue, int advanceValue, int backRankValue, int mobilityValue)
+	{
+		this.mobilityValue = mobilityValue;
+		for (int side = CheckerState.ORANGE; side <= CheckerState.WHITE; side++)
+		{
+			int startRow = CheckerState.kingRow(CheckerState.opponent(side));
+			for (int sq = 0; sq < CheckerState.SQUARES; sq++)
+			{
+				int row = CheckerState.row(sq);
+				table[CheckerState.tableIndex(side, true, sq)] = kingValue;
+				table[CheckerState.tableIndex(side, false, sq)] = manValue + advanceValue * Math.abs(row - startRow) +
+					((row == startRow) ? backRankValue : 0);
+			}
+		}
+	}
+
+	/**
+	 * Constructor of CheckerDefaultEvaluator class
+	 * <p>
+	 * This constructor will use the default value of every term.
+	 *
+	 */
+	public CheckerDefaultEvaluator()
+	{
+		this(MAN_VALUE, KING_VALUE, ADVANCE_VALUE, BACK_RANK_VALUE, MOBILITY_VALUE);
+	}
+
+	/**
+	 * Attach the piece-square table to a state
+	 *
+	 * @param state Game state the search evaluates
+	 */
+	public void attach(CheckerState state)
+	{
+		state.setPieceSquareTable(table);
+	}
+
+	/**
+	 * Evaluate a position by material, advancement, back rank and mobility
+	 *
+	 * @param state Game state prepared by attach
+	 * @return int Return score from the view of the side to move
+	 */
+	public int evaluate(CheckerState state)
+	{
+		int side = state.getSideToMove();
+		int score = state.getPieceSquareScore();
+		if (state.getPieceSquareTable() != table)
+			score = scan(state);
+		if (side == CheckerState.WHITE)
+			score = -score;
+		if (mobilityValue != 0)
+			score += mobilityValue * (mobility(state, side) - mobility(state, CheckerState.opponent(side)));
+		return score;
+	}
+
+	/**
+	 * Sum the piece-square table over the pieces of a state that has another table attached
+	 *
+	 * @param state Game state
+	 * @return int Return sum for the orange pieces minus sum for the white pieces
+	 */
+	private int scan(CheckerState state)
+	{
+		int score = 0;
+		for (int pieces = state.getOccupied(); pieces != 0; pieces &= pieces - 1)
+		{
+			int sq = Integer.numberOfTrailingZeros(pieces);
+			int side = state.getSide(sq);
+			int value = table[CheckerState.tableIndex(side, state.isKing(sq), sq)];
+			score += (side == CheckerState.ORANGE) ? value : -value;
+		}
+		return score;
+	}
+
+	/**
+	 * Count the empty squares the pieces of a side can step to, forward for men and in every direction for kings
+	 *
+	 * @param state Game state
+	 * @param side ORANGE or WHITE
+	 * @return int Return number of steps
+	 */
+	private static int mobility(CheckerState state, int side)
+	{
+		int empty = state.getEmpty();
+		int count = 0;
+		for (int men = state.getMen(side); men != 0; men &= men - 1)
+			count += Integer.bitCount(STEPS[side][Integer.numberOfTrailingZeros(men)] & empty);
+		for (int kings = state.getKings(side); kings != 0; kings &= kings - 1)
+			count += Integer.bitCount(STEPS[2][Integer.numberOfTrailingZeros(kings)] & empty);
+		return count;
+	}
+}
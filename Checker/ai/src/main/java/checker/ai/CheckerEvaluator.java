@@ -0,0 +1,28 @@
+package checker.ai;
+
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public interface CheckerEvaluator
+{
+	/**
+	 * Prepare a state to be evaluated, e.g. attach the piece-square table of the incremental terms
+	 * <p>
+	 * This is called once for the state a search makes and unmakes its actions on, whenever the evaluator is set.
+	 *
+	 * @param state Game state the search evaluates
+	 */
+	public void attach(CheckerState state);
+
+	/**
+	 * Evaluate a position at the start of a turn
+	 *
+	 * @param state Game state prepared by attach
+	 * @return int Return score from the view of the side to move, well inside +/-CheckerSearch.PROVEN
+	 */
+	public int evaluate(CheckerState state);
+}
@@ -0,0 +1,151 @@
+package checker.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerHistogram
+{
+	/**
+	 * Constant value for the number of bits of the sub-buckets of each power of 2. A value is kept to within 1/32 (about 3%).
+	 */
+	private final static int SUB_BUCKET_BITS = 5;
+	/**
+	 * Constant value for the number of sub-buckets of each power of 2
+	 */
+	private final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/**
+	 * Constant value for the number of buckets, enough for any non-negative long
+	 */
+	private final static int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	/**
+	 * Number of values recorded in each bucket
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	/**
+	 * Number of values recorded
+	 */
+	private final LongAdder count = new LongAdder();
+	/**
+	 * Sum of the values recorded
+	 */
+	private final LongAdder sum = new LongAdder();
+	/**
+	 * Largest value recorded
+	 */
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Record a value. This does not lock or allocate, so that any number of threads can record at the same time.
+	 *
+	 * @param value Value to record, a negative value is recorded as 0
+	 */
+	public void record(long value)
+	{
+		value = Math.max(0, value);
+		counts.incrementAndGet(bucket(value));
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Getter to get number of values recorded
+	 *
+	 * @return long Return number of values
+	 */
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	/**
+	 * Getter to get largest value recorded
+	 *
+	 * @return long Return largest value, 0 if none is recorded
+	 */
+	public long getMax()
+	{
+		return max.get();
+	}
+
+	/**
+	 * Getter to get mean of the values recorded
+	 *
+	 * @return double Return mean, 0 if none is recorded
+	 */
+	public double getMean()
+	{
+		long n = count.sum();
+		return (n > 0) ? (double) sum.sum() / n : 0;
+	}
+
+	/**
+	 * Getter to get a percentile of the values recorded
+	 *
+	 * @param percentile Percentile between 0 and 100
+	 * @return long Return largest value of the bucket holding the percentile, at most the largest value recorded, 0 if none is recorded
+	 */
+	public long getPercentile(double percentile)
+	{
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++)
+			total += counts.get(i);
+		if (total == 0)
+			return 0;
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += counts.get(i);
+			if (seen >= rank)
+				return Math.min(highest(i), max.get());
+		}
+		return max.get();
+	}
+
+	/**
+	 * Clear all values recorded
+	 *
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKETS; i++)
+			counts.set(i, 0);
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	/**
+	 * Bucket of a value. Values below 2 * SUB_BUCKETS have a bucket each; above, each power of 2 is split into SUB_BUCKETS buckets.
+	 *
+	 * @param value Non-negative value
+	 * @return int Return bucket index
+	 */
+	static int bucket(long value)
+	{
+		int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+		return shift * SUB_BUCKETS + (int) (value >>> shift);
+	}
+
+	/**
+	 * Largest value of a bucket
+	 *
+	 * @param bucket Bucket index
+	 * @return long Return largest value that falls in the bucket
+	 */
+	static long highest(int bucket)
+	{
+		int shift = Math.max(0, bucket / SUB_BUCKETS - 1);
+		long lowest = (long) (bucket - shift * SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
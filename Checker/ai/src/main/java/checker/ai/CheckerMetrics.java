@@ -0,0 +1,365 @@
+package checker.ai;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerMetrics implements CheckerMetricsMXBean
+{
+	/**
+	 * Constant value for the JMX domain the metrics are registered in
+	 */
+	public final static String DOMAIN = "checker";
+
+	/**
+	 * Number of actions decided by search
+	 */
+	private final LongAdder searches = new LongAdder();
+	/**
+	 * Number of nodes searched
+	 */
+	private final LongAdder nodes = new LongAdder();
+	/**
+	 * Time spent searching in nanoseconds
+	 */
+	private final LongAdder searchNanos = new LongAdder();
+	/**
+	 * Sum of the depth reached by each search
+	 */
+	private final LongAdder depths = new LongAdder();
+	/**
+	 * Largest depth reached by a search
+	 */
+	private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+	/**
+	 * Number of beta cutoffs
+	 */
+	private final LongAdder cutoffs = new LongAdder();
+	/**
+	 * Number of beta cutoffs by the first action searched
+	 */
+	private final LongAdder firstMoveCutoffs = new LongAdder();
+	/**
+	 * Number of transposition table probes
+	 */
+	private final LongAdder tableProbes = new LongAdder();
+	/**
+	 * Number of transposition table probes that found an entry
+	 */
+	private final LongAdder tableHits = new LongAdder();
+	/**
+	 * Number of tablebase probes
+	 */
+	private final LongAdder tablebaseProbes = new LongAdder();
+	/**
+	 * Number of tablebase probes that found a value
+	 */
+	private final LongAdder tablebaseHits = new LongAdder();
+	/**
+	 * Number of opening book probes
+	 */
+	private final LongAdder bookProbes = new LongAdder();
+	/**
+	 * Number of opening book probes that found an action
+	 */
+	private final LongAdder bookHits = new LongAdder();
+	/**
+	 * Number of move generations by searches
+	 */
+	private final LongAdder moveGenerations = new LongAdder();
+	/**
+	 * Search time of each action in nanoseconds
+	 */
+	private final CheckerHistogram searchTime = new CheckerHistogram();
+	/**
+	 * Name the metrics are registered with, null if they are not registered
+	 */
+	private ObjectName name = null;
+
+	/**
+	 * Add the counters of a search, after selectMove or after a root action searched for a parallel search
+	 *
+	 * @param search Search to add the counters of since its last prepare
+	 */
+	public void addSearch(CheckerSearch search)
+	{
+		nodes.add(search.getNodes());
+		cutoffs.add(search.getCutoffs());
+		firstMoveCutoffs.add(search.getFirstMoveCutoffs());
+		tableProbes.add(search.getTableProbes());
+		tableHits.add(search.getTableHits());
+		tablebaseProbes.add(search.getTablebaseProbes());
+		tablebaseHits.add(search.getTablebaseHits());
+		moveGenerations.add(search.getMoveGenerations());
+	}
+
+	/**
+	 * Record an action decided by search
+	 *
+	 * @param nanos Search time in nanoseconds
+	 * @param depth Depth of the last completed iteration
+	 */
+	public void recordSearch(long nanos, int depth)
+	{
+		searches.increment();
+		searchNanos.add(nanos);
+		searchTime.record(nanos);
+		depths.add(depth);
+		maxDepth.accumulate(depth);
+	}
+
+	/**
+	 * Record an opening book probe
+	 *
+	 * @param hit Flag set if the book held an action for the position
+	 */
+	public void recordBookProbe(boolean hit)
+	{
+		bookProbes.increment();
+		if (hit)
+			bookHits.increment();
+	}
+
+	/**
+	 * Register the metrics with the platform MBean server, as checker:type=CheckerMetrics,name=name
+	 *
+	 * @param name Name of the metrics, e.g. the program they are collected for
+	 * @throws JMException if the name is not valid or already registered
+	 */
+	public synchronized void register(String name) throws JMException
+	{
+		unregister();
+		ObjectName objectName = new ObjectName(DOMAIN, "type", "CheckerMetrics");
+		objectName = ObjectName.getInstance(objectName.getCanonicalName() + ",name=" + ObjectName.quote(name));
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+		this.name = objectName;
+	}
+
+	/**
+	 * Unregister the metrics from the platform MBean server, if they are registered
+	 *
+	 * @throws JMException if the metrics cannot be unregistered
+	 */
+	public synchronized void unregister() throws JMException
+	{
+		if (name == null)
+			return;
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		if (server.isRegistered(name))
+			server.unregisterMBean(name);
+		name = null;
+	}
+
+	/**
+	 * Getter to get number of actions decided by search
+	 *
+	 * @return long Return number of searched actions
+	 */
+	public long getSearches()
+	{
+		return searches.sum();
+	}
+
+	/**
+	 * Getter to get number of nodes searched
+	 *
+	 * @return long Return number of nodes
+	 */
+	public long getNodes()
+	{
+		return nodes.sum();
+	}
+
+	/**
+	 * Getter to get search speed over all searches
+	 *
+	 * @return long Return nodes searched per second of search time
+	 */
+	public long getNodesPerSecond()
+	{
+		long nanos = searchNanos.sum();
+		return (nanos > 0) ? (long) (nodes.sum() * 1e9 / nanos) : 0;
+	}
+
+	/**
+	 * Getter to get mean depth of the last completed iteration of each search
+	 *
+	 * @return double Return mean depth reached
+	 */
+	public double getMeanDepth()
+	{
+		return ratio(depths.sum(), searches.sum());
+	}
+
+	/**
+	 * Getter to get largest depth of a completed iteration
+	 *
+	 * @return long Return largest depth reached
+	 */
+	public long getMaxDepth()
+	{
+		return maxDepth.get();
+	}
+
+	/**
+	 * Getter to get ratio of the nodes that ended with a beta cutoff
+	 *
+	 * @return double Return cutoffs per node
+	 */
+	public double getCutoffRatio()
+	{
+		return ratio(cutoffs.sum(), nodes.sum());
+	}
+
+	/**
+	 * Getter to get ratio of the beta cutoffs made by the first action searched, a measure of the action ordering
+	 *
+	 * @return double Return first-action cutoffs per cutoff
+	 */
+	public double getFirstMoveCutoffRatio()
+	{
+		return ratio(firstMoveCutoffs.sum(), cutoffs.sum());
+	}
+
+	/**
+	 * Getter to get ratio of the transposition table probes that found an entry
+	 *
+	 * @return double Return hits per probe
+	 */
+	public double getTableHitRate()
+	{
+		return ratio(tableHits.sum(), tableProbes.sum());
+	}
+
+	/**
+	 * Getter to get ratio of the tablebase probes that found a value
+	 *
+	 * @return double Return hits per probe
+	 */
+	public double getTablebaseHitRate()
+	{
+		return ratio(tablebaseHits.sum(), tablebaseProbes.sum());
+	}
+
+	/**
+	 * Getter to get ratio of the opening book probes that found an action
+	 *
+	 * @return double Return hits per probe
+	 */
+	public double getBookHitRate()
+	{
+		return ratio(bookHits.sum(), bookProbes.sum());
+	}
+
+	/**
+	 * Getter to get number of times the actions of a position were generated by a search
+	 *
+	 * @return long Return number of move generations
+	 */
+	public long getMoveGenerations()
+	{
+		return moveGenerations.sum();
+	}
+
+	/**
+	 * Getter to get mean search time of an action
+	 *
+	 * @return double Return mean time in milliseconds
+	 */
+	public double getSearchMillisMean()
+	{
+		return searchTime.getMean() / 1e6;
+	}
+
+	/**
+	 * Getter to get median search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisP50()
+	{
+		return searchTime.getPercentile(50) / 1e6;
+	}
+
+	/**
+	 * Getter to get 90th percentile search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisP90()
+	{
+		return searchTime.getPercentile(90) / 1e6;
+	}
+
+	/**
+	 * Getter to get 99th percentile search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisP99()
+	{
+		return searchTime.getPercentile(99) / 1e6;
+	}
+
+	/**
+	 * Getter to get longest search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisMax()
+	{
+		return searchTime.getMax() / 1e6;
+	}
+
+	/**
+	 * Write all metrics as a JSON object
+	 *
+	 * @return String Return JSON object
+	 */
+	public String toJson()
+	{
+		return String.format(Locale.ROOT, "{\"searches\":%d,\"nodes\":%d,\"nodesPerSecond\":%d,\"meanDepth\":%.2f,\"maxDepth\":%d," +
+			"\"cutoffRatio\":%.4f,\"firstMoveCutoffRatio\":%.4f,\"tableProbes\":%d,\"tableHitRate\":%.4f,\"tablebaseProbes\":%d," +
+			"\"tablebaseHitRate\":%.4f,\"bookProbes\":%d,\"bookHitRate\":%.4f,\"moveGenerations\":%d," +
+			"\"searchMillis\":{\"mean\":%.3f,\"p50\":%.3f,\"p90\":%.3f,\"p99\":%.3f,\"max\":%.3f}}",
+			getSearches(), getNodes(), getNodesPerSecond(), getMeanDepth(), getMaxDepth(), getCutoffRatio(), getFirstMoveCutoffRatio(),
+			tableProbes.sum(), getTableHitRate(), tablebaseProbes.sum(), getTablebaseHitRate(), bookProbes.sum(), getBookHitRate(),
+			getMoveGenerations(), getSearchMillisMean(), getSearchMillisP50(), getSearchMillisP90(), getSearchMillisP99(),
+			getSearchMillisMax());
+	}
+
+	/**
+	 * Clear all metrics
+	 *
+	 */
+	public void reset()
+	{
+		for (LongAdder adder : new LongAdder[] { searches, nodes, searchNanos, depths, cutoffs, firstMoveCutoffs, tableProbes, tableHits,
+			tablebaseProbes, tablebaseHits, bookProbes, bookHits, moveGenerations })
+			adder.reset();
+		maxDepth.reset();
+		searchTime.reset();
+	}
+
+	/**
+	 * Divide two counts
+	 *
+	 * @param count Count
+	 * @param total Count it is a part of
+	 * @return double Return ratio, 0 if the total is 0
+	 */
+	private static double ratio(long count, long total)
+	{
+		return (total > 0) ? (double) count / total : 0;
+	}
+}
@@ -0,0 +1,134 @@
+package checker.ai;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public interface CheckerMetricsMXBean
+{
+	/**
+	 * Getter to get number of actions decided by search
+	 *
+	 * @return long Return number of searched actions
+	 */
+	public long getSearches();
+
+	/**
+	 * Getter to get number of nodes searched
+	 *
+	 * @return long Return number of nodes
+	 */
+	public long getNodes();
+
+	/**
+	 * Getter to get search speed over all searches
+	 *
+	 * @return long Return nodes searched per second of search time
+	 */
+	public long getNodesPerSecond();
+
+	/**
+	 * Getter to get mean depth of the last completed iteration of each search
+	 *
+	 * @return double Return mean depth reached
+	 */
+	public double getMeanDepth();
+
+	/**
+	 * Getter to get largest depth of a completed iteration
+	 *
+	 * @return long Return largest depth reached
+	 */
+	public long getMaxDepth();
+
+	/**
+	 * Getter to get ratio of the nodes that ended with a beta cutoff
+	 *
+	 * @return double Return cutoffs per node
+	 */
+	public double getCutoffRatio();
+
+	/**
+	 * Getter to get ratio of the beta cutoffs made by the first action searched, a measure of the action ordering
+	 *
+	 * @return double Return first-action cutoffs per cutoff
+	 */
+	public double getFirstMoveCutoffRatio();
+
+	/**
+	 * Getter to get ratio of the transposition table probes that found an entry
+	 *
+	 * @return double Return hits per probe
+	 */
+	public double getTableHitRate();
+
+	/**
+	 * Getter to get ratio of the tablebase probes that found a value
+	 *
+	 * @return double Return hits per probe
+	 */
+	public double getTablebaseHitRate();
+
+	/**
+	 * Getter to get ratio of the opening book probes that found an action
+	 *
+	 * @return double Return hits per probe
+	 */
+	public double getBookHitRate();
+
+	/**
+	 * Getter to get number of times the actions of a position were generated by a search
+	 *
+	 * @return long Return number of move generations
+	 */
+	public long getMoveGenerations();
+
+	/**
+	 * Getter to get mean search time of an action
+	 *
+	 * @return double Return mean time in milliseconds
+	 */
+	public double getSearchMillisMean();
+
+	/**
+	 * Getter to get median search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisP50();
+
+	/**
+	 * Getter to get 90th percentile search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisP90();
+
+	/**
+	 * Getter to get 99th percentile search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisP99();
+
+	/**
+	 * Getter to get longest search time of an action
+	 *
+	 * @return double Return time in milliseconds
+	 */
+	public double getSearchMillisMax();
+
+	/**
+	 * Write all metrics as a JSON object
+	 *
+	 * @return String Return JSON object
+	 */
+	public String toJson();
+
+	/**
+	 * Clear all metrics
+	 *
+	 */
+	public void reset();
+}
@@ -0,0 +1,236 @@
+package checker.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerOpeningBook implements AutoCloseable
+{
+	/**
+	 * Constant value for the magic number at the start of a book file, "CKOB"
+	 */
+	final static int MAGIC = 0x434B4F42;
+	/**
+	 * Constant value for the version of the book file format
+	 */
+	final static int VERSION = 1;
+	/**
+	 * Constant value for the byte order of a book file
+	 */
+	final static ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	/**
+	 * Constant value for the size of the book file header in bytes
+	 */
+	final static int HEADER_BYTES = 16;
+	/**
+	 * Constant value for the size of an entry in bytes: position hash, action key and weight
+	 */
+	final static int ENTRY_BYTES = 16;
+	/**
+	 * Constant value for the largest number of book actions of a position
+	 */
+	private final static int MAX_ENTRIES = 64;
+
+	/**
+	 * Channel of the book file
+	 */
+	private final FileChannel channel;
+	/**
+	 * Mapped entries, sorted by position hash and then action key
+	 */
+	private final MappedByteBuffer entries;
+	/**
+	 * Number of entries
+	 */
+	private final int size;
+	/**
+	 * Number of plies from the starting position the book was built for
+	 */
+	private final int plies;
+
+	/**
+	 * Constructor of CheckerOpeningBook class
+	 * <p>
+	 * This constructor will open a book file written by CheckerOpeningBookBuilder and map its entries read-only.
+	 *
+	 * @param file Book file
+	 * @throws IOException if the file cannot be read or is not a book file
+	 */
+	public CheckerOpeningBook(Path file) throws IOException
+	{
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		try
+		{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(BYTE_ORDER);
+			while (header.hasRemaining())
+			{
+				if (channel.read(header, header.position()) < 0)
+					throw new IOException(file + ": not a book file");
+			}
+			header.flip();
+			if (header.getInt() != MAGIC || header.getInt() != VERSION)
+				throw new IOException(file + ": not a book file");
+			size = header.getInt();
+			plies = header.getInt();
+			long bytes = (long) size * ENTRY_BYTES;
+			if (size < 0 || bytes > Integer.MAX_VALUE || HEADER_BYTES + bytes > channel.size())
+				throw new IOException(file + ": bad number of entries " + size);
+			entries = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, bytes);
+			entries.order(BYTE_ORDER);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Getter to get number of entries
+	 *
+	 * @return int Return number of position and action pairs in the book
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Getter to get number of plies from the starting position the book was built for
+	 *
+	 * @return int Return number of plies
+	 */
+	public int getPlies()
+	{
+		return plies;
+	}
+
+	/**
+	 * Select a book action for the side to move, at random in proportion to the weights of the legal book actions of the position
+	 *
+	 * @param state Game state, the side to move is the player to decide for. It is not changed.
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @param random Random number generator to choose between book actions
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if the position is not in the book
+	 */
+	public int probe(CheckerState state, int chainSquare, CheckerMoveList moves, Random random)
+	{
+		// the book holds positions at the start of a turn only
+		if (chainSquare != CheckerState.NONE)
+			return CheckerState.NONE;
+
+		long hash = state.getHash();
+		int first = find(hash);
+		if (first == CheckerState.NONE)
+			return CheckerState.NONE;
+
+		CheckerMoveGenerator.generate(state, chainSquare, moves);
+		int[] indexes = new int[MAX_ENTRIES];
+		int[] weights = new int[MAX_ENTRIES];
+		int count = 0;
+		int total = 0;
+		for (int i = first; i < size && count < MAX_ENTRIES && getHash(i) == hash; i++)
+		{
+			// a hash collision or a stale book may hold an action that is not legal here
+			int index = moves.indexOf(getMove(i));
+			if (index != CheckerState.NONE && getWeight(i) > 0)
+			{
+				indexes[count] = index;
+				weights[count] = getWeight(i);
+				total += weights[count];
+				count++;
+			}
+		}
+		if (total == 0)
+			return CheckerState.NONE;
+
+		int pick = random.nextInt(total);
+		for (int i = 0; i < count; i++)
+		{
+			pick -= weights[i];
+			if (pick < 0)
+				return indexes[i];
+		}
+		return indexes[count - 1];
+	}
+
+	/**
+	 * Find the first entry of a position by binary search
+	 *
+	 * @param hash Position hash
+	 * @return int Return index of the first entry with the hash, or CheckerState.NONE if there is none
+	 */
+	private int find(long hash)
+	{
+		int low = 0;
+		int high = size;
+		while (low < high)
+		{
+			int mid = (low + high) >>> 1;
+			if (getHash(mid) < hash)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && getHash(low) == hash) ? low : CheckerState.NONE;
+	}
+
+	/**
+	 * Getter to get the position hash of an entry
+	 *
+	 * @param i Index of the entry
+	 * @return long Return position hash
+	 */
+	private long getHash(int i)
+	{
+		return entries.getLong(i * ENTRY_BYTES);
+	}
+
+	/**
+	 * Getter to get the action of an entry
+	 *
+	 * @param i Index of the entry
+	 * @return int Return action key, see CheckerMove.KEY_MASK
+	 */
+	private int getMove(int i)
+	{
+		return entries.getInt(i * ENTRY_BYTES + 8);
+	}
+
+	/**
+	 * Getter to get the weight of an entry
+	 *
+	 * @param i Index of the entry
+	 * @return int Return weight
+	 */
+	private int getWeight(int i)
+	{
+		return entries.getInt(i * ENTRY_BYTES + 12);
+	}
+
+	/**
+	 * Close the book file. The mapped entries are released by the garbage collector.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+}
@@ -0,0 +1,347 @@
+package checker.ai;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import checker.engine.CheckerMove;
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerOpeningBookBuilder
+{
+	/**
+	 * Constant value for the default number of plies from the starting position kept in the book
+	 */
+	public final static int PLIES = 12;
+	/**
+	 * Constant value for the weight an action gets from a game won by the side that played it
+	 */
+	public final static int WIN_WEIGHT = 2;
+	/**
+	 * Constant value for the weight an action gets from a drawn game. An action gets no weight from a lost game.
+	 */
+	public final static int DRAW_WEIGHT = 1;
+
+	/**
+	 * Number of plies from the starting position kept in the book
+	 */
+	private final int plies;
+	/**
+	 * Position hash of each recorded action
+	 */
+	private long[] hashes = new long[1024];
+	/**
+	 * Key of each recorded action, see CheckerMove.KEY_MASK
+	 */
+	private int[] keys = new int[1024];
+	/**
+	 * Weight of each recorded action
+	 */
+	private int[] weights = new int[1024];
+	/**
+	 * Number of recorded actions
+	 */
+	private int size = 0;
+	/**
+	 * Number of games added
+	 */
+	private int games = 0;
+
+	/**
+	 * Constructor of CheckerOpeningBookBuilder class
+	 *
+	 * @param plies Number of plies from the starting position kept in the book
+	 */
+	public CheckerOpeningBookBuilder(int plies)
+	{
+		this.plies = plies;
+	}
+
+	/**
+	 * Getter to get number of games added
+	 *
+	 * @return int Return number of games
+	 */
+	public int getGames()
+	{
+		return games;
+	}
+
+	/**
+	 * Add the opening of a game played from the starting position
+	 * <p>
+	 * The first action of each turn within the book plies is recorded with a weight from the result of the game for the side that played it.
+	 *
+	 * @param actions Actions played, packed by CheckerMove, one per hop of a capture
+	 * @param count Number of actions
+	 * @param winner CheckerState.ORANGE, CheckerState.WHITE or CheckerTournament.DRAW
+	 */
+	public void addGame(int[] actions, int count, int winner)
+	{
+		CheckerState state = new CheckerState();
+		state.setup();
+		int chainSquare = CheckerState.NONE;
+		int ply = 0;
+
+		for (int i = 0; i < count && ply < plies; i++)
+		{
+			int side = state.getSideToMove();
+			if (chainSquare == CheckerState.NONE)
+				record(state.getHash(), actions[i] & CheckerMove.KEY_MASK, (winner == side) ? WIN_WEIGHT : (winner == CheckerTournament.DRAW) ?
+					DRAW_WEIGHT : 0);
+			chainSquare = play(state, actions[i]);
+			if (chainSquare == CheckerState.NONE)
+				ply++;
+		}
+		games++;
+	}
+
+	/**
+	 * Add the opening of a game written as text
+	 * <p>
+	 * A game is a list of turns separated by spaces. Squares are numbered 1..32 as in CheckerPositionFormat; a move is written "22-18"
+	 * and a capture "22x15" or "22x15x8" with every landing square. Move numbers such as "1." are skipped. The last token may give the
+	 * result: "1-0" orange wins, "0-1" white wins, "1/2-1/2" or "*" draw, and no result counts as a draw.
+	 *
+	 * @param game Game as text
+	 * @throws IllegalArgumentException if a turn cannot be read or is not legal
+	 */
+	public void addGame(String game)
+	{
+		String[] tokens = game.trim().split("\\s+");
+		int count = tokens.length;
+		int winner = CheckerTournament.DRAW;
+		if (count > 0)
+		{
+			String last = tokens[count - 1];
+			if (last.equals("1-0") || last.equals("0-1") || last.equals("1/2-1/2") || last.equals("*"))
+			{
+				winner = last.equals("1-0") ? CheckerState.ORANGE : last.equals("0-1") ? CheckerState.WHITE : CheckerTournament.DRAW;
+				count--;
+			}
+		}
+
+		CheckerState state = new CheckerState();
+		CheckerMoveList moves = new CheckerMoveList();
+		state.setup();
+		int[] actions = new int[64];
+		int actionCount = 0;
+		for (int t = 0; t < count; t++)
+		{
+			String turn = tokens[t].replaceFirst("^\\d+\\.+", "");
+			if (turn.isEmpty())
+				continue;
+
+			boolean capture = turn.indexOf('x') >= 0;
+			String[] squares = turn.split(capture ? "x" : "-");
+			int chainSquare = CheckerState.NONE;
+			for (int hop = 1; hop < squares.length; hop++)
+			{
+				int from, to;
+				try
+				{
+					from = Integer.parseInt(squares[hop - 1]) - 1;
+					to = Integer.parseInt(squares[hop]) - 1;
+				}
+				catch (NumberFormatException e)
+				{
+					throw new IllegalArgumentException("Bad turn \"" + tokens[t] + "\"");
+				}
+
+				int move = CheckerMove.NONE;
+				int n = CheckerMoveGenerator.generate(state, chainSquare, moves);
+				for (int i = 0; i < n; i++)
+				{
+					if (moves.getFrom(i) == from && moves.getTo(i) == to && CheckerMove.isCapture(moves.get(i)) == capture)
+						move = moves.get(i);
+				}
+				if (move == CheckerMove.NONE)
+					throw new IllegalArgumentException("Illegal turn \"" + tokens[t] + "\"");
+
+				if (actionCount == actions.length)
+					actions = Arrays.copyOf(actions, actionCount * 2);
+				actions[actionCount++] = move;
+				chainSquare = play(state, move);
+			}
+			if (squares.length < 2 || chainSquare != CheckerState.NONE)
+				throw new IllegalArgumentException("Incomplete turn \"" + tokens[t] + "\"");
+		}
+		addGame(actions, actionCount, winner);
+	}
+
+	/**
+	 * Write the book file
+	 * <p>
+	 * The recorded actions are sorted by position hash and action key, and the weights of the same action in the same position are added
+	 * up. Actions without weight are left out. The file holds a header (magic, version, number of entries, book plies) and then one entry
+	 * per position and action: hash, action key and weight.
+	 *
+	 * @param file Book file to create
+	 * @return int Return number of entries written
+	 * @throws IOException if the file cannot be written
+	 */
+	public int write(Path file) throws IOException
+	{
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++)
+			order[i] = i;
+		Arrays.sort(order, (a, b) -> (hashes[a] != hashes[b]) ? Long.compare(hashes[a], hashes[b]) : Integer.compare(keys[a], keys[b]));
+
+		ByteBuffer buffer = ByteBuffer.allocate(CheckerOpeningBook.HEADER_BYTES + size * CheckerOpeningBook.ENTRY_BYTES)
+			.order(CheckerOpeningBook.BYTE_ORDER);
+		buffer.position(CheckerOpeningBook.HEADER_BYTES);
+		int entries = 0;
+		for (int i = 0; i < size; )
+		{
+			int first = order[i];
+			int weight = 0;
+			for (; i < size && hashes[order[i]] == hashes[first] && keys[order[i]] == keys[first]; i++)
+				weight += weights[order[i]];
+			if (weight > 0)
+			{
+				buffer.putLong(hashes[first]).putInt(keys[first]).putInt(weight);
+				entries++;
+			}
+		}
+		buffer.putInt(0, CheckerOpeningBook.MAGIC).putInt(4, CheckerOpeningBook.VERSION).putInt(8, entries).putInt(12, plies);
+		buffer.flip();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		}
+		return entries;
+	}
+
+	/**
+	 * Record one action of a position
+	 *
+	 * @param hash Position hash
+	 * @param key Action key
+	 * @param weight Weight from the result of the game
+	 */
+	private void record(long hash, int key, int weight)
+	{
+		if (size == hashes.length)
+		{
+			hashes = Arrays.copyOf(hashes, size * 2);
+			keys = Arrays.copyOf(keys, size * 2);
+			weights = Arrays.copyOf(weights, size * 2);
+		}
+		hashes[size] = hash;
+		keys[size] = key;
+		weights[size] = weight;
+		size++;
+	}
+
+	/**
+	 * Play one action on a state and pass the turn unless the capture must be continued
+	 *
+	 * @param state Game state
+	 * @param move Action packed by CheckerMove
+	 * @return int Return square index of the piece that must continue capturing, or CheckerState.NONE if the turn passed
+	 */
+	private static int play(CheckerState state, int move)
+	{
+		int to = CheckerMove.getTo(move);
+		int captured = CheckerMove.getCaptured(move);
+		boolean crowning = state.play(CheckerMove.getFrom(move), to, captured);
+		if (captured != CheckerState.NONE && !crowning && CheckerMoveGenerator.hasCapture(state, to))
+			return to;
+		state.setSideToMove(CheckerState.opponent(state.getSideToMove()));
+		return CheckerState.NONE;
+	}
+
+	/**
+	 * Build an opening book from self-play games and games written as text
+	 * <p>
+	 * Usage: CheckerOpeningBookBuilder book-file [-plies n] [-selfplay games threads millisPerMove] [-import games-file]...
+	 * <br> Self-play games start with random plies (see CheckerTournament) so that the book covers more than one line.
+	 * <br> A games file holds one game per line, see addGame(String); empty lines and lines starting with '#' are skipped.
+	 *
+	 * @param  args Book file and game sources
+	 */
+	public static void main(String[] args)
+	{
+		if (args.length < 2)
+		{
+			System.out.println("Usage: CheckerOpeningBookBuilder book-file [-plies n] [-selfplay games threads millisPerMove] [-import games-file]...");
+			return;
+		}
+
+		int plies = PLIES;
+		for (int i = 1; i + 1 < args.length; i++)
+		{
+			if (args[i].equals("-plies"))
+				plies = Integer.parseInt(args[i + 1]);
+		}
+		CheckerOpeningBookBuilder builder = new CheckerOpeningBookBuilder(plies);
+
+		long start = System.nanoTime();
+		try
+		{
+			for (int i = 1; i < args.length; i++)
+			{
+				if (args[i].equals("-selfplay") && i + 3 < args.length)
+				{
+					CheckerTournament tournament = new CheckerTournament(Integer.parseInt(args[i + 1]), Integer.parseInt(args[i + 2]),
+						Long.parseLong(args[i + 3]), CheckerSearch.MAX_DEPTH, 16);
+					for (CheckerTournament.Result result : tournament.playAll())
+						builder.addGame(result.getActions(), result.getActionCount(), result.winner);
+					i += 3;
+				}
+				else if (args[i].equals("-import") && i + 1 < args.length)
+				{
+					try (BufferedReader in = Files.newBufferedReader(Paths.get(args[i + 1]), StandardCharsets.US_ASCII))
+					{
+						String line;
+						int number = 0;
+						while ((line = in.readLine()) != null)
+						{
+							number++;
+							line = line.trim();
+							if (line.isEmpty() || line.startsWith("#"))
+								continue;
+							try
+							{
+								builder.addGame(line);
+							}
+							catch (IllegalArgumentException e)
+							{
+								System.out.println(args[i + 1] + ":" + number + ": " + e.getMessage() + ", game skipped");
+							}
+						}
+					}
+					i++;
+				}
+			}
+			int entries = builder.write(Paths.get(args[0]));
+			System.out.printf("%d games, %d entries written to %s in %d ms\n", builder.getGames(), entries, args[0],
+				(System.nanoTime() - start) / 1000000L);
+		}
+		catch (IOException e)
+		{
+			System.out.println("Couldn't build book " + args[0] + ": " + e.getMessage());
+		}
+		catch (Exception e)
+		{
+			System.out.println("Book build failed: " + e);
+		}
+	}
+}
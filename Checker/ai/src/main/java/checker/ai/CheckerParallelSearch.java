@@ -0,0 +1,427 @@
+package checker.ai;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerParallelSearch implements CheckerStrategy
+{
+	/**
+	 * Pool of worker threads sharing out the root actions
+	 */
+	private final ForkJoinPool pool;
+	/**
+	 * Idle searches, one for each worker thread. A root action task takes one and gives it back when done.
+	 */
+	private final ArrayBlockingQueue<CheckerSearch> searches;
+	/**
+	 * Search of the calling thread, used for the first root action of each iteration
+	 */
+	private final CheckerSearch main;
+	/**
+	 * All searches, kept to stop them
+	 */
+	private final ArrayList<CheckerSearch> all = new ArrayList<CheckerSearch>();
+	/**
+	 * Time budget for each action in milliseconds
+	 */
+	private final long timeBudget;
+	/**
+	 * Maximum depth of iterative deepening
+	 */
+	private final int maxDepth;
+	/**
+	 * stop flag. This flag is set when stop() is called
+	 */
+	private volatile boolean stopped = false;
+	/**
+	 * Number of nodes searched by all threads in the last selectMove
+	 */
+	private final LongAdder nodes = new LongAdder();
+	/**
+	 * Wall-clock time of the last selectMove in nanoseconds
+	 */
+	private long elapsed;
+	/**
+	 * Depth of the last completed iteration of the last selectMove
+	 */
+	private int depthReached;
+	/**
+	 * Score of the selected action of the last selectMove, from the view of the side to move
+	 */
+	private int bestScore;
+	/**
+	 * Best score of the running iteration, shared by the root action tasks as their lower bound
+	 */
+	private final AtomicInteger iterationScore = new AtomicInteger();
+	/**
+	 * Index of the best action of the running iteration
+	 */
+	private volatile int iterationBest;
+	/**
+	 * Metrics the counters of every thread and the search time of each selectMove are added to, null if the search is not measured
+	 */
+	private volatile CheckerMetrics metrics = null;
+
+	/**
+	 * Constructor of CheckerParallelSearch class
+	 * <p>
+	 * This constructor will create one search for each thread of the pool. All searches share the transposition table.
+	 *
+	 * @param  timeBudget Time budget for each action in milliseconds
+	 * @param  maxDepth   Maximum depth of iterative deepening
+	 * @param  table      Transposition table shared by all threads, or null to search without one
+	 * @param  pool       Pool of worker threads
+	 */
+	public CheckerParallelSearch(long timeBudget, int maxDepth, CheckerTranspositionTable table, ForkJoinPool pool)
+	{
+		this.timeBudget = timeBudget;
+		this.maxDepth = Math.min(maxDepth, CheckerSearch.MAX_DEPTH);
+		this.pool = pool;
+		this.main = new CheckerSearch(timeBudget, maxDepth, table);
+		this.searches = new ArrayBlockingQueue<CheckerSearch>(pool.getParallelism());
+		all.add(main);
+		for (int i = 0; i < pool.getParallelism(); i++)
+		{
+			CheckerSearch search = new CheckerSearch(timeBudget, maxDepth, table);
+			searches.add(search);
+			all.add(search);
+		}
+	}
+
+	/**
+	 * Constructor of CheckerParallelSearch class
+	 * <p>
+	 * This constructor will create its own pool of the given number of threads and a transposition table of the default size.
+	 *
+	 * @param  timeBudget Time budget for each action in milliseconds
+	 * @param  maxDepth   Maximum depth of iterative deepening
+	 * @param  threads    Number of worker threads
+	 */
+	public CheckerParallelSearch(long timeBudget, int maxDepth, int threads)
+	{
+		this(timeBudget, maxDepth, new CheckerTranspositionTable(CheckerSearch.TABLE_MEGABYTES), new ForkJoinPool(threads));
+	}
+
+	/**
+	 * Select the next action by alpha-beta search with iterative deepening, sharing out the root actions among the worker threads
+	 * <p>
+	 * In each iteration the best action of the previous iteration is searched first by the calling thread to get a lower bound,
+	 * then the remaining root actions are searched in parallel, each task starting from the best score found so far.
+	 *
+	 * @param state Game state, the side to move is the player to decide for. It is not changed.
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if there is no legal action
+	 */
+	public int selectMove(CheckerState state, int chainSquare, CheckerMoveList moves)
+	{
+		long start = System.nanoTime();
+		int best = iterate(state, chainSquare, moves, start);
+		elapsed = System.nanoTime() - start;
+		CheckerMetrics metrics = this.metrics;
+		if (metrics != null)
+			metrics.recordSearch(elapsed, depthReached);
+		return best;
+	}
+
+	/**
+	 * Search with iterative deepening until the time budget runs out, the maximum depth is reached or the result is proven
+	 *
+	 * @param state Game state, the side to move is the player to decide for. It is not changed.
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @param start Time in nanoseconds (System.nanoTime) the search started
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if there is no legal action
+	 */
+	private int iterate(CheckerState state, int chainSquare, CheckerMoveList moves, long start)
+	{
+		long deadline = start + timeBudget * 1000000L;
+		nodes.reset();
+		depthReached = 0;
+		bestScore = 0;
+		stopped = false;
+
+		int count = CheckerMoveGenerator.generate(state, chainSquare, moves);
+		if (count == 0)
+			return CheckerState.NONE;
+		if (count == 1)
+			return 0;
+
+		int best = 0;
+		for (int depth = 1; depth <= maxDepth; depth++)
+		{
+			// search the best action of the previous iteration first
+			moves.swap(0, best);
+			int iterationBest = searchRoot(state, moves, depth, deadline);
+			if (iterationBest != CheckerState.NONE)
+			{
+				best = iterationBest;
+				bestScore = iterationScore.get();
+			}
+			if (stopped || System.nanoTime() > deadline)
+				break;
+			depthReached = depth;
+
+			// a forced win or loss is found, deeper search will not change it
+			if (Math.abs(bestScore) >= CheckerSearch.PROVEN)
+				break;
+		}
+		return best;
+	}
+
+	/**
+	 * Stop the running search. selectMove will return the best action found so far.
+	 *
+	 */
+	public void stop()
+	{
+		stopped = true;
+		for (CheckerSearch search : all)
+			search.stop();
+	}
+
+	/**
+	 * Setter to set the evaluation function of every thread. It must not be changed while a search is running.
+	 *
+	 * @param evaluator Evaluation function, shared by the threads
+	 */
+	public void setEvaluator(CheckerEvaluator evaluator)
+	{
+		for (CheckerSearch search : all)
+			search.setEvaluator(evaluator);
+	}
+
+	/**
+	 * Setter to set the endgame tablebase of every thread
+	 *
+	 * @param tablebase Tablebase probed in positions with few enough pieces, or null to search without one
+	 */
+	public void setTablebase(CheckerTablebase tablebase)
+	{
+		for (CheckerSearch search : all)
+			search.setTablebase(tablebase);
+	}
+
+	/**
+	 * Setter to set the metrics the counters of every thread and the search time of each selectMove are added to
+	 *
+	 * @param metrics Metrics, or null to leave the search unmeasured
+	 */
+	public void setMetrics(CheckerMetrics metrics)
+	{
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Getter to get the metrics the counters of every thread and the search time of each selectMove are added to
+	 *
+	 * @return CheckerMetrics Return the metrics, or null if the search is not measured
+	 */
+	public CheckerMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	/**
+	 * Getter to get number of nodes searched by all threads in the last selectMove
+	 *
+	 * @return long Return number of nodes
+	 */
+	public long getNodes()
+	{
+		return nodes.sum();
+	}
+
+	/**
+	 * Getter to get the search speed of the last selectMove
+	 *
+	 * @return long Return number of nodes searched per second by all threads
+	 */
+	public long getNodesPerSecond()
+	{
+		return (elapsed > 0) ? nodes.sum() * 1000000000L / elapsed : 0;
+	}
+
+	/**
+	 * Getter to get depth of the last completed iteration of the last selectMove
+	 *
+	 * @return int Return depth reached
+	 */
+	public int getDepthReached()
+	{
+		return depthReached;
+	}
+
+	/**
+	 * Getter to get score of the action selected by the last selectMove
+	 *
+	 * @return int Return score from the view of the side to move
+	 */
+	public int getBestScore()
+	{
+		return bestScore;
+	}
+
+	/**
+	 * Getter to get number of worker threads
+	 *
+	 * @return int Return parallelism of the pool
+	 */
+	public int getThreads()
+	{
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Search all root actions to the given depth
+	 *
+	 * @param state Game state of the root position
+	 * @param moves Root move list
+	 * @param depth Depth to search
+	 * @param deadline Time in nanoseconds (System.nanoTime) when the search must stop
+	 * @return int Return index of the best fully searched action, or CheckerState.NONE if the search was stopped before any completed
+	 */
+	private int searchRoot(CheckerState state, CheckerMoveList moves, int depth, long deadline)
+	{
+		main.prepare(state, deadline);
+		int score = main.searchRootAction(moves, 0, depth, -CheckerSearch.INFINITY, CheckerSearch.INFINITY);
+		nodes.add(main.getNodes());
+		CheckerMetrics metrics = this.metrics;
+		if (metrics != null)
+			metrics.addSearch(main);
+		if (main.isStopped() || stopped)
+			return CheckerState.NONE;
+
+		iterationScore.set(score);
+		iterationBest = 0;
+
+		ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>(moves.size());
+		for (int i = 1; i < moves.size(); i++)
+			tasks.add(new RootTask(state, moves, i, depth, deadline));
+		pool.invokeAll(tasks);
+
+		return iterationBest;
+	}
+
+	/**
+	 * Record the score of a fully searched root action if it is the best so far
+	 *
+	 * @param index Index of the action
+	 * @param score Score of the action
+	 */
+	private synchronized void update(int index, int score)
+	{
+		if (score > iterationScore.get())
+		{
+			iterationScore.set(score);
+			iterationBest = index;
+		}
+	}
+
+	/**
+	 * Task searching one root action with an idle search
+	 */
+	private class RootTask implements Callable<Void>
+	{
+		private final CheckerState state;
+		private final CheckerMoveList moves;
+		private final int index;
+		private final int depth;
+		private final long deadline;
+
+		/**
+		 * Constructor of RootTask class
+		 *
+		 * @param  state    Game state of the root position
+		 * @param  moves    Root move list
+		 * @param  index    Index of the action to search
+		 * @param  depth    Depth to search
+		 * @param  deadline Time in nanoseconds when the search must stop
+		 */
+		RootTask(CheckerState state, CheckerMoveList moves, int index, int depth, long deadline)
+		{
+			this.state = state;
+			this.moves = moves;
+			this.index = index;
+			this.depth = depth;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Search the action and record its score
+		 *
+		 * @return Void Return null
+		 */
+		public Void call() throws InterruptedException
+		{
+			if (stopped)
+				return null;
+
+			CheckerSearch search = searches.take();
+			try
+			{
+				search.prepare(state, deadline);
+				int score = search.searchRootAction(moves, index, depth, iterationScore.get(), CheckerSearch.INFINITY);
+				nodes.add(search.getNodes());
+				CheckerMetrics metrics = CheckerParallelSearch.this.metrics;
+				if (metrics != null)
+					metrics.addSearch(search);
+				if (!search.isStopped())
+					update(index, score);
+			}
+			finally
+			{
+				searches.put(search);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Report the search speed from the starting position for 1, 2, 4 ... threads up to the number of cores
+	 * <p>
+	 * Usage: CheckerParallelSearch [depth] [maxThreads]
+	 *
+	 * @param  args Optional search depth (default 12) and maximum number of threads (default number of cores)
+	 */
+	public static void main(String[] args)
+	{
+		int depth = (args.length >= 1) ? Integer.parseInt(args[0]) : 12;
+		int maxThreads = (args.length >= 2) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+		CheckerState state = new CheckerState();
+		state.setup();
+		CheckerMoveList moves = new CheckerMoveList();
+		long baseline = 0;
+
+		// warm up the JIT compiler so that the single-thread baseline is not penalised
+		CheckerParallelSearch warmup = new CheckerParallelSearch(Long.MAX_VALUE / 2000000L, depth, 1);
+		warmup.selectMove(state, CheckerState.NONE, moves);
+		warmup.pool.shutdown();
+
+		System.out.printf("%8s %12s %10s %12s %12s %8s\n", "threads", "nodes", "millis", "nodes/sec", "nps/core", "scaling");
+		for (int threads = 1; threads <= maxThreads; threads = (threads == maxThreads) ? threads + 1 : Math.min(threads * 2, maxThreads))
+		{
+			CheckerParallelSearch search = new CheckerParallelSearch(Long.MAX_VALUE / 2000000L, depth, threads);
+			search.selectMove(state, CheckerState.NONE, moves);
+			long nps = search.getNodesPerSecond();
+			if (threads == 1)
+				baseline = nps;
+			System.out.printf("%8d %12d %10d %12d %12d %8.2f\n", threads, search.getNodes(), search.elapsed / 1000000L, nps, nps / threads, (double) nps / Math.max(1, baseline));
+			search.pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,741 @@
+package checker.ai;
+
+import checker.engine.CheckerMove;
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerSequenceList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerSearch implements CheckerStrategy
+{
+	/**
+	 * Constant value for the maximum search ply, including capture continuation plies
+	 */
+	public final static int MAX_PLY = 128;
+	/**
+	 * Constant value for the default maximum search depth
+	 */
+	public final static int MAX_DEPTH = 64;
+	/**
+	 * Constant score for a won game, reduced by the ply number so that faster wins score higher
+	 */
+	public final static int WIN = 100000;
+	/**
+	 * Constant score for a position the tablebase holds as won, reduced by its distance and ply number so that faster wins score higher
+	 */
+	public final static int TABLEBASE_WIN = WIN - 2 * MAX_PLY;
+	/**
+	 * Constant score bound of a proven result: a score at least this far from 0 is a win or loss found by the search or the tablebase
+	 */
+	public final static int PROVEN = TABLEBASE_WIN - CheckerTablebase.MAX_DISTANCE - MAX_PLY;
+	/**
+	 * Constant score bound larger than any reachable score
+	 */
+	public final static int INFINITY = WIN + 1;
+	/**
+	 * Constant value for the default memory cap of the transposition table in megabytes
+	 */
+	public final static int TABLE_MEGABYTES = 64;
+	/**
+	 * Number of nodes searched between two checks of the time budget
+	 */
+	private final static int CHECK_INTERVAL = 1024;
+
+	/**
+	 * Time budget for each action in milliseconds
+	 */
+	private long timeBudget;
+	/**
+	 * Transposition table, null if the search runs without one
+	 */
+	private CheckerTranspositionTable table;
+	/**
+	 * Endgame tablebase probed at the start of each turn, null if the search runs without one
+	 */
+	private CheckerTablebase tablebase = null;
+	/**
+	 * Evaluation of the positions at the end of the search
+	 */
+	private CheckerEvaluator evaluator;
+	/**
+	 * Maximum depth of iterative deepening
+	 */
+	private int maxDepth;
+	/**
+	 * Time in nanoseconds (System.nanoTime) when the search must stop
+	 */
+	private long deadline;
+	/**
+	 * stop flag. This flag is set when the time budget runs out or stop() is called
+	 */
+	private volatile boolean stopped = false;
+	/**
+	 * Game state of the searched position, actions are made on it and taken back on the way out
+	 */
+	private final CheckerState position = new CheckerState();
+	/**
+	 * Sequence list at each ply, every capture is searched as a whole sequence
+	 */
+	private final CheckerSequenceList[] lists = new CheckerSequenceList[MAX_PLY + 1];
+	/**
+	 * Number of nodes searched by the last selectMove
+	 */
+	private long nodes;
+	/**
+	 * Number of beta cutoffs since the last prepare
+	 */
+	private long cutoffs;
+	/**
+	 * Number of beta cutoffs by the first action searched since the last prepare
+	 */
+	private long firstMoveCutoffs;
+	/**
+	 * Number of transposition table probes since the last prepare
+	 */
+	private long tableProbes;
+	/**
+	 * Number of transposition table probes that found an entry since the last prepare
+	 */
+	private long tableHits;
+	/**
+	 * Number of tablebase probes since the last prepare
+	 */
+	private long tablebaseProbes;
+	/**
+	 * Number of tablebase probes that found a value since the last prepare
+	 */
+	private long tablebaseHits;
+	/**
+	 * Number of move generations since the last prepare
+	 */
+	private long moveGenerations;
+	/**
+	 * Metrics the counters of each selectMove are added to, null if the search is not measured
+	 */
+	private CheckerMetrics metrics = null;
+	/**
+	 * Listener told of each completed iteration, null if nobody is told
+	 */
+	private CheckerSearchListener listener = null;
+	/**
+	 * Depth of the last completed iteration of the last selectMove
+	 */
+	private int depthReached;
+	/**
+	 * Score of the selected action of the last selectMove, from the view of the side to move
+	 */
+	private int bestScore;
+
+	/**
+	 * Constructor of CheckerSearch class
+	 * <p>
+	 * This constructor will allocate the sequence list of every ply, so that the search itself does not allocate.
+	 *
+	 * @param  timeBudget Time budget for each action in milliseconds
+	 * @param  maxDepth   Maximum depth of iterative deepening
+	 * @param  table      Transposition table, or null to search without one
+	 */
+	public CheckerSearch(long timeBudget, int maxDepth, CheckerTranspositionTable table)
+	{
+		this.timeBudget = timeBudget;
+		this.table = table;
+		this.maxDepth = Math.min(maxDepth, MAX_DEPTH);
+		for (int ply = 0; ply <= MAX_PLY; ply++)
+			lists[ply] = new CheckerSequenceList();
+		setEvaluator(new CheckerDefaultEvaluator());
+	}
+
+	/**
+	 * Constructor of CheckerSearch class
+	 * <p>
+	 * This constructor will create a transposition table of the default size for the search.
+	 *
+	 * @param  timeBudget Time budget for each action in milliseconds
+	 * @param  maxDepth   Maximum depth of iterative deepening
+	 */
+	public CheckerSearch(long timeBudget, int maxDepth)
+	{
+		this(timeBudget, maxDepth, new CheckerTranspositionTable(TABLE_MEGABYTES));
+	}
+
+	/**
+	 * Select the next action by negamax alpha-beta search with iterative deepening
+	 * <p>
+	 * Each iteration searches the best action of the previous iteration first. When the time budget runs out, the best action of the last
+	 * completed iteration is returned, unless the interrupted iteration has already proven a better one.
+	 *
+	 * @param state Game state, the side to move is the player to decide for. It is not changed.
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if there is no legal action
+	 */
+	public int selectMove(CheckerState state, int chainSquare, CheckerMoveList moves)
+	{
+		long start = System.nanoTime();
+		int best = iterate(state, chainSquare, moves, start);
+		if (metrics != null)
+		{
+			metrics.addSearch(this);
+			metrics.recordSearch(System.nanoTime() - start, depthReached);
+		}
+		return best;
+	}
+
+	/**
+	 * Search with iterative deepening until the time budget runs out, the maximum depth is reached or the result is proven
+	 *
+	 * @param state Game state, the side to move is the player to decide for. It is not changed.
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @param start Time in nanoseconds (System.nanoTime) the search started
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if there is no legal action
+	 */
+	private int iterate(CheckerState state, int chainSquare, CheckerMoveList moves, long start)
+	{
+		depthReached = 0;
+		bestScore = 0;
+		prepare(state, start + timeBudget * 1000000L);
+
+		int count = CheckerMoveGenerator.generate(state, chainSquare, moves);
+		if (count == 0)
+			return CheckerState.NONE;
+		if (count == 1)
+			return 0;
+
+		int best = 0;
+		for (int depth = 1; depth <= maxDepth; depth++)
+		{
+			// search the best action of the previous iteration first
+			moves.swap(0, best);
+			int iterationBest = searchRoot(moves, depth);
+			if (stopped)
+			{
+				if (iterationBest != CheckerState.NONE)
+					best = iterationBest;
+				break;
+			}
+			best = iterationBest;
+			depthReached = depth;
+			if (listener != null)
+				listener.iterationCompleted(depth, bestScore, nodes, System.nanoTime() - start, moves.get(best));
+
+			// a forced win or loss is found, deeper search will not change it
+			if (Math.abs(bestScore) >= PROVEN)
+				break;
+		}
+		return best;
+	}
+
+	/**
+	 * Prepare to search the root actions of a position one at a time with searchRootAction
+	 * <p>
+	 * This is used by a parallel search to share out the root actions among several searches.
+	 *
+	 * @param state Game state of the root position. It is copied, not changed.
+	 * @param deadline Time in nanoseconds (System.nanoTime) when the search must stop
+	 */
+	public void prepare(CheckerState state, long deadline)
+	{
+		this.nodes = 0;
+		this.cutoffs = 0;
+		this.firstMoveCutoffs = 0;
+		this.tableProbes = 0;
+		this.tableHits = 0;
+		this.tablebaseProbes = 0;
+		this.tablebaseHits = 0;
+		this.moveGenerations = 0;
+		this.stopped = false;
+		this.deadline = deadline;
+		position.copyFrom(state);
+	}
+
+	/**
+	 * Search one root action of the prepared position
+	 *
+	 * @param moves Root move list
+	 * @param i Index of the action in moves
+	 * @param depth Depth to search
+	 * @param alpha Lower score bound
+	 * @param beta Upper score bound
+	 * @return int Return score of the action from the view of the side to move, meaningless if the search was stopped
+	 */
+	public int searchRootAction(CheckerMoveList moves, int i, int depth, int alpha, int beta)
+	{
+		return searchAction(0, moves.get(i), depth, alpha, beta);
+	}
+
+	/**
+	 * Stop the running search. selectMove will return the best action found so far.
+	 *
+	 */
+	public void stop()
+	{
+		stopped = true;
+	}
+
+	/**
+	 * Check if the search was stopped, by stop() or by running out of time
+	 *
+	 * @return boolean Return true if the search was stopped
+	 */
+	public boolean isStopped()
+	{
+		return stopped;
+	}
+
+	/**
+	 * Getter to get time budget for each action
+	 *
+	 * @return long Return time budget in milliseconds
+	 */
+	public long getTimeBudget()
+	{
+		return timeBudget;
+	}
+
+	/**
+	 * Setter to set time budget for the next actions
+	 *
+	 * @param timeBudget Time budget in milliseconds
+	 */
+	public void setTimeBudget(long timeBudget)
+	{
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Getter to get maximum depth of iterative deepening
+	 *
+	 * @return int Return maximum depth
+	 */
+	public int getMaxDepth()
+	{
+		return maxDepth;
+	}
+
+	/**
+	 * Setter to set maximum depth of iterative deepening for the next actions
+	 *
+	 * @param maxDepth Maximum depth, at most MAX_DEPTH
+	 */
+	public void setMaxDepth(int maxDepth)
+	{
+		this.maxDepth = Math.min(maxDepth, MAX_DEPTH);
+	}
+
+	/**
+	 * Getter to get the transposition table
+	 *
+	 * @return CheckerTranspositionTable Return the table, or null if the search runs without one
+	 */
+	public CheckerTranspositionTable getTable()
+	{
+		return table;
+	}
+
+	/**
+	 * Setter to set the evaluation of the positions at the end of the search. It must not be changed while a search is running.
+	 *
+	 * @param evaluator Evaluation function
+	 */
+	public void setEvaluator(CheckerEvaluator evaluator)
+	{
+		this.evaluator = evaluator;
+		evaluator.attach(position);
+	}
+
+	/**
+	 * Getter to get the evaluation of the positions at the end of the search
+	 *
+	 * @return CheckerEvaluator Return the evaluation function
+	 */
+	public CheckerEvaluator getEvaluator()
+	{
+		return evaluator;
+	}
+
+	/**
+	 * Setter to set the endgame tablebase
+	 *
+	 * @param tablebase Tablebase probed in positions with few enough pieces, or null to search without one
+	 */
+	public void setTablebase(CheckerTablebase tablebase)
+	{
+		this.tablebase = tablebase;
+	}
+
+	/**
+	 * Getter to get the endgame tablebase
+	 *
+	 * @return CheckerTablebase Return the tablebase, or null if the search runs without one
+	 */
+	public CheckerTablebase getTablebase()
+	{
+		return tablebase;
+	}
+
+	/**
+	 * Setter to set the metrics the counters and search time of each selectMove are added to
+	 *
+	 * @param metrics Metrics, or null to leave the search unmeasured
+	 */
+	public void setMetrics(CheckerMetrics metrics)
+	{
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Getter to get the metrics the counters and search time of each selectMove are added to
+	 *
+	 * @return CheckerMetrics Return the metrics, or null if the search is not measured
+	 */
+	public CheckerMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	/**
+	 * Setter to set the listener told of each completed iteration
+	 *
+	 * @param listener Listener, or null to tell nobody
+	 */
+	public void setListener(CheckerSearchListener listener)
+	{
+		this.listener = listener;
+	}
+
+	/**
+	 * Getter to get number of nodes searched by the last selectMove
+	 *
+	 * @return long Return number of nodes
+	 */
+	public long getNodes()
+	{
+		return nodes;
+	}
+
+	/**
+	 * Getter to get number of beta cutoffs since the last prepare
+	 *
+	 * @return long Return number of cutoffs
+	 */
+	public long getCutoffs()
+	{
+		return cutoffs;
+	}
+
+	/**
+	 * Getter to get number of beta cutoffs by the first action searched since the last prepare
+	 *
+	 * @return long Return number of cutoffs
+	 */
+	public long getFirstMoveCutoffs()
+	{
+		return firstMoveCutoffs;
+	}
+
+	/**
+	 * Getter to get number of transposition table probes since the last prepare
+	 *
+	 * @return long Return number of probes
+	 */
+	public long getTableProbes()
+	{
+		return tableProbes;
+	}
+
+	/**
+	 * Getter to get number of transposition table probes that found an entry since the last prepare
+	 *
+	 * @return long Return number of hits
+	 */
+	public long getTableHits()
+	{
+		return tableHits;
+	}
+
+	/**
+	 * Getter to get number of tablebase probes since the last prepare
+	 *
+	 * @return long Return number of probes
+	 */
+	public long getTablebaseProbes()
+	{
+		return tablebaseProbes;
+	}
+
+	/**
+	 * Getter to get number of tablebase probes that found a value since the last prepare
+	 *
+	 * @return long Return number of hits
+	 */
+	public long getTablebaseHits()
+	{
+		return tablebaseHits;
+	}
+
+	/**
+	 * Getter to get number of move generations since the last prepare
+	 *
+	 * @return long Return number of move generations
+	 */
+	public long getMoveGenerations()
+	{
+		return moveGenerations;
+	}
+
+	/**
+	 * Getter to get depth of the last completed iteration of the last selectMove
+	 *
+	 * @return int Return depth reached
+	 */
+	public int getDepthReached()
+	{
+		return depthReached;
+	}
+
+	/**
+	 * Getter to get score of the action selected by the last selectMove
+	 *
+	 * @return int Return score from the view of the side to move
+	 */
+	public int getBestScore()
+	{
+		return bestScore;
+	}
+
+	/**
+	 * Search all root actions to the given depth
+	 *
+	 * @param moves Root move list
+	 * @param depth Depth to search
+	 * @return int Return index of the best fully searched action, or CheckerState.NONE if the search was stopped before any completed
+	 */
+	private int searchRoot(CheckerMoveList moves, int depth)
+	{
+		int alpha = -INFINITY;
+		int best = CheckerState.NONE;
+
+		for (int i = 0; i < moves.size(); i++)
+		{
+			int score = searchRootAction(moves, i, depth, alpha, INFINITY);
+			if (stopped)
+				break;
+			if (score > alpha)
+			{
+				alpha = score;
+				best = i;
+			}
+		}
+		if (best != CheckerState.NONE)
+			bestScore = alpha;
+		return best;
+	}
+
+	/**
+	 * Make a single-hop root action, search the resulting position and take the action back
+	 * <p>
+	 * If the action is a capture that the same piece must continue, the side to move does not change and the depth is not reduced.
+	 *
+	 * @param ply Ply of the position the action is played from
+	 * @param move Action packed by CheckerMove
+	 * @param depth Remaining depth at ply
+	 * @param alpha Lower score bound
+	 * @param beta Upper score bound
+	 * @return int Return score of the action from the view of the side to move at ply
+	 */
+	private int searchAction(int ply, int move, int depth, int alpha, int beta)
+	{
+		int score;
+		if (position.makeMove(CheckerMove.getFrom(move), CheckerMove.getTo(move), CheckerMove.getCaptured(move)))
+			score = -negamax(ply + 1, depth - 1, -beta, -alpha, CheckerState.NONE);
+		else
+			score = negamax(ply + 1, depth, alpha, beta, CheckerMove.getTo(move));
+		position.unmakeMove();
+		return score;
+	}
+
+	/**
+	 * Make all hops of a sequence, search the resulting position and take the hops back
+	 *
+	 * @param ply Ply of the position the sequence is played from
+	 * @param list Sequence list of the ply
+	 * @param i Index of the sequence
+	 * @param depth Remaining depth at ply
+	 * @param alpha Lower score bound
+	 * @param beta Upper score bound
+	 * @return int Return score of the sequence from the view of the side to move at ply
+	 */
+	private int searchSequence(int ply, CheckerSequenceList list, int i, int depth, int alpha, int beta)
+	{
+		int hops = list.getHops(i);
+		for (int hop = 0; hop < hops; hop++)
+		{
+			int step = list.getStep(i, hop);
+			position.makeMove(CheckerMove.getFrom(step), CheckerMove.getTo(step), CheckerMove.getCaptured(step));
+		}
+		int score = -negamax(ply + 1, depth - 1, -beta, -alpha, CheckerState.NONE);
+		for (int hop = 0; hop < hops; hop++)
+			position.unmakeMove();
+		return score;
+	}
+
+	/**
+	 * Negamax alpha-beta search of the position at ply
+	 * <p>
+	 * At depth 0 the search carries on while captures are forced, so that the evaluation is never taken in the middle of an exchange.
+	 * Captures are searched as complete sequences, so chainSquare is only set right after a root action that starts a capture.
+	 *
+	 * @param ply Ply of the position
+	 * @param depth Remaining depth
+	 * @param alpha Lower score bound
+	 * @param beta Upper score bound
+	 * @param chainSquare Square index of the piece continuing a capture, or CheckerState.NONE
+	 * @return int Return score from the view of the side to move
+	 */
+	private int negamax(int ply, int depth, int alpha, int beta, int chainSquare)
+	{
+		nodes++;
+		if ((nodes % CHECK_INTERVAL) == 0 && System.nanoTime() > deadline)
+			stopped = true;
+		if (stopped)
+			return 0;
+
+		CheckerState state = position;
+
+		// a position the tablebase holds needs no search
+		if (tablebase != null && chainSquare == CheckerState.NONE && Integer.bitCount(state.getOccupied()) <= tablebase.getMaxPieces())
+		{
+			int value = tablebase.probe(state);
+			tablebaseProbes++;
+			if (value != CheckerTablebase.UNKNOWN)
+				tablebaseHits++;
+			if (CheckerTablebase.isWin(value))
+				return TABLEBASE_WIN - CheckerTablebase.getDistance(value) - ply;
+			if (CheckerTablebase.isLoss(value))
+				return -TABLEBASE_WIN + CheckerTablebase.getDistance(value) + ply;
+			if (value == CheckerTablebase.DRAW)
+				return 0;
+		}
+
+		CheckerSequenceList list = lists[ply];
+		long key = state.getHash();
+		int tableMove = CheckerTranspositionTable.NO_MOVE;
+
+		// the table is not used in the middle of a capture, where the same pieces have only the continuation hops
+		boolean useTable = (table != null) && (chainSquare == CheckerState.NONE) && (depth > 0);
+		if (useTable)
+		{
+			long entry = table.probe(key);
+			tableProbes++;
+			if (entry != 0)
+			{
+				tableHits++;
+				tableMove = CheckerTranspositionTable.getMove(entry);
+				if (CheckerTranspositionTable.getDepth(entry) >= depth)
+				{
+					int score = fromTable(CheckerTranspositionTable.getScore(entry), ply);
+					int bound = CheckerTranspositionTable.getBound(entry);
+					if ((bound == CheckerTranspositionTable.EXACT) ||
+						(bound == CheckerTranspositionTable.LOWER && score >= beta) ||
+						(bound == CheckerTranspositionTable.UPPER && score <= alpha))
+						return score;
+				}
+			}
+		}
+
+		int count = CheckerMoveGenerator.generateSequences(state, chainSquare, list);
+		moveGenerations++;
+
+		// out of move, the side to move loses
+		if (count == 0)
+			return -WIN + ply;
+
+		if ((depth <= 0 && !list.isCapture(0)) || ply >= MAX_PLY - 1)
+			return evaluator.evaluate(state);
+
+		// search the best move from the table first
+		if (tableMove != CheckerTranspositionTable.NO_MOVE)
+		{
+			int i = list.indexOf(tableMove);
+			if (i != CheckerState.NONE)
+				list.swap(0, i);
+		}
+
+		int originalAlpha = alpha;
+		int bestScore = -INFINITY;
+		int bestMove = CheckerTranspositionTable.NO_MOVE;
+		for (int i = 0; i < count; i++)
+		{
+			int score = searchSequence(ply, list, i, depth, alpha, beta);
+			if (stopped)
+				return 0;
+			if (score > bestScore)
+			{
+				bestScore = score;
+				bestMove = list.getKey(i);
+			}
+			if (score > alpha)
+				alpha = score;
+			if (alpha >= beta)
+			{
+				cutoffs++;
+				if (i == 0)
+					firstMoveCutoffs++;
+				break;
+			}
+		}
+
+		if (useTable)
+		{
+			int bound;
+			if (bestScore >= beta)
+				bound = CheckerTranspositionTable.LOWER;
+			else if (bestScore > originalAlpha)
+				bound = CheckerTranspositionTable.EXACT;
+			else
+				bound = CheckerTranspositionTable.UPPER;
+			table.store(key, depth, bound, toTable(bestScore, ply), bestMove);
+		}
+		return bestScore;
+	}
+
+	/**
+	 * Convert a score to be stored in the table. A win or loss score is made relative to the position instead of the root.
+	 *
+	 * @param score Score relative to the root
+	 * @param ply Ply of the position
+	 * @return int Return score relative to the position
+	 */
+	private static int toTable(int score, int ply)
+	{
+		if (score >= PROVEN)
+			return score + ply;
+		else if (score <= -PROVEN)
+			return score - ply;
+		else
+			return score;
+	}
+
+	/**
+	 * Convert a score read from the table back to a score relative to the root
+	 *
+	 * @param score Score relative to the position
+	 * @param ply Ply of the position
+	 * @return int Return score relative to the root
+	 */
+	private static int fromTable(int score, int ply)
+	{
+		if (score >= PROVEN)
+			return score - ply;
+		else if (score <= -PROVEN)
+			return score + ply;
+		else
+			return score;
+	}
+}
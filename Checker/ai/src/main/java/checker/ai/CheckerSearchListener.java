@@ -0,0 +1,20 @@
+package checker.ai;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public interface CheckerSearchListener
+{
+	/**
+	 * Called on the searching thread each time an iteration of iterative deepening is completed
+	 *
+	 * @param depth Depth of the completed iteration
+	 * @param score Score of the best action from the view of the side to move
+	 * @param nodes Number of nodes searched so far
+	 * @param nanos Time searched so far in nanoseconds
+	 * @param move Best action of the iteration, packed by CheckerMove
+	 */
+	public void iterationCompleted(int depth, int score, long nodes, long nanos, int move);
+}
@@ -0,0 +1,22 @@
+package checker.ai;
+
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public interface CheckerStrategy
+{
+	/**
+	 * Select the next action for the side to move
+	 *
+	 * @param state Game state, the side to move is the player to decide for. It is not changed.
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if there is no legal action
+	 */
+	public int selectMove(CheckerState state, int chainSquare, CheckerMoveList moves);
+}
@@ -0,0 +1,367 @@
+package checker.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerTablebase implements AutoCloseable
+{
+	/**
+	 * Constant value returned by probe for a position the tablebase does not hold
+	 */
+	public final static int UNKNOWN = Integer.MIN_VALUE;
+	/**
+	 * Constant value of a drawn position
+	 */
+	public final static int DRAW = 0;
+	/**
+	 * Constant value for the largest distance stored, longer distances are stored as MAX_DISTANCE
+	 */
+	public final static int MAX_DISTANCE = 127;
+	/**
+	 * Constant value for the magic number at the start of a tablebase file, "CKTB"
+	 */
+	final static int MAGIC = 0x434B5442;
+	/**
+	 * Constant value for the version of the tablebase file format
+	 */
+	final static int VERSION = 1;
+	/**
+	 * Constant value for the byte order of a tablebase file
+	 */
+	final static ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	/**
+	 * Constant value for the number of squares a man can stand on, all but the king row of its side
+	 */
+	final static int MAN_SQUARES = CheckerState.SQUARES - CheckerState.ROWS / 2;
+
+	/**
+	 * Binomial coefficients, BINOMIAL[n][k] is the number of ways to choose k squares out of n
+	 */
+	private final static long[][] BINOMIAL = new long[CheckerState.SQUARES + 1][CheckerState.SQUARES + 1];
+
+	static
+	{
+		for (int n = 0; n <= CheckerState.SQUARES; n++)
+		{
+			BINOMIAL[n][0] = 1;
+			for (int k = 1; k <= n; k++)
+				BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+		}
+	}
+
+	/**
+	 * Channel of the tablebase file
+	 */
+	private final FileChannel channel;
+	/**
+	 * Largest number of pieces of the positions held
+	 */
+	private final int maxPieces;
+	/**
+	 * Mapped values of each material, indexed by getSlot, null for a material not held
+	 */
+	private final MappedByteBuffer[] slices;
+
+	/**
+	 * Constructor of CheckerTablebase class
+	 * <p>
+	 * This constructor will open a tablebase file written by CheckerTablebaseGenerator and map the values of every material read-only.
+	 *
+	 * @param file Tablebase file
+	 * @throws IOException if the file cannot be read or is not a tablebase file
+	 */
+	public CheckerTablebase(Path file) throws IOException
+	{
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		try
+		{
+			ByteBuffer header = ByteBuffer.allocate(16).order(BYTE_ORDER);
+			readFully(header, 0);
+			if (header.getInt() != MAGIC || header.getInt() != VERSION)
+				throw new IOException(file + ": not a tablebase file");
+			maxPieces = header.getInt();
+			int count = header.getInt();
+
+			ByteBuffer table = ByteBuffer.allocate(count * 12).order(BYTE_ORDER);
+			readFully(table, 16);
+			slices = new MappedByteBuffer[slotCount(maxPieces)];
+			long offset = 16 + count * 12L;
+			for (int i = 0; i < count; i++)
+			{
+				int material = table.getInt();
+				long size = table.getLong();
+				if (size > Integer.MAX_VALUE || offset + size > channel.size())
+					throw new IOException(file + ": bad size of material " + Integer.toHexString(material));
+				slices[getSlot(maxPieces, material & 15, (material >> 4) & 15, (material >> 8) & 15, (material >> 12) & 15)] =
+					channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+				offset += size;
+			}
+		}
+		catch (IOException | RuntimeException e)
+		{
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Getter to get the largest number of pieces of the positions held
+	 *
+	 * @return int Return number of pieces, both sides together
+	 */
+	public int getMaxPieces()
+	{
+		return maxPieces;
+	}
+
+	/**
+	 * Look up the value of a position at the start of a turn
+	 *
+	 * @param state Game state
+	 * @return int Return the value from the view of the side to move (see isWin, isLoss, getDistance), or UNKNOWN if it is not held
+	 */
+	public int probe(CheckerState state)
+	{
+		int orangeMen = state.getMen(CheckerState.ORANGE);
+		int orangeKings = state.getKings(CheckerState.ORANGE);
+		int whiteMen = state.getMen(CheckerState.WHITE);
+		int whiteKings = state.getKings(CheckerState.WHITE);
+		int om = Integer.bitCount(orangeMen), ok = Integer.bitCount(orangeKings);
+		int wm = Integer.bitCount(whiteMen), wk = Integer.bitCount(whiteKings);
+		if (om + ok + wm + wk > maxPieces)
+			return UNKNOWN;
+		// a side without pieces has already lost
+		if (state.getPieces(state.getSideToMove()) == 0)
+			return loss(0);
+
+		MappedByteBuffer slice = slices[getSlot(maxPieces, om, ok, wm, wk)];
+		if (slice == null)
+			return UNKNOWN;
+		return slice.get((int) index(orangeMen, orangeKings, whiteMen, whiteKings, state.getSideToMove()));
+	}
+
+	/**
+	 * Close the tablebase file. The mapped values are released by the garbage collector.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 * Check if a value is a win for the side to move
+	 *
+	 * @param value Value returned by probe
+	 * @return boolean Return true for a won position
+	 */
+	public static boolean isWin(int value)
+	{
+		return value > DRAW && value != UNKNOWN;
+	}
+
+	/**
+	 * Check if a value is a loss for the side to move
+	 *
+	 * @param value Value returned by probe
+	 * @return boolean Return true for a lost position
+	 */
+	public static boolean isLoss(int value)
+	{
+		return value < DRAW && value != UNKNOWN;
+	}
+
+	/**
+	 * Get the distance of a won or lost position
+	 *
+	 * @param value Value returned by probe
+	 * @return int Return number of complete actions until the loser is out of move with best play, 0 for a draw
+	 */
+	public static int getDistance(int value)
+	{
+		return (value < DRAW) ? -value - 1 : value;
+	}
+
+	/**
+	 * Get the value of a position won in the given number of complete actions
+	 *
+	 * @param distance Number of actions, from 1
+	 * @return int Return the value, distance stored up to MAX_DISTANCE
+	 */
+	static int win(int distance)
+	{
+		return Math.min(distance, MAX_DISTANCE);
+	}
+
+	/**
+	 * Get the value of a position lost in the given number of complete actions
+	 *
+	 * @param distance Number of actions, 0 if the side to move is out of move
+	 * @return int Return the value, distance stored up to MAX_DISTANCE
+	 */
+	static int loss(int distance)
+	{
+		return -Math.min(distance, MAX_DISTANCE) - 1;
+	}
+
+	/**
+	 * Get the number of material slots for tablebases of up to the given number of pieces
+	 *
+	 * @param maxPieces Largest number of pieces
+	 * @return int Return number of slots
+	 */
+	static int slotCount(int maxPieces)
+	{
+		int n = maxPieces + 1;
+		return n * n * n * n;
+	}
+
+	/**
+	 * Get the slot of a material
+	 *
+	 * @param maxPieces Largest number of pieces of the tablebase
+	 * @param om Number of orange men
+	 * @param ok Number of orange kings
+	 * @param wm Number of white men
+	 * @param wk Number of white kings
+	 * @return int Return slot index
+	 */
+	static int getSlot(int maxPieces, int om, int ok, int wm, int wk)
+	{
+		int n = maxPieces + 1;
+		return ((om * n + ok) * n + wm) * n + wk;
+	}
+
+	/**
+	 * Get the number of values of a material, both sides to move. Placements where pieces share a square are counted but never probed.
+	 *
+	 * @param om Number of orange men
+	 * @param ok Number of orange kings
+	 * @param wm Number of white men
+	 * @param wk Number of white kings
+	 * @return long Return number of values
+	 */
+	static long size(int om, int ok, int wm, int wk)
+	{
+		return BINOMIAL[MAN_SQUARES][om] * BINOMIAL[CheckerState.SQUARES][ok] * BINOMIAL[MAN_SQUARES][wm] *
+			BINOMIAL[CheckerState.SQUARES][wk] * 2;
+	}
+
+	/**
+	 * Get the index of a position within the values of its material
+	 * <p>
+	 * Each group of pieces is ranked as a combination of squares; orange men stand on squares 4..31 and white men on squares 0..27.
+	 *
+	 * @param orangeMen Bit mask of the orange men
+	 * @param orangeKings Bit mask of the orange kings
+	 * @param whiteMen Bit mask of the white men
+	 * @param whiteKings Bit mask of the white kings
+	 * @param side Side to move
+	 * @return long Return index of the position
+	 */
+	static long index(int orangeMen, int orangeKings, int whiteMen, int whiteKings, int side)
+	{
+		long index = rank(orangeMen >>> (CheckerState.ROWS / 2));
+		index = index * BINOMIAL[CheckerState.SQUARES][Integer.bitCount(orangeKings)] + rank(orangeKings);
+		index = index * BINOMIAL[MAN_SQUARES][Integer.bitCount(whiteMen)] + rank(whiteMen);
+		index = index * BINOMIAL[CheckerState.SQUARES][Integer.bitCount(whiteKings)] + rank(whiteKings);
+		return index * 2 + side;
+	}
+
+	/**
+	 * Get the bit masks of the pieces of a position from its index, the reverse of index
+	 *
+	 * @param index Index of the position
+	 * @param om Number of orange men
+	 * @param ok Number of orange kings
+	 * @param wm Number of white men
+	 * @param wk Number of white kings
+	 * @param masks Array which will be filled with orange men, orange kings, white men, white kings and side to move
+	 */
+	static void unindex(long index, int om, int ok, int wm, int wk, int[] masks)
+	{
+		masks[4] = (int) (index & 1);
+		index >>>= 1;
+		long n = BINOMIAL[CheckerState.SQUARES][wk];
+		masks[3] = unrank(index % n, wk, CheckerState.SQUARES);
+		index /= n;
+		n = BINOMIAL[MAN_SQUARES][wm];
+		masks[2] = unrank(index % n, wm, MAN_SQUARES);
+		index /= n;
+		n = BINOMIAL[CheckerState.SQUARES][ok];
+		masks[1] = unrank(index % n, ok, CheckerState.SQUARES);
+		index /= n;
+		masks[0] = unrank(index, om, MAN_SQUARES) << (CheckerState.ROWS / 2);
+	}
+
+	/**
+	 * Rank a set of squares among all sets of the same size (combinatorial number system)
+	 *
+	 * @param mask Bit mask of the squares
+	 * @return long Return the rank
+	 */
+	private static long rank(int mask)
+	{
+		long rank = 0;
+		int k = 1;
+		for (; mask != 0; mask &= mask - 1)
+			rank += BINOMIAL[Integer.numberOfTrailingZeros(mask)][k++];
+		return rank;
+	}
+
+	/**
+	 * Get the set of squares of a rank, the reverse of rank
+	 *
+	 * @param rank Rank of the set
+	 * @param k Number of squares in the set
+	 * @param n Number of squares to choose from
+	 * @return int Return bit mask of the squares
+	 */
+	private static int unrank(long rank, int k, int n)
+	{
+		int mask = 0;
+		for (int sq = n - 1; k > 0; sq--)
+		{
+			if (BINOMIAL[sq][k] <= rank)
+			{
+				rank -= BINOMIAL[sq][k];
+				mask |= 1 << sq;
+				k--;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Read bytes from the file into a buffer until it is full
+	 *
+	 * @param buffer Buffer to fill, flipped for reading when done
+	 * @param position Position in the file to read from
+	 * @throws IOException if the file ends before the buffer is full
+	 */
+	private void readFully(ByteBuffer buffer, long position) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			int n = channel.read(buffer, position);
+			if (n < 0)
+				throw new IOException("tablebase file is truncated");
+			position += n;
+		}
+		buffer.flip();
+	}
+}
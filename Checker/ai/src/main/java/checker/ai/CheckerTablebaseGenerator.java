@@ -0,0 +1,369 @@
+package checker.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import checker.engine.CheckerMove;
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerSequenceList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerTablebaseGenerator
+{
+	/**
+	 * Largest number of pieces of the positions to solve
+	 */
+	private final int maxPieces;
+	/**
+	 * Materials in the order they are solved, each packed as om | ok << 4 | wm << 8 | wk << 12
+	 */
+	private final ArrayList<Integer> materials = new ArrayList<Integer>();
+	/**
+	 * Values of each solved material, indexed by CheckerTablebase.getSlot
+	 */
+	private final byte[][] values;
+	/**
+	 * Bit set of the positions of the material being solved whose value is final
+	 */
+	private long[] resolved;
+	/**
+	 * Slot of the material being solved
+	 */
+	private int currentSlot;
+	/**
+	 * Largest distance stored in the materials solved so far
+	 */
+	private int solvedDistance = 0;
+	/**
+	 * Game state positions are set up and played on
+	 */
+	private final CheckerState state = new CheckerState();
+	/**
+	 * Sequence list of the complete actions of a position
+	 */
+	private final CheckerSequenceList list = new CheckerSequenceList();
+	/**
+	 * Piece bit masks and side to move of a position, see CheckerTablebase.unindex
+	 */
+	private final int[] masks = new int[5];
+
+	/**
+	 * Constructor of CheckerTablebaseGenerator class
+	 * <p>
+	 * This constructor will list every material of up to maxPieces pieces with at least one piece for each side, in an order where each
+	 * material comes after all materials its actions lead to: fewer pieces first (captures), then fewer men (crowning).
+	 *
+	 * @param maxPieces Largest number of pieces, both sides together
+	 */
+	public CheckerTablebaseGenerator(int maxPieces)
+	{
+		this.maxPieces = maxPieces;
+		this.values = new byte[CheckerTablebase.slotCount(maxPieces)][];
+		for (int pieces = 2; pieces <= maxPieces; pieces++)
+		{
+			for (int men = 0; men <= pieces; men++)
+			{
+				for (int om = 0; om <= men; om++)
+				{
+					int wm = men - om;
+					for (int ok = 0; ok <= pieces - men; ok++)
+					{
+						int wk = pieces - men - ok;
+						if (om + ok > 0 && wm + wk > 0)
+							materials.add(om | (ok << 4) | (wm << 8) | (wk << 12));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Solve every material by retrograde analysis, working back from the positions out of move
+	 * <p>
+	 * Pass d sets the value of every position won or lost in exactly d complete actions: lost if every action leads to a position the
+	 * opponent wins, the longest in d - 1, won if some action leads to a position the opponent loses in d - 1. Actions that capture or
+	 * crown lead to materials already solved. A position whose actions all lead to final values, none of them a loss, is a draw and is
+	 * not looked at again. Positions not set once a pass sets nothing, and no longer distance of a solved material can follow, are draws.
+	 *
+	 * @param log Set to print the progress of each material
+	 */
+	public void generate(boolean log)
+	{
+		for (int material : materials)
+		{
+			long start = System.nanoTime();
+			int om = material & 15, ok = (material >> 4) & 15, wm = (material >> 8) & 15, wk = (material >> 12) & 15;
+			long size = CheckerTablebase.size(om, ok, wm, wk);
+			if (size > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("material " + describe(material) + " has too many positions: " + size);
+
+			currentSlot = CheckerTablebase.getSlot(maxPieces, om, ok, wm, wk);
+			byte[] slice = new byte[(int) size];
+			values[currentSlot] = slice;
+			resolved = new long[(int) ((size + 63) >>> 6)];
+
+			// positions where pieces share a square are left as draws
+			long[] open = new long[1024];
+			int count = 0;
+			for (long index = 0; index < size; index++)
+			{
+				CheckerTablebase.unindex(index, om, ok, wm, wk, masks);
+				if (Integer.bitCount(masks[0] | masks[1] | masks[2] | masks[3]) != om + ok + wm + wk)
+					setResolved(index);
+				else
+				{
+					if (count == open.length)
+						open = Arrays.copyOf(open, count * 2);
+					open[count++] = index;
+				}
+			}
+
+			int wins = 0, losses = 0, draws = 0, distance = 0;
+			for (int pass = 0; ; pass++)
+			{
+				int kept = 0;
+				boolean changed = false;
+				for (int i = 0; i < count; i++)
+				{
+					long index = open[i];
+					int value = solve(index, om, ok, wm, wk, pass);
+					if (value == CheckerTablebase.UNKNOWN)
+						open[kept++] = index;
+					else
+					{
+						// a value set in this pass is final: it cannot set another position in the same pass
+						slice[(int) index] = (byte) value;
+						setResolved(index);
+						if (value == CheckerTablebase.DRAW)
+							draws++;
+						else
+						{
+							changed = true;
+							if (CheckerTablebase.isWin(value))
+								wins++;
+							else
+								losses++;
+						}
+					}
+				}
+				count = kept;
+				if (changed)
+					distance = pass;
+				// a longer distance needs a position of this distance, from this pass or from a solved material
+				if (count == 0 || (!changed && pass > solvedDistance))
+					break;
+			}
+			solvedDistance = Math.max(solvedDistance, Math.min(distance, CheckerTablebase.MAX_DISTANCE));
+			draws += count;
+
+			if (log)
+				System.out.printf("%-12s %12d positions %10d wins %10d losses %10d draws, longest %3d, %6d ms\n", describe(material), size,
+					wins, losses, draws, distance, (System.nanoTime() - start) / 1000000L);
+		}
+	}
+
+	/**
+	 * Write the values of every material to a tablebase file
+	 * <p>
+	 * The file holds a header (magic, version, largest number of pieces, number of materials), a table of the materials and their number
+	 * of values, then one byte per position for each material in table order.
+	 *
+	 * @param file Tablebase file to create
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			ByteBuffer header = ByteBuffer.allocate(16 + materials.size() * 12).order(CheckerTablebase.BYTE_ORDER);
+			header.putInt(CheckerTablebase.MAGIC).putInt(CheckerTablebase.VERSION).putInt(maxPieces).putInt(materials.size());
+			for (int material : materials)
+				header.putInt(material).putLong(values[slotOf(material)].length);
+			header.flip();
+			writeFully(channel, header);
+			for (int material : materials)
+				writeFully(channel, ByteBuffer.wrap(values[slotOf(material)]));
+		}
+	}
+
+	/**
+	 * Try to set the value of a position in the given pass
+	 *
+	 * @param index Index of the position in its material
+	 * @param om Number of orange men
+	 * @param ok Number of orange kings
+	 * @param wm Number of white men
+	 * @param wk Number of white kings
+	 * @param pass Distance set in this pass
+	 * @return int Return the value of the position, CheckerTablebase.DRAW if every action leads to a final value and none of them decides
+	 * the game, or CheckerTablebase.UNKNOWN if it is not won or lost in pass actions
+	 */
+	private int solve(long index, int om, int ok, int wm, int wk, int pass)
+	{
+		CheckerTablebase.unindex(index, om, ok, wm, wk, masks);
+		state.clear();
+		addPieces(masks[0], CheckerState.ORANGE, false);
+		addPieces(masks[1], CheckerState.ORANGE, true);
+		addPieces(masks[2], CheckerState.WHITE, false);
+		addPieces(masks[3], CheckerState.WHITE, true);
+		state.setSideToMove(masks[4]);
+
+		int count = CheckerMoveGenerator.generateSequences(state, CheckerState.NONE, list);
+		if (count == 0)
+			return (pass == 0) ? CheckerTablebase.loss(0) : CheckerTablebase.UNKNOWN;
+
+		boolean allWins = true;
+		boolean pending = false;
+		int longestLoss = 0;
+		for (int i = 0; i < count; i++)
+		{
+			int value = successor(i);
+			if (CheckerTablebase.isLoss(value))
+			{
+				// the opponent loses: a win one action longer, final once this pass reaches it
+				if (CheckerTablebase.getDistance(value) + 1 <= pass)
+					return CheckerTablebase.win(pass);
+				allWins = false;
+				pending = true;
+			}
+			else if (CheckerTablebase.isWin(value))
+				longestLoss = Math.max(longestLoss, CheckerTablebase.getDistance(value) + 1);
+			else
+			{
+				allWins = false;
+				pending |= (value == CheckerTablebase.UNKNOWN);
+			}
+		}
+		if (allWins && longestLoss <= pass)
+			return CheckerTablebase.loss(pass);
+		return (allWins || pending) ? CheckerTablebase.UNKNOWN : CheckerTablebase.DRAW;
+	}
+
+	/**
+	 * Get the value of the position after a complete action
+	 *
+	 * @param i Index of the action in the sequence list
+	 * @return int Return the value from the view of the opponent, CheckerTablebase.UNKNOWN if it is not final yet
+	 */
+	private int successor(int i)
+	{
+		int hops = list.getHops(i);
+		for (int hop = 0; hop < hops; hop++)
+		{
+			int step = list.getStep(i, hop);
+			state.makeMove(CheckerMove.getFrom(step), CheckerMove.getTo(step), CheckerMove.getCaptured(step));
+		}
+
+		int value;
+		int orangeMen = state.getMen(CheckerState.ORANGE), orangeKings = state.getKings(CheckerState.ORANGE);
+		int whiteMen = state.getMen(CheckerState.WHITE), whiteKings = state.getKings(CheckerState.WHITE);
+		if (state.getPieces(state.getSideToMove()) == 0)
+			value = CheckerTablebase.loss(0);
+		else
+		{
+			int slot = CheckerTablebase.getSlot(maxPieces, Integer.bitCount(orangeMen), Integer.bitCount(orangeKings),
+				Integer.bitCount(whiteMen), Integer.bitCount(whiteKings));
+			long index = CheckerTablebase.index(orangeMen, orangeKings, whiteMen, whiteKings, state.getSideToMove());
+			if (slot == currentSlot && (resolved[(int) (index >>> 6)] & (1L << index)) == 0)
+				value = CheckerTablebase.UNKNOWN;
+			else
+				value = values[slot][(int) index];
+		}
+
+		for (int hop = 0; hop < hops; hop++)
+			state.unmakeMove();
+		return value;
+	}
+
+	/**
+	 * Add pieces of one kind to the state
+	 *
+	 * @param mask Bit mask of the squares of the pieces
+	 * @param side Side of the pieces
+	 * @param king Set if the pieces are kings
+	 */
+	private void addPieces(int mask, int side, boolean king)
+	{
+		for (; mask != 0; mask &= mask - 1)
+			state.addPiece(Integer.numberOfTrailingZeros(mask), side, king);
+	}
+
+	/**
+	 * Mark the value of a position of the material being solved as final
+	 *
+	 * @param index Index of the position
+	 */
+	private void setResolved(long index)
+	{
+		resolved[(int) (index >>> 6)] |= 1L << index;
+	}
+
+	/**
+	 * Get the slot of a packed material
+	 *
+	 * @param material Material packed as om | ok << 4 | wm << 8 | wk << 12
+	 * @return int Return slot index
+	 */
+	private int slotOf(int material)
+	{
+		return CheckerTablebase.getSlot(maxPieces, material & 15, (material >> 4) & 15, (material >> 8) & 15, (material >> 12) & 15);
+	}
+
+	/**
+	 * Get a packed material as text, e.g. "O2m1k-W0m2k"
+	 *
+	 * @param material Material packed as om | ok << 4 | wm << 8 | wk << 12
+	 * @return String Return the material as text
+	 */
+	private static String describe(int material)
+	{
+		return "O" + (material & 15) + "m" + ((material >> 4) & 15) + "k-W" + ((material >> 8) & 15) + "m" + ((material >> 12) & 15) + "k";
+	}
+
+	/**
+	 * Write all remaining bytes of a buffer to a channel
+	 *
+	 * @param channel Channel to write to
+	 * @param buffer Buffer to write
+	 * @throws IOException if the channel cannot be written
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException
+	{
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+	}
+
+	/**
+	 * Generate a tablebase file
+	 * <p>
+	 * Usage: CheckerTablebaseGenerator pieces file
+	 *
+	 * @param  args Largest number of pieces and file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 2)
+		{
+			System.out.println("Usage: CheckerTablebaseGenerator pieces file");
+			return;
+		}
+		long start = System.nanoTime();
+		CheckerTablebaseGenerator generator = new CheckerTablebaseGenerator(Integer.parseInt(args[0]));
+		generator.generate(true);
+		generator.write(Paths.get(args[1]));
+		System.out.printf("tablebase written to %s in %d ms\n", args[1], (System.nanoTime() - start) / 1000000L);
+	}
+}
@@ -0,0 +1,469 @@
+package checker.ai;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.management.JMException;
+
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerTournament
+{
+	/**
+	 * Constant value for the default number of plies after which a game is declared a draw
+	 */
+	public final static int MAX_PLIES = 300;
+	/**
+	 * Constant result value for a drawn game (ply limit reached)
+	 */
+	public final static int DRAW = -1;
+	/**
+	 * Constant value for the default number of random opening plies, so that games do not all repeat the same line
+	 */
+	public final static int RANDOM_PLIES = 4;
+
+	/**
+	 * Number of games to play
+	 */
+	private int games;
+	/**
+	 * Number of games played in parallel, one game per worker thread
+	 */
+	private int threads;
+	/**
+	 * Time budget of each engine for each action in milliseconds
+	 */
+	private long timeBudget;
+	/**
+	 * Maximum search depth of each engine
+	 */
+	private int maxDepth;
+	/**
+	 * Memory cap of each engine's transposition table in megabytes
+	 */
+	private int megabytes;
+	/**
+	 * Number of plies after which a game is declared a draw
+	 */
+	private int maxPlies = MAX_PLIES;
+	/**
+	 * Number of opening plies played at random, seeded by the game number so that every run plays the same openings
+	 */
+	private int randomPlies = RANDOM_PLIES;
+	/**
+	 * Endgame tablebase shared by all engines, null if they play without one
+	 */
+	private CheckerTablebase tablebase = null;
+	/**
+	 * Opening book probed by both engines before searching, null if they play without one
+	 */
+	private CheckerOpeningBook book = null;
+	/**
+	 * Metrics shared by all engines, null if they are not measured
+	 */
+	private CheckerMetrics metrics = null;
+
+	/**
+	 * Constructor of CheckerTournament class
+	 *
+	 * @param  games      Number of games to play
+	 * @param  threads    Number of games played in parallel
+	 * @param  timeBudget Time budget of each engine for each action in milliseconds
+	 * @param  maxDepth   Maximum search depth of each engine
+	 * @param  megabytes  Memory cap of each engine's transposition table in megabytes
+	 */
+	public CheckerTournament(int games, int threads, long timeBudget, int maxDepth, int megabytes)
+	{
+		this.games = games;
+		this.threads = threads;
+		this.timeBudget = timeBudget;
+		this.maxDepth = maxDepth;
+		this.megabytes = megabytes;
+	}
+
+	/**
+	 * Setter to set number of plies after which a game is declared a draw
+	 *
+	 * @param  maxPlies Ply limit of a game
+	 */
+	public void setMaxPlies(int maxPlies)
+	{
+		this.maxPlies = maxPlies;
+	}
+
+	/**
+	 * Setter to set number of random opening plies
+	 *
+	 * @param  randomPlies Number of opening plies played at random
+	 */
+	public void setRandomPlies(int randomPlies)
+	{
+		this.randomPlies = randomPlies;
+	}
+
+	/**
+	 * Setter to set the endgame tablebase shared by all engines
+	 *
+	 * @param  tablebase Tablebase, or null to play without one
+	 */
+	public void setTablebase(CheckerTablebase tablebase)
+	{
+		this.tablebase = tablebase;
+	}
+
+	/**
+	 * Setter to set the opening book probed by both engines before searching
+	 *
+	 * @param  book Opening book, or null to play without one
+	 */
+	public void setOpeningBook(CheckerOpeningBook book)
+	{
+		this.book = book;
+	}
+
+	/**
+	 * Setter to set the metrics shared by all engines
+	 *
+	 * @param  metrics Metrics, or null to leave the engines unmeasured
+	 */
+	public void setMetrics(CheckerMetrics metrics)
+	{
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Play all games and write one result line per game, in game order
+	 *
+	 * @param  out Writer for the results
+	 * @param  jsonl Write JSON lines if set, else CSV
+	 * @throws Exception if a game fails or the results cannot be written
+	 */
+	public void run(PrintWriter out, boolean jsonl) throws Exception
+	{
+		if (!jsonl)
+			out.println("game,winner,plies,millis,avgMoveMicros,maxMoveMicros");
+		for (Result r : playAll())
+		{
+			if (jsonl)
+				out.printf("{\"game\":%d,\"winner\":\"%s\",\"plies\":%d,\"millis\":%d,\"avgMoveMicros\":%d,\"maxMoveMicros\":%d}\n",
+					r.game, winnerName(r.winner), r.plies, r.nanos / 1000000L, r.averageMoveMicros(), r.maxMoveNanos / 1000L);
+			else
+				out.printf("%d,%s,%d,%d,%d,%d\n", r.game, winnerName(r.winner), r.plies, r.nanos / 1000000L, r.averageMoveMicros(), r.maxMoveNanos / 1000L);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Play all games, the given number of games in parallel
+	 *
+	 * @return ArrayList Return results of the games, in game order
+	 * @throws Exception if a game fails
+	 */
+	public ArrayList<Result> playAll() throws Exception
+	{
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try
+		{
+			ArrayList<Future<Result>> futures = new ArrayList<Future<Result>>(games);
+			for (int game = 0; game < games; game++)
+			{
+				final int id = game;
+				futures.add(pool.submit(() -> playGame(id)));
+			}
+
+			ArrayList<Result> results = new ArrayList<Result>(games);
+			for (Future<Result> future : futures)
+				results.add(future.get());
+			return results;
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Play one engine-vs-engine game from the starting position without any display or animation delay
+	 *
+	 * @param  game Game number
+	 * @return Result Return result of the game
+	 */
+	public Result playGame(int game)
+	{
+		CheckerSearch[] engines = {
+			new CheckerSearch(timeBudget, maxDepth, new CheckerTranspositionTable(megabytes)),
+			new CheckerSearch(timeBudget, maxDepth, new CheckerTranspositionTable(megabytes))
+		};
+		engines[0].setTablebase(tablebase);
+		engines[1].setTablebase(tablebase);
+		engines[0].setMetrics(metrics);
+		engines[1].setMetrics(metrics);
+		CheckerState state = new CheckerState();
+		CheckerMoveList moves = new CheckerMoveList();
+		Random random = new Random(game);
+		Result result = new Result(game);
+		int chainSquare = CheckerState.NONE;
+
+		state.setup();
+		long start = System.nanoTime();
+		result.winner = DRAW;
+		while (result.plies < maxPlies)
+		{
+			int side = state.getSideToMove();
+			long moveStart = System.nanoTime();
+			int index;
+			if (result.plies < randomPlies)
+			{
+				int count = CheckerMoveGenerator.generate(state, chainSquare, moves);
+				index = (count > 0) ? random.nextInt(count) : CheckerState.NONE;
+			}
+			else
+			{
+				index = (book != null) ? book.probe(state, chainSquare, moves, random) : CheckerState.NONE;
+				if (book != null && metrics != null && chainSquare == CheckerState.NONE)
+					metrics.recordBookProbe(index != CheckerState.NONE);
+				if (index == CheckerState.NONE)
+					index = engines[side].selectMove(state, chainSquare, moves);
+			}
+			long moveNanos = System.nanoTime() - moveStart;
+
+			// out of move, the side to move loses
+			if (index == CheckerState.NONE)
+			{
+				result.winner = CheckerState.opponent(side);
+				break;
+			}
+			result.moveNanos += moveNanos;
+			result.maxMoveNanos = Math.max(result.maxMoveNanos, moveNanos);
+			result.moves++;
+			result.addAction(moves.get(index));
+
+			int to = moves.getTo(index);
+			int captured = moves.getCaptured(index);
+			boolean crowning = state.play(moves.getFrom(index), to, captured);
+
+			// continue the capture with the same piece, else turn over
+			if (captured != CheckerState.NONE && !crowning && CheckerMoveGenerator.hasCapture(state, to))
+				chainSquare = to;
+			else
+			{
+				chainSquare = CheckerState.NONE;
+				state.setSideToMove(CheckerState.opponent(side));
+				result.plies++;
+			}
+		}
+		result.nanos = System.nanoTime() - start;
+		return result;
+	}
+
+	/**
+	 * Get the name of a winner
+	 *
+	 * @param  winner CheckerState.ORANGE, CheckerState.WHITE or DRAW
+	 * @return String Return ORANGE, WHITE or DRAW
+	 */
+	private static String winnerName(int winner)
+	{
+		if (winner == CheckerState.ORANGE)
+			return "ORANGE";
+		else if (winner == CheckerState.WHITE)
+			return "WHITE";
+		else
+			return "DRAW";
+	}
+
+	/**
+	 * Result of one game
+	 */
+	public static class Result
+	{
+		/**
+		 * Game number
+		 */
+		public final int game;
+		/**
+		 * Winner: CheckerState.ORANGE, CheckerState.WHITE or DRAW
+		 */
+		public int winner;
+		/**
+		 * Number of plies (turns) played
+		 */
+		public int plies;
+		/**
+		 * Number of engine decisions, one per hop of a capture
+		 */
+		public int moves;
+		/**
+		 * Wall-clock time of the game in nanoseconds
+		 */
+		public long nanos;
+		/**
+		 * Total engine decision time in nanoseconds
+		 */
+		public long moveNanos;
+		/**
+		 * Longest engine decision time in nanoseconds
+		 */
+		public long maxMoveNanos;
+		/**
+		 * Actions played, packed by CheckerMove, one per hop of a capture
+		 */
+		private int[] actions = new int[128];
+		/**
+		 * Number of actions played
+		 */
+		private int actionCount = 0;
+
+		/**
+		 * Constructor of Result class
+		 *
+		 * @param  game Game number
+		 */
+		public Result(int game)
+		{
+			this.game = game;
+		}
+
+		/**
+		 * Get the average engine decision time
+		 *
+		 * @return long Return average time per decision in microseconds
+		 */
+		public long averageMoveMicros()
+		{
+			return (moves > 0) ? moveNanos / moves / 1000L : 0;
+		}
+
+		/**
+		 * Record an action played
+		 *
+		 * @param  move Action packed by CheckerMove
+		 */
+		public void addAction(int move)
+		{
+			if (actionCount == actions.length)
+				actions = Arrays.copyOf(actions, actionCount * 2);
+			actions[actionCount++] = move;
+		}
+
+		/**
+		 * Getter to get the actions played
+		 *
+		 * @return int[] Return actions packed by CheckerMove, getActionCount() of them are used
+		 */
+		public int[] getActions()
+		{
+			return actions;
+		}
+
+		/**
+		 * Getter to get number of actions played
+		 *
+		 * @return int Return number of actions
+		 */
+		public int getActionCount()
+		{
+			return actionCount;
+		}
+	}
+
+	/**
+	 * Entry point of the headless self-play tournament
+	 * <p>
+	 * Usage: CheckerTournament games threads millisPerMove output.{csv|jsonl} [maxDepth] [megabytes] [maxPlies] [randomPlies] [tablebase] [book]
+	 * <br> A tablebase of "-" plays without one.
+	 * <br> The engines are measured by metrics registered with JMX as checker:type=CheckerMetrics,name=tournament while the games run,
+	 * and printed as JSON at the end.
+	 *
+	 * @param  args Tournament settings
+	 */
+	public static void main(String[] args)
+	{
+		if (args.length < 4)
+		{
+			System.out.println("Usage: CheckerTournament games threads millisPerMove output.{csv|jsonl} [maxDepth] [megabytes] [maxPlies] [randomPlies] [tablebase] [book]");
+			return;
+		}
+
+		int games = Integer.parseInt(args[0]);
+		int threads = Integer.parseInt(args[1]);
+		long millis = Long.parseLong(args[2]);
+		String file = args[3];
+		int maxDepth = (args.length >= 5) ? Integer.parseInt(args[4]) : CheckerSearch.MAX_DEPTH;
+		int megabytes = (args.length >= 6) ? Integer.parseInt(args[5]) : 16;
+
+		CheckerTournament tournament = new CheckerTournament(games, threads, millis, maxDepth, megabytes);
+		if (args.length >= 7)
+			tournament.setMaxPlies(Integer.parseInt(args[6]));
+		if (args.length >= 8)
+			tournament.setRandomPlies(Integer.parseInt(args[7]));
+		if (args.length >= 9 && !args[8].equals("-"))
+		{
+			try
+			{
+				tournament.setTablebase(new CheckerTablebase(Paths.get(args[8])));
+			}
+			catch (IOException e)
+			{
+				System.out.println("Couldn't read tablebase " + args[8] + ": " + e.getMessage());
+				return;
+			}
+		}
+		if (args.length >= 10)
+		{
+			try
+			{
+				tournament.setOpeningBook(new CheckerOpeningBook(Paths.get(args[9])));
+			}
+			catch (IOException e)
+			{
+				System.out.println("Couldn't read book " + args[9] + ": " + e.getMessage());
+				return;
+			}
+		}
+
+		CheckerMetrics metrics = new CheckerMetrics();
+		tournament.setMetrics(metrics);
+		try
+		{
+			metrics.register("tournament");
+		}
+		catch (JMException e)
+		{
+			System.out.println("Couldn't register metrics: " + e.getMessage());
+		}
+
+		long start = System.nanoTime();
+		try (PrintWriter out = new PrintWriter(new FileWriter(file)))
+		{
+			tournament.run(out, file.endsWith(".jsonl"));
+		}
+		catch (IOException e)
+		{
+			System.out.println("Couldn't write " + file + ": " + e.getMessage());
+			return;
+		}
+		catch (Exception e)
+		{
+			System.out.println("Tournament failed: " + e);
+			return;
+		}
+		System.out.printf("%d games played in %d ms, results written to %s\n", games, (System.nanoTime() - start) / 1000000L, file);
+		System.out.println(metrics.toJson());
+	}
+}
@@ -0,0 +1,182 @@
+package checker.ai;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerTranspositionTable
+{
+	/**
+	 * Constant value for a score that is exact
+	 */
+	public final static int EXACT = 1;
+	/**
+	 * Constant value for a score that is a lower bound (the search failed high)
+	 */
+	public final static int LOWER = 2;
+	/**
+	 * Constant value for a score that is an upper bound (the search failed low)
+	 */
+	public final static int UPPER = 3;
+	/**
+	 * Constant value for an entry without a best move
+	 */
+	public final static int NO_MOVE = 0;
+	/**
+	 * Constant value for number of bytes of one entry (key and data)
+	 */
+	public final static int ENTRY_BYTES = 16;
+	/**
+	 * Constant value for number of entries in a bucket: a depth-preferred slot and an always-replace slot
+	 */
+	public final static int BUCKET_SIZE = 2;
+
+	// data layout: bits 0-15 move, bits 16-23 depth, bits 24-25 bound, bits 32-63 score.
+	// The bound is never 0 for a stored entry, so data 0 means an empty slot.
+	private final static int DEPTH_SHIFT = 16;
+	private final static int BOUND_SHIFT = 24;
+	private final static int SCORE_SHIFT = 32;
+
+	/**
+	 * Key of each slot, stored XOR-ed with the data so that a torn write from another thread reads as a miss
+	 */
+	private final long[] keys;
+	/**
+	 * Packed depth, bound, score and best move of each slot
+	 */
+	private final long[] data;
+	/**
+	 * Mask to get the bucket number from a key
+	 */
+	private final int bucketMask;
+
+	/**
+	 * Constructor of CheckerTranspositionTable class
+	 * <p>
+	 * This constructor will allocate the largest power-of-two number of buckets that fits in the memory cap.
+	 *
+	 * @param  megabytes Memory cap of the table in megabytes, at least 1
+	 */
+	public CheckerTranspositionTable(int megabytes)
+	{
+		long bytes = Math.max(1, megabytes) * 1024L * 1024L;
+		long buckets = Long.highestOneBit(bytes / (ENTRY_BYTES * BUCKET_SIZE));
+		// keep the arrays within the maximum Java array length
+		buckets = Math.min(buckets, 1L << 29);
+		bucketMask = (int) buckets - 1;
+		keys = new long[(int) buckets * BUCKET_SIZE];
+		data = new long[(int) buckets * BUCKET_SIZE];
+	}
+
+	/**
+	 * Remove all entries
+	 *
+	 */
+	public void clear()
+	{
+		java.util.Arrays.fill(keys, 0);
+		java.util.Arrays.fill(data, 0);
+	}
+
+	/**
+	 * Getter to get number of entries the table can hold
+	 *
+	 * @return int Return capacity in entries
+	 */
+	public int getCapacity()
+	{
+		return keys.length;
+	}
+
+	/**
+	 * Look up a position
+	 *
+	 * @param key Zobrist hash of the position
+	 * @return long Return packed entry data, or 0 if the position is not in the table
+	 */
+	public long probe(long key)
+	{
+		int index = ((int) key & bucketMask) * BUCKET_SIZE;
+		for (int i = index; i < index + BUCKET_SIZE; i++)
+		{
+			long d = data[i];
+			if (d != 0 && (keys[i] ^ d) == key)
+				return d;
+		}
+		return 0;
+	}
+
+	/**
+	 * Store the result of a search
+	 * <p>
+	 * The first slot of the bucket keeps the deepest result, the second slot takes whatever does not replace the first one.
+	 *
+	 * @param key Zobrist hash of the position
+	 * @param depth Depth searched, 0 to 255
+	 * @param bound EXACT, LOWER or UPPER
+	 * @param score Score from the view of the side to move
+	 * @param move Packed best move, or NO_MOVE
+	 */
+	public void store(long key, int depth, int bound, int score, int move)
+	{
+		int index = ((int) key & bucketMask) * BUCKET_SIZE;
+		long d = (move & 0xFFFFL) | ((long) (depth & 0xFF) << DEPTH_SHIFT) | ((long) bound << BOUND_SHIFT) | ((long) score << SCORE_SHIFT);
+
+		long old = data[index];
+		if (old == 0 || (keys[index] ^ old) == key || depth >= getDepth(old))
+		{
+			keys[index] = key ^ d;
+			data[index] = d;
+		}
+		else
+		{
+			keys[index + 1] = key ^ d;
+			data[index + 1] = d;
+		}
+	}
+
+	/**
+	 * Get the depth of an entry
+	 *
+	 * @param data Packed entry data
+	 * @return int Return depth searched
+	 */
+	public static int getDepth(long data)
+	{
+		return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+	}
+
+	/**
+	 * Get the bound type of an entry
+	 *
+	 * @param data Packed entry data
+	 * @return int Return EXACT, LOWER or UPPER
+	 */
+	public static int getBound(long data)
+	{
+		return (int) (data >>> BOUND_SHIFT) & 0x3;
+	}
+
+	/**
+	 * Get the score of an entry
+	 *
+	 * @param data Packed entry data
+	 * @return int Return score from the view of the side to move
+	 */
+	public static int getScore(long data)
+	{
+		return (int) (data >> SCORE_SHIFT);
+	}
+
+	/**
+	 * Get the best move of an entry
+	 *
+	 * @param data Packed entry data
+	 * @return int Return packed best move, or NO_MOVE
+	 */
+	public static int getMove(long data)
+	{
+		return (int) data & 0xFFFF;
+	}
+}
@@ -0,0 +1,234 @@
+package checker.bench;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import checker.ai.CheckerTournament;
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerMoveTable;
+import checker.engine.CheckerState;
+import checker.gui.Checker;
+import checker.gui.CheckerBoard;
+import checker.gui.CheckerComputerPlayer;
+import checker.gui.CheckerGame;
+import checker.gui.CheckerPiece;
+import checker.gui.CheckerPlayer;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class CheckerBenchmark
+{
+	/**
+	 * Stored positions: name, side to move, then one string per row with the 4 playable squares of the row from left to right.
+	 * o/w are orange/white men, O/W are kings, '.' is an empty square.
+	 */
+	private final static String[][] POSITIONS = {
+		{"opening", "WHITE", "wwww", "wwww", "wwww", "....", ".o..", "o.oo", "oooo", "oooo"},
+		{"midgame", "WHITE", "w.ww", "ww.w", ".w..", "..w.", ".o..", "o..o", "o.oo", "oo.o"},
+		{"endgame", "WHITE", "....", "W...", "....", "..O.", "....", ".W..", "...o", "...."},
+	};
+
+	/**
+	 * Name of the stored position to benchmark
+	 */
+	@Param({"opening", "midgame", "endgame"})
+	public String position;
+
+	/**
+	 * GUI game
+	 */
+	private CheckerGame game;
+	/**
+	 * Board of the GUI game
+	 */
+	private CheckerBoard board;
+	/**
+	 * Player to move in the GUI game
+	 */
+	private CheckerPlayer player;
+	/**
+	 * Pieces of the player to move
+	 */
+	private ArrayList<CheckerPiece> pieces;
+	/**
+	 * Engine state of the position
+	 */
+	private CheckerState state = new CheckerState();
+	/**
+	 * Move list for the generator
+	 */
+	private CheckerMoveList moves = new CheckerMoveList();
+	/**
+	 * Fixed-depth tournament, so that every run plays the same game
+	 */
+	private CheckerTournament tournament = new CheckerTournament(1, 1, 1000000L, 4, 4);
+
+	/**
+	 * Load the stored position into the engine state and the GUI board
+	 *
+	 */
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		game = Checker.setupGame();
+
+		for (String[] p : POSITIONS)
+		{
+			if (p[0].equals(position))
+				load(p, state);
+		}
+		loadBoard(game, state);
+
+		board = game.getBoard();
+		player = game.getPlayer(game.getCurrentPlayer());
+		pieces = player.getPieceArrayList();
+	}
+
+	@Benchmark
+	public void canMove(Blackhole bh)
+	{
+		for (CheckerPiece p : pieces)
+			bh.consume(p.canMove());
+	}
+
+	@Benchmark
+	public void canJump(Blackhole bh)
+	{
+		for (CheckerPiece p : pieces)
+			bh.consume(p.canJump());
+	}
+
+	@Benchmark
+	public void canFly(Blackhole bh)
+	{
+		for (CheckerPiece p : pieces)
+			bh.consume(p.canFly());
+	}
+
+	@Benchmark
+	public void canFlyCapture(Blackhole bh)
+	{
+		for (CheckerPiece p : pieces)
+			bh.consume(p.canFlyCapture());
+	}
+
+	@Benchmark
+	public void computeActionRisk(Blackhole bh)
+	{
+		for (CheckerPiece p : pieces)
+		{
+			int src = CheckerState.square(p.getRow(), p.getCol());
+			for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+			{
+				int dst = CheckerMoveTable.NEIGHBOUR[src][dir];
+				if (board.getState().isFree(dst))
+					bh.consume(board.computeActionRisk(p, CheckerState.row(dst), CheckerState.col(dst)));
+			}
+		}
+	}
+
+	@Benchmark
+	public void checkPlayerPossibleMove(Blackhole bh)
+	{
+		if (player instanceof CheckerComputerPlayer)
+		{
+			player.checkPlayerPossibleMove();
+			bh.consume(player.getPreSelectArrayList().size());
+			player.clrPreSelection();
+		}
+	}
+
+	@Benchmark
+	public int generate()
+	{
+		return CheckerMoveGenerator.generate(state, CheckerState.NONE, moves);
+	}
+
+	@Benchmark
+	@Warmup(iterations = 2, time = 2)
+	@Measurement(iterations = 3, time = 2)
+	public int playGame()
+	{
+		return tournament.playGame(0).plies;
+	}
+
+	/**
+	 * Load a stored position into the engine state
+	 *
+	 * @param  position Stored position
+	 * @param  state    State to load into
+	 */
+	private static void load(String[] position, CheckerState state)
+	{
+		state.clear();
+		for (int row = 0; row < CheckerState.ROWS; row++)
+		{
+			String squares = position[row + 2];
+			for (int i = 0; i < 4; i++)
+			{
+				int sq = row*4 + i;
+				char c = squares.charAt(i);
+				if (c != '.')
+					state.addPiece(sq, (Character.toLowerCase(c) == 'o') ? CheckerState.ORANGE : CheckerState.WHITE, Character.isUpperCase(c));
+			}
+		}
+		state.setSideToMove(position[1].equals("ORANGE") ? CheckerState.ORANGE : CheckerState.WHITE);
+	}
+
+	/**
+	 * Replace the pieces on the GUI board with those of an engine state
+	 *
+	 * @param  game Game to load the state into
+	 * @param  state State to load
+	 */
+	private static void loadBoard(CheckerGame game, CheckerState state)
+	{
+		CheckerBoard board = game.getBoard();
+		Color[] colors = {Color.ORANGE, Color.WHITE};
+		for (Color color : colors)
+		{
+			ArrayList<CheckerPiece> pieces = game.getPlayer(color).getPieceArrayList();
+			for (CheckerPiece piece : pieces)
+				board.removePiece(piece, piece.getRow(), piece.getCol());
+			pieces.clear();
+		}
+		for (int sq = 0; sq < CheckerState.SQUARES; sq++)
+		{
+			int side = state.getSide(sq);
+			if (side == CheckerState.NONE)
+				continue;
+			Color color = colors[side];
+			CheckerPiece piece = new CheckerPiece(CheckerState.row(sq), CheckerState.col(sq), color, board);
+			board.addPiece(piece, piece.getRow(), piece.getCol());
+			if (state.isKing(sq))
+				board.crownPiece(piece);
+			game.getPlayer(color).addPiece(piece);
+		}
+		game.setCurrentPlayer(colors[state.getSideToMove()]);
+	}
+}
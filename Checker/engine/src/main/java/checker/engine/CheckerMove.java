@@ -0,0 +1,114 @@
+package checker.engine;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public final class CheckerMove
+{
+	/**
+	 * Constant value for no action. No legal action packs to 0, as from and to always differ.
+	 */
+	public final static int NONE = 0;
+	/**
+	 * Constant value for the mask of the fields of an action that identify it, used as the action stored in the transposition table
+	 */
+	public final static int KEY_MASK = 0xFFFF;
+	/**
+	 * Flag of an action that crowns the piece
+	 */
+	private final static int PROMOTION = 1 << 16;
+
+	/**
+	 * Constructor of CheckerMove class. Actions are packed into an int and handled with the static methods only.
+	 *
+	 */
+	private CheckerMove()
+	{
+	}
+
+	/**
+	 * Pack an action into an int
+	 * <br> bits 0-4: from square, bits 5-9: to square, bits 10-15: captured square + 1 (0 for move and fly), bit 16: promotion
+	 *
+	 * @param from Square index where the piece is located
+	 * @param to Square index where the piece gets to
+	 * @param captured Square index of the captured piece, or CheckerState.NONE
+	 * @param promotion Set if the action crowns the piece
+	 * @return int Return the packed action
+	 */
+	public static int make(int from, int to, int captured, boolean promotion)
+	{
+		return from | (to << 5) | ((captured + 1) << 10) | (promotion ? PROMOTION : 0);
+	}
+
+	/**
+	 * Get the source square of a packed action
+	 *
+	 * @param move Packed action
+	 * @return int Return square index where the piece is located
+	 */
+	public static int getFrom(int move)
+	{
+		return move & 31;
+	}
+
+	/**
+	 * Get the destination square of a packed action
+	 *
+	 * @param move Packed action
+	 * @return int Return square index where the piece gets to
+	 */
+	public static int getTo(int move)
+	{
+		return (move >>> 5) & 31;
+	}
+
+	/**
+	 * Get the captured square of a packed action
+	 *
+	 * @param move Packed action
+	 * @return int Return square index of the captured piece, or CheckerState.NONE
+	 */
+	public static int getCaptured(int move)
+	{
+		return ((move >>> 10) & 63) - 1;
+	}
+
+	/**
+	 * Check if a packed action captures a piece
+	 *
+	 * @param move Packed action
+	 * @return boolean Return true for jump and flycapture
+	 */
+	public static boolean isCapture(int move)
+	{
+		return (move & (63 << 10)) != 0;
+	}
+
+	/**
+	 * Check if a packed action crowns the piece
+	 *
+	 * @param move Packed action
+	 * @return boolean Return true if the piece reaches its king row as a man
+	 */
+	public static boolean isPromotion(int move)
+	{
+		return (move & PROMOTION) != 0;
+	}
+
+	/**
+	 * Get a packed action as text, e.g. "(5,2)-(4,3)" or "(5,2)x(3,4)", for tracing and debugging
+	 *
+	 * @param move Packed action
+	 * @return String Return the action as text
+	 */
+	public static String toString(int move)
+	{
+		int from = getFrom(move);
+		int to = getTo(move);
+		return "(" + CheckerState.row(from) + "," + CheckerState.col(from) + ")" + (isCapture(move) ? "x" : "-") +
+			"(" + CheckerState.row(to) + "," + CheckerState.col(to) + ")" + (isPromotion(move) ? "K" : "");
+	}
+}
@@ -0,0 +1,260 @@
+package checker.engine;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerMoveGenerator
+{
+	/**
+	 * Generate all legal actions for the side to move
+	 * <p>
+	 * Capture is mandatory: if any piece can jump or flycapture, only captures are generated. A capture is generated one hop at a time,
+	 * the same way CheckerPlayer plays it. If chainSquare is set, only further captures by the piece on that square are generated.
+	 *
+	 * @param state Game state
+	 * @param chainSquare Square index of the piece continuing a capture, or CheckerState.NONE
+	 * @param list Move list to fill, it is cleared first
+	 * @return int Return number of actions generated
+	 */
+	public static int generate(CheckerState state, int chainSquare, CheckerMoveList list)
+	{
+		list.clear();
+		if (chainSquare != CheckerState.NONE)
+		{
+			addCaptures(state, chainSquare, list);
+			return list.size();
+		}
+
+		int side = state.getSideToMove();
+		for (int pieces = state.getPieces(side); pieces != 0; pieces &= pieces - 1)
+			addCaptures(state, Integer.numberOfTrailingZeros(pieces), list);
+
+		// capture is mandatory
+		if (list.size() > 0)
+			return list.size();
+
+		for (int pieces = state.getPieces(side); pieces != 0; pieces &= pieces - 1)
+			addMoves(state, Integer.numberOfTrailingZeros(pieces), list);
+		return list.size();
+	}
+
+	/**
+	 * Generate all legal complete actions for the side to move, with every capture sequence enumerated up front
+	 * <p>
+	 * Capture is mandatory: if any piece can capture, only capture sequences are generated. A sequence goes on as long as the piece can
+	 * capture again and ends when it is crowned, the same as CheckerState.makeMove. Branching chains give one sequence per branch; chains
+	 * that end on the same square with the same pieces captured are generated once. Move and fly are sequences of one hop.
+	 * If chainSquare is set, only the rest of the capture by the piece on that square is generated.
+	 *
+	 * @param state Game state
+	 * @param chainSquare Square index of the piece continuing a capture, or CheckerState.NONE
+	 * @param list Sequence list to fill, it is cleared first
+	 * @return int Return number of sequences generated
+	 */
+	public static int generateSequences(CheckerState state, int chainSquare, CheckerSequenceList list)
+	{
+		list.clear();
+		if (chainSquare != CheckerState.NONE)
+		{
+			addCaptureSequences(state, chainSquare, list);
+			return list.size();
+		}
+
+		int side = state.getSideToMove();
+		for (int pieces = state.getPieces(side); pieces != 0; pieces &= pieces - 1)
+			addCaptureSequences(state, Integer.numberOfTrailingZeros(pieces), list);
+
+		// capture is mandatory
+		if (list.size() > 0)
+			return list.size();
+
+		CheckerMoveList singles = list.getSingles();
+		singles.clear();
+		for (int pieces = state.getPieces(side); pieces != 0; pieces &= pieces - 1)
+			addMoves(state, Integer.numberOfTrailingZeros(pieces), singles);
+		for (int i = 0; i < singles.size(); i++)
+			list.addSingle(singles.get(i));
+		return list.size();
+	}
+
+	/**
+	 * Check if the piece on a square can capture
+	 *
+	 * @param state Game state
+	 * @param sq Square index of the piece
+	 * @return boolean Return true if the piece has a jump or flycapture
+	 */
+	public static boolean hasCapture(CheckerState state, int sq)
+	{
+		int side = state.getSide(sq);
+		int opponent = state.getPieces(CheckerState.opponent(side));
+		int empty = state.getEmpty();
+
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			if (state.isKing(sq))
+			{
+				int[] ray = CheckerMoveTable.RAY[sq][dir];
+				int i = 0;
+				while (i < ray.length && ((empty >>> ray[i]) & 1) != 0)
+					i++;
+				if (i + 1 < ray.length && ((opponent >>> ray[i]) & 1) != 0 && ((empty >>> ray[i+1]) & 1) != 0)
+					return true;
+			}
+			else if (CheckerMoveTable.isForward(dir, side))
+			{
+				int mid = CheckerMoveTable.NEIGHBOUR[sq][dir];
+				int dst = CheckerMoveTable.JUMP[sq][dir];
+				if (dst != CheckerState.NONE && ((opponent >>> mid) & 1) != 0 && ((empty >>> dst) & 1) != 0)
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Add the single-hop captures of the piece on a square: forward jumps for a man, flycaptures for a king
+	 *
+	 * @param state Game state
+	 * @param sq Square index of the piece
+	 * @param list Move list to add to
+	 */
+	private static void addCaptures(CheckerState state, int sq, CheckerMoveList list)
+	{
+		int side = state.getSide(sq);
+		int opponent = state.getPieces(CheckerState.opponent(side));
+		int empty = state.getEmpty();
+		int kingRow = CheckerState.kingRow(side);
+
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			if (state.isKing(sq))
+			{
+				int[] ray = CheckerMoveTable.RAY[sq][dir];
+				int i = 0;
+				while (i < ray.length && ((empty >>> ray[i]) & 1) != 0)
+					i++;
+				if (i == ray.length || ((opponent >>> ray[i]) & 1) == 0)
+					continue;
+				int captured = ray[i];
+				for (i++; i < ray.length && ((empty >>> ray[i]) & 1) != 0; i++)
+					list.add(sq, ray[i], captured, false);
+			}
+			else if (CheckerMoveTable.isForward(dir, side))
+			{
+				int mid = CheckerMoveTable.NEIGHBOUR[sq][dir];
+				int dst = CheckerMoveTable.JUMP[sq][dir];
+				if (dst != CheckerState.NONE && ((opponent >>> mid) & 1) != 0 && ((empty >>> dst) & 1) != 0)
+					list.add(sq, dst, mid, CheckerState.row(dst) == kingRow);
+			}
+		}
+	}
+
+	/**
+	 * Add the complete capture sequences of the piece on a square
+	 *
+	 * @param state Game state
+	 * @param sq Square index of the piece
+	 * @param list Sequence list to add to
+	 */
+	private static void addCaptureSequences(CheckerState state, int sq, CheckerSequenceList list)
+	{
+		int side = state.getSide(sq);
+		
+		// the piece leaves its square, which it may pass or land on later in the sequence
+		int empty = state.getEmpty() | (1 << sq);
+		addCaptureSequences(list, list.size(), side, state.isKing(sq), sq, state.getPieces(CheckerState.opponent(side)), empty, 0, 0);
+	}
+
+	/**
+	 * Depth-first walk of the capture sequences of a piece. Each captured piece is masked out of the opponent pieces and into the empty
+	 * squares, as it is removed from the board as soon as it is captured.
+	 *
+	 * @param list Sequence list to add to
+	 * @param first Index of the first sequence of the piece in list
+	 * @param side Side of the piece
+	 * @param king Set if the piece is a king
+	 * @param sq Square index where the piece is located after the hops so far
+	 * @param opponent Bit mask of the opponent pieces not yet captured
+	 * @param empty Bit mask of the empty squares
+	 * @param captured Bit mask of the pieces captured so far
+	 * @param hop Number of hops so far
+	 * @return boolean Return true if the piece can capture from sq
+	 */
+	private static boolean addCaptureSequences(CheckerSequenceList list, int first, int side, boolean king, int sq, int opponent, int empty, int captured, int hop)
+	{
+		boolean found = false;
+		
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			if (king)
+			{
+				int[] ray = CheckerMoveTable.RAY[sq][dir];
+				int i = 0;
+				while (i < ray.length && ((empty >>> ray[i]) & 1) != 0)
+					i++;
+				if (i == ray.length || ((opponent >>> ray[i]) & 1) == 0)
+					continue;
+				int bit = 1 << ray[i];
+				int mid = ray[i];
+				for (i++; i < ray.length && ((empty >>> ray[i]) & 1) != 0; i++)
+				{
+					found = true;
+					list.setStep(hop, CheckerMove.make(sq, ray[i], mid, false));
+					if (hop + 1 == CheckerSequenceList.MAX_HOPS ||
+						!addCaptureSequences(list, first, side, true, ray[i], opponent & ~bit, empty | bit, captured | bit, hop + 1))
+						list.addSequence(first, hop + 1, captured | bit);
+				}
+			}
+			else if (CheckerMoveTable.isForward(dir, side))
+			{
+				int mid = CheckerMoveTable.NEIGHBOUR[sq][dir];
+				int dst = CheckerMoveTable.JUMP[sq][dir];
+				if (dst == CheckerState.NONE || ((opponent >>> mid) & 1) == 0 || ((empty >>> dst) & 1) == 0)
+					continue;
+				found = true;
+				int bit = 1 << mid;
+				
+				// the sequence ends when the man is crowned
+				boolean crowning = CheckerState.row(dst) == CheckerState.kingRow(side);
+				list.setStep(hop, CheckerMove.make(sq, dst, mid, crowning));
+				if (crowning || hop + 1 == CheckerSequenceList.MAX_HOPS ||
+					!addCaptureSequences(list, first, side, false, dst, opponent & ~bit, empty | bit, captured | bit, hop + 1))
+					list.addSequence(first, hop + 1, captured | bit);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Add the non-capturing actions of the piece on a square: forward moves for a man, flies for a king
+	 *
+	 * @param state Game state
+	 * @param sq Square index of the piece
+	 * @param list Move list to add to
+	 */
+	private static void addMoves(CheckerState state, int sq, CheckerMoveList list)
+	{
+		int side = state.getSide(sq);
+		int empty = state.getEmpty();
+		int kingRow = CheckerState.kingRow(side);
+
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			if (state.isKing(sq))
+			{
+				int[] ray = CheckerMoveTable.RAY[sq][dir];
+				for (int i = 0; i < ray.length && ((empty >>> ray[i]) & 1) != 0; i++)
+					list.add(sq, ray[i], CheckerState.NONE, false);
+			}
+			else if (CheckerMoveTable.isForward(dir, side))
+			{
+				int dst = CheckerMoveTable.NEIGHBOUR[sq][dir];
+				if (dst != CheckerState.NONE && ((empty >>> dst) & 1) != 0)
+					list.add(sq, dst, CheckerState.NONE, CheckerState.row(dst) == kingRow);
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package checker.engine;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerMoveList
+{
+	/**
+	 * Constant value for the maximum number of actions a position can have
+	 */
+	public final static int MAX_MOVES = 256;
+
+	/**
+	 * Actions packed by CheckerMove, reused for every position the list is filled for
+	 */
+	private final int[] moves = new int[MAX_MOVES];
+	/**
+	 * Number of actions in the list
+	 */
+	private int size = 0;
+
+	/**
+	 * Remove all actions from the list
+	 *
+	 */
+	public void clear()
+	{
+		size = 0;
+	}
+
+	/**
+	 * Add an action to the tail of the list
+	 *
+	 * @param move Action packed by CheckerMove
+	 */
+	public void add(int move)
+	{
+		moves[size++] = move;
+	}
+
+	/**
+	 * Add an action to the tail of the list
+	 *
+	 * @param from Square index where the piece is located
+	 * @param to Square index where the piece gets to
+	 * @param captured Square index of the captured piece, or CheckerState.NONE
+	 * @param promotion Set if the action crowns the piece
+	 */
+	public void add(int from, int to, int captured, boolean promotion)
+	{
+		moves[size++] = CheckerMove.make(from, to, captured, promotion);
+	}
+
+	/**
+	 * Getter to get number of actions in the list
+	 *
+	 * @return int Return number of actions
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Getter to get an action
+	 *
+	 * @param i Index of the action
+	 * @return int Return the action packed by CheckerMove
+	 */
+	public int get(int i)
+	{
+		return moves[i];
+	}
+
+	/**
+	 * Getter to get the source square of an action
+	 *
+	 * @param i Index of the action
+	 * @return int Return square index where the piece is located
+	 */
+	public int getFrom(int i)
+	{
+		return CheckerMove.getFrom(moves[i]);
+	}
+
+	/**
+	 * Getter to get the destination square of an action
+	 *
+	 * @param i Index of the action
+	 * @return int Return square index where the piece gets to
+	 */
+	public int getTo(int i)
+	{
+		return CheckerMove.getTo(moves[i]);
+	}
+
+	/**
+	 * Getter to get the captured square of an action
+	 *
+	 * @param i Index of the action
+	 * @return int Return square index of the captured piece, or CheckerState.NONE
+	 */
+	public int getCaptured(int i)
+	{
+		return CheckerMove.getCaptured(moves[i]);
+	}
+
+	/**
+	 * Find an action in the list by the fields that identify it
+	 *
+	 * @param key Action packed by CheckerMove, only the bits in CheckerMove.KEY_MASK are compared
+	 * @return int Return index of the action, or CheckerState.NONE if it is not in the list
+	 */
+	public int indexOf(int key)
+	{
+		key &= CheckerMove.KEY_MASK;
+		for (int i = 0; i < size; i++)
+		{
+			if ((moves[i] & CheckerMove.KEY_MASK) == key)
+				return i;
+		}
+		return CheckerState.NONE;
+	}
+
+	/**
+	 * Swap two actions in the list, used for move ordering
+	 *
+	 * @param i Index of the first action
+	 * @param j Index of the second action
+	 */
+	public void swap(int i, int j)
+	{
+		int tmp = moves[i];
+		moves[i] = moves[j];
+		moves[j] = tmp;
+	}
+}
@@ -0,0 +1,137 @@
+package checker.engine;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerMoveTable
+{
+	/**
+	 * Constant value for number of diagonal directions
+	 */
+	public final static int DIRECTIONS = 4;
+	/**
+	 * Constant value for the up-left direction (row -1, col -1)
+	 */
+	public final static int UP_LEFT = 0;
+	/**
+	 * Constant value for the up-right direction (row -1, col +1)
+	 */
+	public final static int UP_RIGHT = 1;
+	/**
+	 * Constant value for the down-left direction (row +1, col -1)
+	 */
+	public final static int DOWN_LEFT = 2;
+	/**
+	 * Constant value for the down-right direction (row +1, col +1)
+	 */
+	public final static int DOWN_RIGHT = 3;
+
+	/**
+	 * Row step of each direction
+	 */
+	public final static int[] ROW_DIR = {-1, -1, 1, 1};
+	/**
+	 * Column step of each direction
+	 */
+	public final static int[] COL_DIR = {-1, 1, -1, 1};
+
+	/**
+	 * Diagonal neighbour of each square in each direction, CheckerState.NONE if off-board
+	 */
+	public final static int[][] NEIGHBOUR = new int[CheckerState.SQUARES][DIRECTIONS];
+	/**
+	 * Landing square of a jump from each square in each direction, CheckerState.NONE if off-board
+	 */
+	public final static int[][] JUMP = new int[CheckerState.SQUARES][DIRECTIONS];
+	/**
+	 * Full diagonal ray from each square in each direction, nearest square first, excluding the square itself
+	 */
+	public final static int[][][] RAY = new int[CheckerState.SQUARES][DIRECTIONS][];
+	/**
+	 * Bit mask of the squares on each ray
+	 */
+	public final static int[][] RAY_MASK = new int[CheckerState.SQUARES][DIRECTIONS];
+	/**
+	 * Direction from one square to another, CheckerState.NONE if they are not on a common diagonal
+	 */
+	public final static byte[][] DIRECTION = new byte[CheckerState.SQUARES][CheckerState.SQUARES];
+	/**
+	 * Bit mask of the squares strictly between two squares on a common diagonal, 0 otherwise
+	 */
+	public final static int[][] BETWEEN = new int[CheckerState.SQUARES][CheckerState.SQUARES];
+	/**
+	 * Directions a man of each side may move and jump: orange moves up, white moves down
+	 */
+	public final static int[][] FORWARD = {{UP_LEFT, UP_RIGHT}, {DOWN_LEFT, DOWN_RIGHT}};
+
+	static
+	{
+		for (int from = 0; from < CheckerState.SQUARES; from++)
+		{
+			for (int to = 0; to < CheckerState.SQUARES; to++)
+				DIRECTION[from][to] = CheckerState.NONE;
+
+			int srcRow = CheckerState.row(from);
+			int srcCol = CheckerState.col(from);
+			for (int dir = 0; dir < DIRECTIONS; dir++)
+			{
+				NEIGHBOUR[from][dir] = CheckerState.square(srcRow + ROW_DIR[dir], srcCol + COL_DIR[dir]);
+				JUMP[from][dir] = CheckerState.square(srcRow + 2*ROW_DIR[dir], srcCol + 2*COL_DIR[dir]);
+
+				// walk the ray once to size it, then fill it
+				int length = 0;
+				while (CheckerState.square(srcRow + (length+1)*ROW_DIR[dir], srcCol + (length+1)*COL_DIR[dir]) != CheckerState.NONE)
+					length++;
+
+				RAY[from][dir] = new int[length];
+				int between = 0;
+				for (int i = 0; i < length; i++)
+				{
+					int sq = CheckerState.square(srcRow + (i+1)*ROW_DIR[dir], srcCol + (i+1)*COL_DIR[dir]);
+					RAY[from][dir][i] = sq;
+					RAY_MASK[from][dir] |= 1 << sq;
+					DIRECTION[from][sq] = (byte) dir;
+					BETWEEN[from][sq] = between;
+					between |= 1 << sq;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the direction index for a row and column step
+	 *
+	 * @param rowDir Row direction (+1 is down, -1 is up)
+	 * @param colDir Column direction (+1 is right, -1 is left)
+	 * @return int Return the direction index
+	 */
+	public static int direction(int rowDir, int colDir)
+	{
+		return ((rowDir > 0) ? 2 : 0) | ((colDir > 0) ? 1 : 0);
+	}
+
+	/**
+	 * Get the direction pointing the opposite way
+	 *
+	 * @param dir Direction index
+	 * @return int Return the reversed direction index
+	 */
+	public static int reverse(int dir)
+	{
+		return dir ^ 3;
+	}
+
+	/**
+	 * Check if a direction is forward for the men of a side
+	 *
+	 * @param dir Direction index
+	 * @param side CheckerState.ORANGE or CheckerState.WHITE
+	 * @return boolean Return true if men of the side can move in the direction
+	 */
+	public static boolean isForward(int dir, int side)
+	{
+		return (side == CheckerState.ORANGE) ? (dir < DOWN_LEFT) : (dir >= DOWN_LEFT);
+	}
+}
@@ -0,0 +1,228 @@
+package checker.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerPerft
+{
+	/**
+	 * Constant value for the maximum perft depth
+	 */
+	public final static int MAX_DEPTH = 64;
+
+	/**
+	 * Game state the sequences are made on and taken back from
+	 */
+	private final CheckerState state = new CheckerState();
+	/**
+	 * Sequence list at each ply
+	 */
+	private final CheckerSequenceList[] lists = new CheckerSequenceList[MAX_DEPTH];
+
+	/**
+	 * Constructor of CheckerPerft class
+	 * <p>
+	 * This constructor will allocate the sequence list of every ply, so that counting does not allocate.
+	 *
+	 */
+	public CheckerPerft()
+	{
+		for (int ply = 0; ply < MAX_DEPTH; ply++)
+			lists[ply] = new CheckerSequenceList();
+	}
+
+	/**
+	 * Count the positions reached after depth complete actions (perft). A capture sequence counts as one action.
+	 *
+	 * @param root Game state to count from. It is copied, not changed.
+	 * @param depth Number of actions, from 1 to MAX_DEPTH
+	 * @return long Return number of leaf positions, counted once per path
+	 */
+	public long perft(CheckerState root, int depth)
+	{
+		state.copyFrom(root);
+		return count(0, depth);
+	}
+
+	/**
+	 * Count the leaf positions below each root action (perft divide)
+	 *
+	 * @param root Game state to count from. It is not changed.
+	 * @param depth Number of actions including the root action, from 1 to MAX_DEPTH
+	 * @param threads Number of worker threads sharing out the root actions, 1 to count on the calling thread
+	 * @param list Sequence list which will be filled with the root actions
+	 * @return long[] Return the number of leaf positions below each root action of list
+	 */
+	public static long[] divide(CheckerState root, int depth, int threads, CheckerSequenceList list)
+	{
+		int count = CheckerMoveGenerator.generateSequences(root, CheckerState.NONE, list);
+		long[] nodes = new long[count];
+
+		if (threads <= 1)
+		{
+			CheckerPerft perft = new CheckerPerft();
+			for (int i = 0; i < count; i++)
+				nodes[i] = perft.perftAfter(root, list, i, depth - 1);
+			return nodes;
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try
+		{
+			ArrayList<Callable<Long>> tasks = new ArrayList<Callable<Long>>(count);
+			for (int i = 0; i < count; i++)
+			{
+				final int index = i;
+				tasks.add(() -> new CheckerPerft().perftAfter(root, list, index, depth - 1));
+			}
+			List<Future<Long>> results = pool.invokeAll(tasks);
+			for (int i = 0; i < count; i++)
+				nodes[i] = results.get(i).get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e)
+		{
+			throw new IllegalStateException("perft task failed", e.getCause());
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+		return nodes;
+	}
+
+	/**
+	 * Count the leaf positions below one root action
+	 *
+	 * @param root Game state of the root position. It is copied, not changed.
+	 * @param list Sequence list of the root actions
+	 * @param i Index of the root action
+	 * @param depth Number of actions after the root action
+	 * @return long Return number of leaf positions
+	 */
+	private long perftAfter(CheckerState root, CheckerSequenceList list, int i, int depth)
+	{
+		state.copyFrom(root);
+		make(list, i);
+		return (depth == 0) ? 1 : count(0, depth);
+	}
+
+	/**
+	 * Count the leaf positions of the state at ply. The last ply is counted in bulk from the size of its sequence list.
+	 *
+	 * @param ply Ply of the position
+	 * @param depth Remaining number of actions, at least 1
+	 * @return long Return number of leaf positions
+	 */
+	private long count(int ply, int depth)
+	{
+		CheckerSequenceList list = lists[ply];
+		int count = CheckerMoveGenerator.generateSequences(state, CheckerState.NONE, list);
+		if (depth == 1)
+			return count;
+
+		long nodes = 0;
+		for (int i = 0; i < count; i++)
+		{
+			make(list, i);
+			nodes += count(ply + 1, depth - 1);
+			for (int hop = list.getHops(i); hop > 0; hop--)
+				state.unmakeMove();
+		}
+		return nodes;
+	}
+
+	/**
+	 * Make all hops of a sequence on the state
+	 *
+	 * @param list Sequence list
+	 * @param i Index of the sequence
+	 */
+	private void make(CheckerSequenceList list, int i)
+	{
+		for (int hop = 0; hop < list.getHops(i); hop++)
+		{
+			int step = list.getStep(i, hop);
+			state.makeMove(CheckerMove.getFrom(step), CheckerMove.getTo(step), CheckerMove.getCaptured(step));
+		}
+	}
+
+	/**
+	 * Count the leaf positions from the starting position, set up the same as by the CheckerPlayer constructors, or from a given position
+	 * <p>
+	 * Usage: CheckerPerft depth [-divide] [-threads n] [-position text]
+	 * <br> The position is given as text, see CheckerPositionFormat.toText.
+	 * <br> Without -divide, the count and speed for every depth from 1 to depth is printed.
+	 * <br> With -divide, the count below each root action at the given depth is printed, followed by the total.
+	 *
+	 * @param  args Depth and options
+	 */
+	public static void main(String[] args)
+	{
+		if (args.length < 1)
+		{
+			System.out.println("Usage: CheckerPerft depth [-divide] [-threads n] [-position text]");
+			return;
+		}
+
+		int depth = Math.min(Integer.parseInt(args[0]), MAX_DEPTH);
+		boolean divide = false;
+		int threads = 1;
+		String position = null;
+		for (int i = 1; i < args.length; i++)
+		{
+			if (args[i].equals("-divide"))
+				divide = true;
+			else if (args[i].equals("-threads") && i + 1 < args.length)
+				threads = Integer.parseInt(args[++i]);
+			else if (args[i].equals("-position") && i + 1 < args.length)
+				position = args[++i];
+		}
+
+		CheckerState state = new CheckerState();
+		if (position != null)
+			CheckerPositionFormat.fromText(position, state);
+		else
+			state.setup();
+		CheckerSequenceList list = new CheckerSequenceList();
+
+		if (divide)
+		{
+			long start = System.nanoTime();
+			long[] nodes = divide(state, depth, threads, list);
+			long elapsed = System.nanoTime() - start;
+			long total = 0;
+			for (int i = 0; i < nodes.length; i++)
+			{
+				System.out.printf("%-24s %14d\n", list.toString(i), nodes[i]);
+				total += nodes[i];
+			}
+			System.out.printf("%-24s %14d\n", "total", total);
+			System.out.printf("%d ms, %d nodes/sec\n", elapsed / 1000000L, total * 1000000000L / Math.max(1, elapsed));
+			return;
+		}
+
+		System.out.printf("%6s %16s %10s %14s\n", "depth", "nodes", "millis", "nodes/sec");
+		for (int d = 1; d <= depth; d++)
+		{
+			long start = System.nanoTime();
+			long total = 0;
+			for (long n : divide(state, d, threads, list))
+				total += n;
+			long elapsed = System.nanoTime() - start;
+			System.out.printf("%6d %16d %10d %14d\n", d, total, elapsed / 1000000L, total * 1000000000L / Math.max(1, elapsed));
+		}
+	}
+}
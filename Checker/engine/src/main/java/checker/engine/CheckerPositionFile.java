@@ -0,0 +1,293 @@
+package checker.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerPositionFile implements AutoCloseable
+{
+	/**
+	 * Constant value for the byte order of the packed positions in a file
+	 */
+	public final static ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	/**
+	 * Constant value for the size of the part of a file mapped at a time, a whole number of positions
+	 */
+	private final static long WINDOW_BYTES = (1L << 28) / CheckerPositionFormat.RECORD_BYTES * CheckerPositionFormat.RECORD_BYTES;
+
+	/**
+	 * Channel of the file being read
+	 */
+	private final FileChannel channel;
+	/**
+	 * Number of positions in the file
+	 */
+	private final long size;
+	/**
+	 * Mapped part of the file
+	 */
+	private MappedByteBuffer window = null;
+	/**
+	 * Index of the first position of the mapped part
+	 */
+	private long windowStart = 0;
+	/**
+	 * Index of the position read by the next call to next
+	 */
+	private long position = 0;
+
+	/**
+	 * Constructor of CheckerPositionFile class
+	 * <p>
+	 * This constructor will open a file of packed positions (see CheckerPositionFormat.pack) for reading. The file is mapped a window at
+	 * a time, so files larger than a single mapping can be read.
+	 *
+	 * @param file File of packed positions
+	 * @throws IOException if the file cannot be opened, or its length is not a whole number of positions
+	 */
+	public CheckerPositionFile(Path file) throws IOException
+	{
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		long bytes = channel.size();
+		if (bytes % CheckerPositionFormat.RECORD_BYTES != 0)
+		{
+			channel.close();
+			throw new IOException(file + ": length " + bytes + " is not a multiple of " + CheckerPositionFormat.RECORD_BYTES);
+		}
+		size = bytes / CheckerPositionFormat.RECORD_BYTES;
+	}
+
+	/**
+	 * Getter to get number of positions in the file
+	 *
+	 * @return long Return number of positions
+	 */
+	public long size()
+	{
+		return size;
+	}
+
+	/**
+	 * Read the next position of the file into a state
+	 *
+	 * @param state Game state to set, it is reused for every position
+	 * @return boolean Return true if a position was read, false at the end of the file
+	 * @throws IOException if the file cannot be mapped
+	 */
+	public boolean next(CheckerState state) throws IOException
+	{
+		if (position == size)
+			return false;
+		get(position++, state);
+		return true;
+	}
+
+	/**
+	 * Read one position of the file into a state
+	 *
+	 * @param index Index of the position, from 0 to size() - 1
+	 * @param state Game state to set
+	 * @throws IOException if the file cannot be mapped
+	 */
+	public void get(long index, CheckerState state) throws IOException
+	{
+		long offset = (index - windowStart) * CheckerPositionFormat.RECORD_BYTES;
+		if (window == null || offset < 0 || offset >= window.capacity())
+		{
+			map(index);
+			offset = 0;
+		}
+		int at = (int) offset;
+		CheckerPositionFormat.unpack(window.getInt(at), window.getInt(at + 4), window.getInt(at + 8), state);
+	}
+
+	/**
+	 * Set the index of the position read by the next call to next
+	 *
+	 * @param index Index of the position, from 0 to size()
+	 */
+	public void seek(long index)
+	{
+		position = index;
+	}
+
+	/**
+	 * Map the part of the file starting at a position
+	 *
+	 * @param index Index of the first position to map
+	 * @throws IOException if the file cannot be mapped
+	 */
+	private void map(long index) throws IOException
+	{
+		long start = index * CheckerPositionFormat.RECORD_BYTES;
+		long length = Math.min(WINDOW_BYTES, channel.size() - start);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+		window.order(BYTE_ORDER);
+		windowStart = index;
+	}
+
+	/**
+	 * Close the file. The mapped part is released by the garbage collector.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		window = null;
+		channel.close();
+	}
+
+	/**
+	 * Writer of a file of packed positions
+	 */
+	public static class Writer implements AutoCloseable
+	{
+		/**
+		 * Channel of the file being written
+		 */
+		private final FileChannel channel;
+		/**
+		 * Buffer of positions not written yet
+		 */
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(CheckerPositionFormat.RECORD_BYTES * 8192).order(BYTE_ORDER);
+		/**
+		 * Number of positions written
+		 */
+		private long count = 0;
+
+		/**
+		 * Constructor of Writer class
+		 * <p>
+		 * This constructor will create the file, or empty it if it exists.
+		 *
+		 * @param file File of packed positions
+		 * @throws IOException if the file cannot be created
+		 */
+		public Writer(Path file) throws IOException
+		{
+			channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		}
+
+		/**
+		 * Append a position to the file
+		 *
+		 * @param state Game state
+		 * @throws IOException if the file cannot be written
+		 */
+		public void write(CheckerState state) throws IOException
+		{
+			if (buffer.remaining() < CheckerPositionFormat.RECORD_BYTES)
+				flush();
+			CheckerPositionFormat.pack(state, buffer);
+			count++;
+		}
+
+		/**
+		 * Getter to get number of positions written
+		 *
+		 * @return long Return number of positions
+		 */
+		public long getCount()
+		{
+			return count;
+		}
+
+		/**
+		 * Write the buffered positions to the file
+		 *
+		 * @throws IOException if the file cannot be written
+		 */
+		private void flush() throws IOException
+		{
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+			buffer.clear();
+		}
+
+		/**
+		 * Write the buffered positions and close the file
+		 *
+		 * @throws IOException if the file cannot be written
+		 */
+		@Override
+		public void close() throws IOException
+		{
+			try
+			{
+				flush();
+			}
+			finally
+			{
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * Convert a file of positions as text, one per line, to a file of packed positions, or read a file of packed positions
+	 * <p>
+	 * Usage: CheckerPositionFile -pack text-file packed-file | -read packed-file [-print]
+	 * <br> With -pack, empty lines and lines starting with '#' are skipped.
+	 * <br> With -read, every position is loaded into one state and the count and speed are printed, and with -print each position as text.
+	 *
+	 * @param  args Mode and files
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length >= 3 && args[0].equals("-pack"))
+		{
+			CheckerState state = new CheckerState();
+			try (BufferedReader in = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.US_ASCII);
+				Writer out = new Writer(Paths.get(args[2])))
+			{
+				String line;
+				while ((line = in.readLine()) != null)
+				{
+					line = line.trim();
+					if (line.isEmpty() || line.startsWith("#"))
+						continue;
+					CheckerPositionFormat.fromText(line, state);
+					out.write(state);
+				}
+				System.out.printf("%d positions packed\n", out.getCount());
+			}
+		}
+		else if (args.length >= 2 && args[0].equals("-read"))
+		{
+			boolean print = args.length >= 3 && args[2].equals("-print");
+			CheckerState state = new CheckerState();
+			long start = System.nanoTime();
+			long pieces = 0;
+			try (CheckerPositionFile in = new CheckerPositionFile(Paths.get(args[1])))
+			{
+				while (in.next(state))
+				{
+					pieces += Integer.bitCount(state.getOccupied());
+					if (print)
+						System.out.println(CheckerPositionFormat.toText(state));
+				}
+				long elapsed = System.nanoTime() - start;
+				System.out.printf("%d positions, %d pieces, %d ms, %d positions/sec\n", in.size(), pieces, elapsed / 1000000L,
+					in.size() * 1000000000L / Math.max(1, elapsed));
+			}
+		}
+		else
+			System.out.println("Usage: CheckerPositionFile -pack text-file packed-file | -read packed-file [-print]");
+	}
+}
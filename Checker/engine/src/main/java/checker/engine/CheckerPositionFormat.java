@@ -0,0 +1,165 @@
+package checker.engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public final class CheckerPositionFormat
+{
+	/**
+	 * Constant value for the size of a packed position in bytes: three 32-bit words
+	 */
+	public final static int RECORD_BYTES = 12;
+
+	/**
+	 * Constructor of CheckerPositionFormat class. Positions are converted with the static methods only.
+	 *
+	 */
+	private CheckerPositionFormat()
+	{
+	}
+
+	/**
+	 * Get a state as text, in the style of a draughts FEN
+	 * <p>
+	 * The text is the side to move, then the orange pieces, then the white pieces, separated by ':'. Side and colors are given as
+	 * 'O' or 'W', pieces as square numbers 1..32 (square index + 1, four per row from the top-left), kings prefixed with 'K'.
+	 * The starting position is "O:O21,22,23,24,25,26,27,28,29,30,31,32:W1,2,3,4,5,6,7,8,9,10,11,12".
+	 *
+	 * @param state Game state
+	 * @return String Return the position as text
+	 */
+	public static String toText(CheckerState state)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append(state.getSideToMove() == CheckerState.ORANGE ? 'O' : 'W');
+		for (int side = CheckerState.ORANGE; side <= CheckerState.WHITE; side++)
+		{
+			sb.append(':').append(side == CheckerState.ORANGE ? 'O' : 'W');
+			boolean first = true;
+			for (int pieces = state.getPieces(side); pieces != 0; pieces &= pieces - 1)
+			{
+				int sq = Integer.numberOfTrailingZeros(pieces);
+				if (!first)
+					sb.append(',');
+				if (state.isKing(sq))
+					sb.append('K');
+				sb.append(sq + 1);
+				first = false;
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Set a state from text written by toText. The color sections may come in any order and may be left out when empty.
+	 *
+	 * @param text Position as text
+	 * @param state Game state to set, its undo stack is emptied
+	 * @throws IllegalArgumentException if the text is not a valid position
+	 */
+	public static void fromText(String text, CheckerState state)
+	{
+		String[] fields = text.trim().split(":");
+		if (fields.length < 1 || fields.length > 3 || !fields[0].matches("[OW]"))
+			throw new IllegalArgumentException("Bad position \"" + text + "\": expected O|W:O<squares>:W<squares>");
+
+		state.clear();
+		for (int f = 1; f < fields.length; f++)
+		{
+			String field = fields[f];
+			if (field.isEmpty() || (field.charAt(0) != 'O' && field.charAt(0) != 'W'))
+				throw new IllegalArgumentException("Bad position \"" + text + "\": color section must start with O or W");
+			int side = (field.charAt(0) == 'O') ? CheckerState.ORANGE : CheckerState.WHITE;
+			if (field.length() == 1)
+				continue;
+
+			for (String piece : field.substring(1).split(","))
+			{
+				boolean king = piece.startsWith("K");
+				int sq;
+				try
+				{
+					sq = Integer.parseInt(king ? piece.substring(1) : piece) - 1;
+				}
+				catch (NumberFormatException e)
+				{
+					throw new IllegalArgumentException("Bad position \"" + text + "\": bad square \"" + piece + "\"");
+				}
+				if (sq < 0 || sq >= CheckerState.SQUARES || !state.isFree(sq))
+					throw new IllegalArgumentException("Bad position \"" + text + "\": square " + piece + " is off the board or taken");
+				state.addPiece(sq, side, king);
+			}
+		}
+		state.setSideToMove(fields[0].equals("O") ? CheckerState.ORANGE : CheckerState.WHITE);
+	}
+
+	/**
+	 * Get the kings word of the packed form of a state
+	 * <p>
+	 * The packed form is three words: orange pieces, white pieces and kings, one bit per square. A position holds at most 24 pieces, so
+	 * the kings word has free bits on the empty squares: they are all set when white is to move and all clear when orange is to move.
+	 *
+	 * @param state Game state
+	 * @return int Return kings on the occupied squares, and the side to move on the empty squares
+	 */
+	public static int packKings(CheckerState state)
+	{
+		int kings = state.getKings(CheckerState.ORANGE) | state.getKings(CheckerState.WHITE);
+		return (state.getSideToMove() == CheckerState.WHITE) ? kings | state.getEmpty() : kings;
+	}
+
+	/**
+	 * Set a state from the three words of its packed form
+	 *
+	 * @param orange Orange pieces
+	 * @param white White pieces
+	 * @param kings Kings word, see packKings
+	 * @param state Game state to set, its undo stack is emptied
+	 */
+	public static void unpack(int orange, int white, int kings, CheckerState state)
+	{
+		state.clear();
+		int occupied = orange | white;
+		for (int pieces = orange; pieces != 0; pieces &= pieces - 1)
+		{
+			int sq = Integer.numberOfTrailingZeros(pieces);
+			state.addPiece(sq, CheckerState.ORANGE, ((kings >>> sq) & 1) != 0);
+		}
+		for (int pieces = white & ~orange; pieces != 0; pieces &= pieces - 1)
+		{
+			int sq = Integer.numberOfTrailingZeros(pieces);
+			state.addPiece(sq, CheckerState.WHITE, ((kings >>> sq) & 1) != 0);
+		}
+		state.setSideToMove((kings & ~occupied) != 0 ? CheckerState.WHITE : CheckerState.ORANGE);
+	}
+
+	/**
+	 * Write the packed form of a state at the position of a buffer, in the byte order of the buffer
+	 *
+	 * @param state Game state
+	 * @param buffer Buffer with at least RECORD_BYTES remaining
+	 */
+	public static void pack(CheckerState state, ByteBuffer buffer)
+	{
+		buffer.putInt(state.getPieces(CheckerState.ORANGE));
+		buffer.putInt(state.getPieces(CheckerState.WHITE));
+		buffer.putInt(packKings(state));
+	}
+
+	/**
+	 * Read the packed form of a state at the position of a buffer, in the byte order of the buffer
+	 *
+	 * @param buffer Buffer with at least RECORD_BYTES remaining
+	 * @param state Game state to set, its undo stack is emptied
+	 */
+	public static void unpack(ByteBuffer buffer, CheckerState state)
+	{
+		int orange = buffer.getInt();
+		int white = buffer.getInt();
+		unpack(orange, white, buffer.getInt(), state);
+	}
+}
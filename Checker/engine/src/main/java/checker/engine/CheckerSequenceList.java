@@ -0,0 +1,283 @@
+package checker.engine;
+
+import java.util.Arrays;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerSequenceList
+{
+	/**
+	 * Constant value for the number of sequences the list holds at first. The list grows when a position has more complete actions.
+	 */
+	public final static int SEQUENCES = 256;
+	/**
+	 * Constant value for the maximum number of hops of a capture sequence, one for each opponent piece
+	 */
+	public final static int MAX_HOPS = CheckerState.PLAY_ROWS * CheckerState.ROWS / 2;
+
+	/**
+	 * Hops of each sequence packed by CheckerMove, MAX_HOPS slots per sequence
+	 */
+	private int[] steps = new int[SEQUENCES * MAX_HOPS];
+	/**
+	 * Number of hops of each sequence
+	 */
+	private int[] hops = new int[SEQUENCES];
+	/**
+	 * Bit mask of the squares of the opponent pieces captured by each sequence
+	 */
+	private int[] captured = new int[SEQUENCES];
+	/**
+	 * Hops of the sequence being built by the generator
+	 */
+	private final int[] path = new int[MAX_HOPS];
+	/**
+	 * Single-hop actions collected by the generator before they are added as sequences
+	 */
+	private final CheckerMoveList singles = new CheckerMoveList();
+	/**
+	 * Number of sequences in the list
+	 */
+	private int size = 0;
+
+	/**
+	 * Remove all sequences from the list
+	 *
+	 */
+	public void clear()
+	{
+		size = 0;
+	}
+
+	/**
+	 * Getter to get number of sequences in the list
+	 *
+	 * @return int Return number of sequences
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Getter to get the number of hops of a sequence
+	 *
+	 * @param i Index of the sequence
+	 * @return int Return number of hops, 1 for move and fly
+	 */
+	public int getHops(int i)
+	{
+		return hops[i];
+	}
+
+	/**
+	 * Getter to get one hop of a sequence
+	 *
+	 * @param i Index of the sequence
+	 * @param hop Index of the hop, from 0 to getHops(i) - 1
+	 * @return int Return the hop packed by CheckerMove
+	 */
+	public int getStep(int i, int hop)
+	{
+		return steps[i * MAX_HOPS + hop];
+	}
+
+	/**
+	 * Getter to get the source square of a sequence
+	 *
+	 * @param i Index of the sequence
+	 * @return int Return square index where the piece is located
+	 */
+	public int getFrom(int i)
+	{
+		return CheckerMove.getFrom(steps[i * MAX_HOPS]);
+	}
+
+	/**
+	 * Getter to get the final destination square of a sequence
+	 *
+	 * @param i Index of the sequence
+	 * @return int Return square index where the piece gets to after the last hop
+	 */
+	public int getTo(int i)
+	{
+		return CheckerMove.getTo(steps[i * MAX_HOPS + hops[i] - 1]);
+	}
+
+	/**
+	 * Getter to get the captured pieces of a sequence
+	 *
+	 * @param i Index of the sequence
+	 * @return int Return bit mask of the squares of the captured pieces, 0 for move and fly
+	 */
+	public int getCaptured(int i)
+	{
+		return captured[i];
+	}
+
+	/**
+	 * Check if a sequence captures
+	 *
+	 * @param i Index of the sequence
+	 * @return boolean Return true for jumps and flycaptures
+	 */
+	public boolean isCapture(int i)
+	{
+		return captured[i] != 0;
+	}
+
+	/**
+	 * Check if a sequence crowns the piece
+	 *
+	 * @param i Index of the sequence
+	 * @return boolean Return true if the last hop reaches the king row of a man
+	 */
+	public boolean isPromotion(int i)
+	{
+		return CheckerMove.isPromotion(steps[i * MAX_HOPS + hops[i] - 1]);
+	}
+
+	/**
+	 * Getter to get the key of a sequence, used as the action stored in the transposition table
+	 *
+	 * @param i Index of the sequence
+	 * @return int Return from square, final to square and first captured square packed as CheckerMove.KEY_MASK bits
+	 */
+	public int getKey(int i)
+	{
+		int first = steps[i * MAX_HOPS];
+		return CheckerMove.make(CheckerMove.getFrom(first), getTo(i), CheckerMove.getCaptured(first), false) & CheckerMove.KEY_MASK;
+	}
+
+	/**
+	 * Find a sequence in the list by its key
+	 *
+	 * @param key Key of the sequence, see getKey
+	 * @return int Return index of the first sequence with the key, or CheckerState.NONE if there is none
+	 */
+	public int indexOf(int key)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			if (getKey(i) == key)
+				return i;
+		}
+		return CheckerState.NONE;
+	}
+
+	/**
+	 * Swap two sequences in the list, used for move ordering
+	 *
+	 * @param i Index of the first sequence
+	 * @param j Index of the second sequence
+	 */
+	public void swap(int i, int j)
+	{
+		if (i == j)
+			return;
+		int n = Math.max(hops[i], hops[j]);
+		for (int h = 0; h < n; h++)
+		{
+			int tmp = steps[i * MAX_HOPS + h];
+			steps[i * MAX_HOPS + h] = steps[j * MAX_HOPS + h];
+			steps[j * MAX_HOPS + h] = tmp;
+		}
+		int tmp = hops[i]; hops[i] = hops[j]; hops[j] = tmp;
+		tmp = captured[i]; captured[i] = captured[j]; captured[j] = tmp;
+	}
+
+	/**
+	 * Get a sequence as text, e.g. "(5,2)-(4,3)" or "(5,2)x(3,4)x(1,2)", for tracing and debugging
+	 *
+	 * @param i Index of the sequence
+	 * @return String Return the sequence as text
+	 */
+	public String toString(int i)
+	{
+		int from = getFrom(i);
+		StringBuilder sb = new StringBuilder();
+		sb.append('(').append(CheckerState.row(from)).append(',').append(CheckerState.col(from)).append(')');
+		for (int hop = 0; hop < hops[i]; hop++)
+		{
+			int to = CheckerMove.getTo(getStep(i, hop));
+			sb.append(isCapture(i) ? 'x' : '-');
+			sb.append('(').append(CheckerState.row(to)).append(',').append(CheckerState.col(to)).append(')');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Set one hop of the sequence being built by the generator
+	 *
+	 * @param hop Index of the hop
+	 * @param move Hop packed by CheckerMove
+	 */
+	void setStep(int hop, int move)
+	{
+		path[hop] = move;
+	}
+
+	/**
+	 * Add a sequence of one hop that captures nothing
+	 *
+	 * @param move Action packed by CheckerMove
+	 */
+	void addSingle(int move)
+	{
+		if (size == hops.length)
+			grow();
+		steps[size * MAX_HOPS] = move;
+		hops[size] = 1;
+		captured[size] = 0;
+		size++;
+	}
+
+	/**
+	 * Add the sequence being built by the generator, unless a sequence of the same piece added since first ends on the same square
+	 * with the same pieces captured, which leads to the same position
+	 *
+	 * @param first Index of the first sequence of the piece
+	 * @param count Number of hops of the sequence
+	 * @param mask Bit mask of the squares of the captured pieces
+	 */
+	void addSequence(int first, int count, int mask)
+	{
+		int to = CheckerMove.getTo(path[count - 1]);
+		for (int i = first; i < size; i++)
+		{
+			if (captured[i] == mask && getTo(i) == to)
+				return;
+		}
+		if (size == hops.length)
+			grow();
+		for (int h = 0; h < count; h++)
+			steps[size * MAX_HOPS + h] = path[h];
+		hops[size] = count;
+		captured[size] = mask;
+		size++;
+	}
+
+	/**
+	 * Double the number of sequences the list holds, so that no legal action is left out
+	 *
+	 */
+	private void grow()
+	{
+		steps = Arrays.copyOf(steps, steps.length * 2);
+		hops = Arrays.copyOf(hops, hops.length * 2);
+		captured = Arrays.copyOf(captured, captured.length * 2);
+	}
+
+	/**
+	 * Getter to get the move list for single-hop actions used by the generator
+	 *
+	 * @return CheckerMoveList Return the scratch move list
+	 */
+	CheckerMoveList getSingles()
+	{
+		return singles;
+	}
+}
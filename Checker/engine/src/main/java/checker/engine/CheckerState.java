@@ -0,0 +1,640 @@
+package checker.engine;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerState
+{
+	/**
+	 * Constant value for number of playable (black) squares on the checker board
+	 */
+	public final static int SQUARES = 32;
+	/**
+	 * Constant value for number of rows (and columns) of the checker board
+	 */
+	public final static int ROWS = 8;
+	/**
+	 * Constant value for the number of rows each side fills with men in the starting position
+	 */
+	public final static int PLAY_ROWS = ROWS/2 - 1;
+	/**
+	 * Constant value for the orange side, which starts at the bottom of the board and moves first
+	 */
+	public final static int ORANGE = 0;
+	/**
+	 * Constant value for the white side, which starts at the top of the board
+	 */
+	public final static int WHITE = 1;
+	/**
+	 * Constant value to indicate an empty square or an off-board location
+	 */
+	public final static int NONE = -1;
+	/**
+	 * Constant value for the maximum number of actions that can be taken back with unmakeMove
+	 */
+	public final static int MAX_UNDO = 256;
+	
+	/**
+	 * Undo record flag: the captured piece was a king
+	 */
+	private final static int UNDO_CAPTURED_KING = 1 << 16;
+	/**
+	 * Undo record flag: the piece was crowned by the action
+	 */
+	private final static int UNDO_CROWNED = 1 << 17;
+	/**
+	 * Undo record flag: the action ended the turn and passed the move to the opponent
+	 */
+	private final static int UNDO_TURN_PASSED = 1 << 18;
+
+	/**
+	 * Bit mask of squares occupied by orange pieces (men and kings)
+	 */
+	private int orange;
+	/**
+	 * Bit mask of squares occupied by white pieces (men and kings)
+	 */
+	private int white;
+	/**
+	 * Bit mask of squares occupied by kings of either side
+	 */
+	private int kings;
+	/**
+	 * Side to move (ORANGE or WHITE)
+	 */
+	private int sideToMove;
+	/**
+	 * Zobrist hash of the pieces and side to move, updated incrementally on every change
+	 */
+	private long hash;
+	/**
+	 * Piece-square table of an evaluation, indexed by tableIndex, or null if no table is attached
+	 */
+	private int[] table = null;
+	/**
+	 * Sum of the table values of the orange pieces minus those of the white pieces, updated incrementally on every change
+	 */
+	private int tableScore;
+	/**
+	 * Undo records of the actions played by makeMove, most recent last
+	 * <br> bits 0-4: from square, bits 5-9: to square, bits 10-15: captured square + 1, bits 16-18: UNDO flags
+	 */
+	private final int[] undo = new int[MAX_UNDO];
+	/**
+	 * Number of undo records on the undo stack
+	 */
+	private int undoCount;
+
+	/**
+	 * Constructor of CheckerState class
+	 * <p>
+	 * This constructor will create an empty board with orange to move. Call setup() for the starting position.
+	 *
+	 */
+	public CheckerState()
+	{
+		clear();
+	}
+
+	/**
+	 * Convert a board location to its square index
+	 * <p>
+	 * Playable squares are those where (row + col) is even. They are numbered 0..31 from the top-left, four per row.
+	 *
+	 * @param row Row number of tile
+	 * @param col Column number of tile
+	 * @return int Return square index, or NONE if the location is off-board or not a playable square
+	 */
+	public static int square(int row, int col)
+	{
+		if (row < 0 || row >= ROWS || col < 0 || col >= ROWS || ((row + col) & 1) != 0)
+			return NONE;
+		return (row << 2) | (col >> 1);
+	}
+
+	/**
+	 * Get the row number of a square
+	 *
+	 * @param sq Square index
+	 * @return int Return row number of the square
+	 */
+	public static int row(int sq)
+	{
+		return sq >> 2;
+	}
+
+	/**
+	 * Get the column number of a square
+	 *
+	 * @param sq Square index
+	 * @return int Return column number of the square
+	 */
+	public static int col(int sq)
+	{
+		return ((sq & 3) << 1) | ((sq >> 2) & 1);
+	}
+
+	/**
+	 * Get the opposite side
+	 *
+	 * @param side ORANGE or WHITE
+	 * @return int Return the other side
+	 */
+	public static int opponent(int side)
+	{
+		return side ^ 1;
+	}
+
+	/**
+	 * Get the row number where the men of a side are crowned
+	 *
+	 * @param side ORANGE or WHITE
+	 * @return int Return king row of the side
+	 */
+	public static int kingRow(int side)
+	{
+		return (side == ORANGE) ? 0 : ROWS - 1;
+	}
+
+	/**
+	 * Remove all pieces from the board and give the move to orange
+	 *
+	 */
+	public void clear()
+	{
+		orange = 0;
+		white = 0;
+		kings = 0;
+		sideToMove = ORANGE;
+		hash = 0;
+		tableScore = 0;
+		undoCount = 0;
+	}
+
+	/**
+	 * Set up the starting position: three rows of men for each side, orange to move
+	 *
+	 */
+	public void setup()
+	{
+		clear();
+		for (int row = 0; row < PLAY_ROWS; row++)
+		{
+			for (int col = row % 2; col < ROWS; col += 2)
+			{
+				addPiece(square(row, col), WHITE, false);
+				addPiece(square(ROWS - 1 - row, ROWS - 1 - col), ORANGE, false);
+			}
+		}
+	}
+
+	/**
+	 * Copy another state into this one
+	 * <p>
+	 * Only the position is copied. The undo stack of this state is emptied. The piece-square table of this state is kept, and its score
+	 * is worked out again if the other state has a different table.
+	 *
+	 * @param other State to copy from
+	 */
+	public void copyFrom(CheckerState other)
+	{
+		this.orange = other.orange;
+		this.white = other.white;
+		this.kings = other.kings;
+		this.sideToMove = other.sideToMove;
+		this.hash = other.hash;
+		this.undoCount = 0;
+		if (this.table == other.table)
+			this.tableScore = other.tableScore;
+		else
+			computeTableScore();
+	}
+
+	/**
+	 * Get the index of a piece in a piece-square table
+	 *
+	 * @param side ORANGE or WHITE
+	 * @param king Set for a king, else a man
+	 * @param sq Square index
+	 * @return int Return index into a table of 2 * 2 * SQUARES values
+	 */
+	public static int tableIndex(int side, boolean king, int sq)
+	{
+		return ((side << 1) | (king ? 1 : 0)) * SQUARES + sq;
+	}
+
+	/**
+	 * Attach a piece-square table, whose sum over the pieces is then kept up to date on every change like the hash
+	 * <p>
+	 * This lets an evaluation read its material and positional terms in constant time instead of scanning the board.
+	 *
+	 * @param table Value of each piece on each square from the view of its own side, indexed by tableIndex, or null to detach
+	 */
+	public void setPieceSquareTable(int[] table)
+	{
+		this.table = table;
+		computeTableScore();
+	}
+
+	/**
+	 * Getter to get the attached piece-square table
+	 *
+	 * @return int[] Return the table, or null if none is attached
+	 */
+	public int[] getPieceSquareTable()
+	{
+		return table;
+	}
+
+	/**
+	 * Getter to get the sum of the piece-square table over the pieces
+	 *
+	 * @return int Return the sum for the orange pieces minus the sum for the white pieces, 0 if no table is attached
+	 */
+	public int getPieceSquareScore()
+	{
+		return tableScore;
+	}
+
+	/**
+	 * Work out the sum of the piece-square table over all pieces from scratch
+	 *
+	 */
+	private void computeTableScore()
+	{
+		tableScore = 0;
+		if (table == null)
+			return;
+		for (int pieces = orange | white; pieces != 0; pieces &= pieces - 1)
+		{
+			int sq = Integer.numberOfTrailingZeros(pieces);
+			int side = getSide(sq);
+			int value = table[tableIndex(side, isKing(sq), sq)];
+			tableScore += (side == ORANGE) ? value : -value;
+		}
+	}
+
+	/**
+	 * Getter to get side to move
+	 *
+	 * @return int Return side to move (ORANGE or WHITE)
+	 */
+	public int getSideToMove()
+	{
+		return sideToMove;
+	}
+
+	/**
+	 * Setter to set side to move
+	 *
+	 * @param side Side to move (ORANGE or WHITE)
+	 */
+	public void setSideToMove(int side)
+	{
+		if (side != sideToMove)
+			hash ^= CheckerZobrist.WHITE_TO_MOVE;
+		this.sideToMove = side;
+	}
+	
+	/**
+	 * Getter to get the Zobrist hash of the position
+	 *
+	 * @return long Return hash of the pieces and side to move
+	 */
+	public long getHash()
+	{
+		return hash;
+	}
+
+	/**
+	 * Getter to get the bit mask of all pieces of a side
+	 *
+	 * @param side ORANGE or WHITE
+	 * @return int Return bit mask of squares occupied by the side
+	 */
+	public int getPieces(int side)
+	{
+		return (side == ORANGE) ? orange : white;
+	}
+
+	/**
+	 * Getter to get the bit mask of men of a side
+	 *
+	 * @param side ORANGE or WHITE
+	 * @return int Return bit mask of squares occupied by men of the side
+	 */
+	public int getMen(int side)
+	{
+		return getPieces(side) & ~kings;
+	}
+
+	/**
+	 * Getter to get the bit mask of kings of a side
+	 *
+	 * @param side ORANGE or WHITE
+	 * @return int Return bit mask of squares occupied by kings of the side
+	 */
+	public int getKings(int side)
+	{
+		return getPieces(side) & kings;
+	}
+
+	/**
+	 * Getter to get the bit mask of all occupied squares
+	 *
+	 * @return int Return bit mask of occupied squares
+	 */
+	public int getOccupied()
+	{
+		return orange | white;
+	}
+
+	/**
+	 * Getter to get the bit mask of all empty squares
+	 *
+	 * @return int Return bit mask of empty squares
+	 */
+	public int getEmpty()
+	{
+		return ~(orange | white);
+	}
+
+	/**
+	 * Check if the square is empty
+	 *
+	 * @param sq Square index, NONE is treated as not free
+	 * @return boolean Return true if the square is on the board and empty
+	 */
+	public boolean isFree(int sq)
+	{
+		return (sq != NONE) && (((orange | white) >>> sq) & 1) == 0;
+	}
+
+	/**
+	 * Check if the square is occupied by a piece of the given side
+	 *
+	 * @param sq Square index, NONE is treated as not occupied
+	 * @param side ORANGE or WHITE
+	 * @return boolean Return true if the square is occupied by the side
+	 */
+	public boolean isOccupiedBy(int sq, int side)
+	{
+		return (sq != NONE) && ((getPieces(side) >>> sq) & 1) != 0;
+	}
+
+	/**
+	 * Check if the square is occupied by a king
+	 *
+	 * @param sq Square index
+	 * @return boolean Return true if there is a king on the square
+	 */
+	public boolean isKing(int sq)
+	{
+		return (sq != NONE) && ((kings >>> sq) & 1) != 0;
+	}
+
+	/**
+	 * Get the side owning the piece on a square
+	 *
+	 * @param sq Square index
+	 * @return int Return ORANGE, WHITE or NONE if the square is empty
+	 */
+	public int getSide(int sq)
+	{
+		if (isOccupiedBy(sq, ORANGE))
+			return ORANGE;
+		else if (isOccupiedBy(sq, WHITE))
+			return WHITE;
+		else
+			return NONE;
+	}
+
+	/**
+	 * Count the pieces of a side
+	 *
+	 * @param side ORANGE or WHITE
+	 * @return int Return number of pieces (men and kings) of the side
+	 */
+	public int countPieces(int side)
+	{
+		return Integer.bitCount(getPieces(side));
+	}
+
+	/**
+	 * Place a piece on an empty square
+	 *
+	 * @param sq Square index
+	 * @param side ORANGE or WHITE
+	 * @param king Place a king if set, else a man
+	 */
+	public void addPiece(int sq, int side, boolean king)
+	{
+		int bit = 1 << sq;
+		hash ^= CheckerZobrist.piece(side, king, sq);
+		if (table != null)
+			tableScore += (side == ORANGE) ? table[tableIndex(side, king, sq)] : -table[tableIndex(side, king, sq)];
+		if (side == ORANGE)
+			orange |= bit;
+		else
+			white |= bit;
+		if (king)
+			kings |= bit;
+		else
+			kings &= ~bit;
+	}
+
+	/**
+	 * Remove whatever piece is on a square
+	 *
+	 * @param sq Square index
+	 */
+	public void removePiece(int sq)
+	{
+		int side = getSide(sq);
+		if (side != NONE)
+		{
+			hash ^= CheckerZobrist.piece(side, isKing(sq), sq);
+			if (table != null)
+				tableScore -= (side == ORANGE) ? table[tableIndex(side, isKing(sq), sq)] : -table[tableIndex(side, isKing(sq), sq)];
+		}
+		int bit = ~(1 << sq);
+		orange &= bit;
+		white &= bit;
+		kings &= bit;
+	}
+
+	/**
+	 * Move a piece from one square to another, keeping its side and rank
+	 *
+	 * @param from Square index where the piece is located
+	 * @param to Square index of the empty destination
+	 */
+	public void movePiece(int from, int to)
+	{
+		int side = getSide(from);
+		boolean king = isKing(from);
+		removePiece(from);
+		addPiece(to, side, king);
+	}
+
+	/**
+	 * Crown the piece on a square
+	 *
+	 * @param sq Square index
+	 */
+	public void crown(int sq)
+	{
+		if (!isFree(sq) && !isKing(sq))
+		{
+			int side = getSide(sq);
+			hash ^= CheckerZobrist.piece(side, false, sq) ^ CheckerZobrist.piece(side, true, sq);
+			if (table != null)
+			{
+				int change = table[tableIndex(side, true, sq)] - table[tableIndex(side, false, sq)];
+				tableScore += (side == ORANGE) ? change : -change;
+			}
+			kings |= 1 << sq;
+		}
+	}
+
+	/**
+	 * Play one step of an action for the piece on a square: move it, remove the captured piece if any, and crown it on its king row
+	 * <p>
+	 * Side to move is not changed, as a capture may have to be continued by the same piece.
+	 *
+	 * @param from Square index where the piece is located
+	 * @param to Square index of the empty destination
+	 * @param captured Square index of the captured opponent piece, or NONE
+	 * @return boolean Return true if the piece was crowned by this step
+	 */
+	public boolean play(int from, int to, int captured)
+	{
+		int side = getSide(from);
+		boolean king = isKing(from);
+		removePiece(from);
+		if (captured != NONE)
+			removePiece(captured);
+		boolean crowning = !king && (row(to) == kingRow(side));
+		addPiece(to, side, king || crowning);
+		return crowning;
+	}
+
+	/**
+	 * Make one step of an action for the side to move and push its undo record
+	 * <p>
+	 * The piece is moved, the captured piece removed and the piece crowned on its king row, as in play(). If the step is a capture and the
+	 * piece, not crowned by it, can capture again, the turn goes on and the next step must be made by the same piece from the to square.
+	 * Otherwise the move passes to the opponent. Nothing is allocated, so that a search can make and unmake millions of steps.
+	 *
+	 * @param from Square index where the piece is located
+	 * @param to Square index of the empty destination
+	 * @param captured Square index of the captured opponent piece, or NONE
+	 * @return boolean Return true if the move passed to the opponent, false if the same piece must continue capturing from to
+	 */
+	public boolean makeMove(int from, int to, int captured)
+	{
+		int record = from | (to << 5) | ((captured + 1) << 10);
+		if (isKing(captured))
+			record |= UNDO_CAPTURED_KING;
+		
+		boolean crowning = play(from, to, captured);
+		if (crowning)
+			record |= UNDO_CROWNED;
+		
+		boolean passed = (captured == NONE) || crowning || !CheckerMoveGenerator.hasCapture(this, to);
+		if (passed)
+		{
+			record |= UNDO_TURN_PASSED;
+			setSideToMove(opponent(sideToMove));
+		}
+		undo[undoCount++] = record;
+		return passed;
+	}
+
+	/**
+	 * Take back the last step made by makeMove, restoring the captured piece, the rank of the piece and the side to move
+	 *
+	 */
+	public void unmakeMove()
+	{
+		int record = undo[--undoCount];
+		int from = record & 31;
+		int to = (record >>> 5) & 31;
+		int captured = ((record >>> 10) & 63) - 1;
+		
+		if ((record & UNDO_TURN_PASSED) != 0)
+			setSideToMove(opponent(sideToMove));
+		int side = getSide(to);
+		boolean king = isKing(to) && (record & UNDO_CROWNED) == 0;
+		removePiece(to);
+		addPiece(from, side, king);
+		if (captured != NONE)
+			addPiece(captured, opponent(side), (record & UNDO_CAPTURED_KING) != 0);
+	}
+
+	/**
+	 * Getter to get the number of steps that can be taken back with unmakeMove
+	 *
+	 * @return int Return number of undo records
+	 */
+	public int getUndoCount()
+	{
+		return undoCount;
+	}
+
+	/**
+	 * Check if another object is a state with the same pieces and side to move
+	 *
+	 * @param obj Object to compare with
+	 * @return boolean Return true if both states hold the same position
+	 */
+	public boolean equals(Object obj)
+	{
+		if (!(obj instanceof CheckerState))
+			return false;
+		CheckerState other = (CheckerState) obj;
+		return (orange == other.orange) && (white == other.white) && (kings == other.kings) && (sideToMove == other.sideToMove);
+	}
+
+	/**
+	 * Get hash code of the state, derived from the Zobrist hash
+	 *
+	 * @return int Return hash code
+	 */
+	public int hashCode()
+	{
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * Get the state as text, one row per line, for tracing and debugging
+	 * <p>
+	 * o/w are orange/white men, O/W are kings, '.' is an empty playable square and ' ' a non-playable square
+	 *
+	 * @return String Return the board drawing
+	 */
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int row = 0; row < ROWS; row++)
+		{
+			for (int col = 0; col < ROWS; col++)
+			{
+				int sq = square(row, col);
+				if (sq == NONE)
+					sb.append(' ');
+				else if (isOccupiedBy(sq, ORANGE))
+					sb.append(isKing(sq) ? 'O' : 'o');
+				else if (isOccupiedBy(sq, WHITE))
+					sb.append(isKing(sq) ? 'W' : 'w');
+				else
+					sb.append('.');
+			}
+			sb.append('\n');
+		}
+		sb.append(sideToMove == ORANGE ? "ORANGE to move" : "WHITE to move");
+		return sb.toString();
+	}
+}
@@ -0,0 +1,527 @@
+package checker.engine;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public final class CheckerTrace
+{
+	/**
+	 * Constant value for the trace level that records nothing
+	 */
+	public final static int OFF = 0;
+	/**
+	 * Constant value for the trace level of game events, e.g. a player surrenders
+	 */
+	public final static int INFO = 1;
+	/**
+	 * Constant value for the trace level of the actions played and selected
+	 */
+	public final static int DEBUG = 2;
+	/**
+	 * Constant value for the trace level of every candidate action tried while deciding
+	 */
+	public final static int TRACE = 3;
+	/**
+	 * Constant value for the largest number of arguments of an event
+	 */
+	public final static int MAX_ARGS = 8;
+	/**
+	 * Constant value for the system property of the trace level: off, info, debug or trace
+	 */
+	public final static String LEVEL_PROPERTY = "checker.trace";
+	/**
+	 * Constant value for the system property of the trace file, "-" for the console
+	 */
+	public final static String FILE_PROPERTY = "checker.trace.file";
+	/**
+	 * Constant value for the system property of the number of events the ring buffer holds, rounded up to a power of 2
+	 */
+	public final static String CAPACITY_PROPERTY = "checker.trace.capacity";
+	/**
+	 * Constant value for the default trace file
+	 */
+	public final static String FILE = "checker-trace.log";
+	/**
+	 * Constant value for the default number of events the ring buffer holds
+	 */
+	public final static int CAPACITY = 1 << 16;
+	/**
+	 * Constant value for the names of the trace levels
+	 */
+	private final static String[] LEVEL_NAMES = { "OFF", "INFO", "DEBUG", "TRACE" };
+	/**
+	 * Constant value for the trace level set by the system property, fixed when the class is loaded so that a disabled level is a
+	 * constant comparison the compiler removes
+	 */
+	public final static int LEVEL = parseLevel(System.getProperty(LEVEL_PROPERTY));
+
+	/**
+	 * Constant value for the shift of the level in an event id
+	 */
+	private final static int LEVEL_SHIFT = 24;
+	/**
+	 * Constant value for the number of longs of an event in the ring buffer: time, event id, thread id and arguments
+	 */
+	private final static int SLOT_LONGS = 3 + MAX_ARGS;
+	/**
+	 * Constant value for the time the drainer waits when the ring buffer is empty
+	 */
+	private final static long IDLE_NANOS = 1000000L;
+
+	/**
+	 * Format of each registered event, indexed by event id without the level
+	 */
+	private static volatile String[] formats = new String[64];
+	/**
+	 * Number of registered events
+	 */
+	private static int count = 0;
+	/**
+	 * Number of events the ring buffer holds, a power of 2
+	 */
+	private final static int capacity;
+	/**
+	 * Time, event id, thread id and arguments of each event in the ring buffer, or null when tracing is off
+	 */
+	private final static long[] slots;
+	/**
+	 * Sequence number + 1 of the event last published in each slot of the ring buffer
+	 */
+	private final static AtomicLongArray published;
+	/**
+	 * Sequence number of the next event to record
+	 */
+	private final static AtomicLong head = new AtomicLong();
+	/**
+	 * Sequence number of the next event to drain
+	 */
+	private final static AtomicLong tail = new AtomicLong();
+	/**
+	 * Number of events dropped because the ring buffer was full
+	 */
+	private final static AtomicLong dropped = new AtomicLong();
+	/**
+	 * Time the class was loaded, event times are written relative to it
+	 */
+	private final static long start = System.nanoTime();
+	/**
+	 * Thread that drains the ring buffer to the trace file, or null when tracing is off
+	 */
+	private final static Thread drainer;
+	/**
+	 * Flag set at shutdown to drain the remaining events and close the trace file
+	 */
+	private static volatile boolean closing = false;
+
+	static
+	{
+		if (LEVEL == OFF)
+		{
+			capacity = 0;
+			slots = null;
+			published = null;
+			drainer = null;
+		}
+		else
+		{
+			int size = Math.max(2, Integer.getInteger(CAPACITY_PROPERTY, CAPACITY));
+			capacity = Integer.highestOneBit(size - 1) << 1;
+			slots = new long[capacity * SLOT_LONGS];
+			published = new AtomicLongArray(capacity);
+			drainer = new Thread(CheckerTrace::drain, "CheckerTrace");
+			drainer.setDaemon(true);
+			drainer.start();
+			Runtime.getRuntime().addShutdownHook(new Thread(CheckerTrace::close, "CheckerTrace-shutdown"));
+		}
+	}
+
+	/**
+	 * Constructor of CheckerTrace class, not used as all members are static
+	 *
+	 */
+	private CheckerTrace()
+	{
+	}
+
+	/**
+	 * Check if a trace level is recorded, to guard a call site that has to work out its arguments
+	 *
+	 * @param level INFO, DEBUG or TRACE
+	 * @return boolean Return true if events of the level are recorded
+	 */
+	public static boolean isEnabled(int level)
+	{
+		return level <= LEVEL;
+	}
+
+	/**
+	 * Register an event, normally once into a static final field of the class that records it
+	 * <p>
+	 * The format is written with the arguments of each event in turn: "{}" writes a number, "{side}" ORANGE or WHITE,
+	 * "{bool}" true or false and "{move}" an action packed by CheckerMove. Formatting happens on the drainer thread only.
+	 *
+	 * @param level INFO, DEBUG or TRACE
+	 * @param format Format of the event
+	 * @return int Return event id to record the event with
+	 */
+	public static synchronized int event(int level, String format)
+	{
+		String[] table = formats;
+		if (count == table.length)
+			table = Arrays.copyOf(table, count * 2);
+		table[count] = format;
+		formats = table;
+		return (level << LEVEL_SHIFT) | count++;
+	}
+
+	/**
+	 * Record an event without arguments
+	 *
+	 * @param event Event id from event()
+	 */
+	public static void log(int event)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, 0, 0, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Record an event with 1 argument
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 */
+	public static void log(int event, long a0)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, 0, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Record an event with 2 arguments
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 */
+	public static void log(int event, long a0, long a1)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, a1, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Record an event with 3 arguments
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 * @param a2 Argument
+	 */
+	public static void log(int event, long a0, long a1, long a2)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, a1, a2, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Record an event with 4 arguments
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 * @param a2 Argument
+	 * @param a3 Argument
+	 */
+	public static void log(int event, long a0, long a1, long a2, long a3)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, a1, a2, a3, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Record an event with 5 arguments
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 * @param a2 Argument
+	 * @param a3 Argument
+	 * @param a4 Argument
+	 */
+	public static void log(int event, long a0, long a1, long a2, long a3, long a4)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, a1, a2, a3, a4, 0, 0, 0);
+	}
+
+	/**
+	 * Record an event with 6 arguments
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 * @param a2 Argument
+	 * @param a3 Argument
+	 * @param a4 Argument
+	 * @param a5 Argument
+	 */
+	public static void log(int event, long a0, long a1, long a2, long a3, long a4, long a5)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, a1, a2, a3, a4, a5, 0, 0);
+	}
+
+	/**
+	 * Record an event with 7 arguments
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 * @param a2 Argument
+	 * @param a3 Argument
+	 * @param a4 Argument
+	 * @param a5 Argument
+	 * @param a6 Argument
+	 */
+	public static void log(int event, long a0, long a1, long a2, long a3, long a4, long a5, long a6)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, a1, a2, a3, a4, a5, a6, 0);
+	}
+
+	/**
+	 * Record an event with 8 arguments
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 * @param a2 Argument
+	 * @param a3 Argument
+	 * @param a4 Argument
+	 * @param a5 Argument
+	 * @param a6 Argument
+	 * @param a7 Argument
+	 */
+	public static void log(int event, long a0, long a1, long a2, long a3, long a4, long a5, long a6, long a7)
+	{
+		if ((event >>> LEVEL_SHIFT) <= LEVEL)
+			record(event, a0, a1, a2, a3, a4, a5, a6, a7);
+	}
+
+	/**
+	 * Getter to get number of events dropped because the drainer fell behind
+	 *
+	 * @return long Return number of dropped events
+	 */
+	public static long getDropped()
+	{
+		return dropped.get();
+	}
+
+	/**
+	 * Claim the next slot of the ring buffer and publish an event into it
+	 * <p>
+	 * The caller never waits: if the ring buffer is full the event is dropped and counted.
+	 *
+	 * @param event Event id from event()
+	 * @param a0 Argument
+	 * @param a1 Argument
+	 * @param a2 Argument
+	 * @param a3 Argument
+	 * @param a4 Argument
+	 * @param a5 Argument
+	 * @param a6 Argument
+	 * @param a7 Argument
+	 */
+	private static void record(int event, long a0, long a1, long a2, long a3, long a4, long a5, long a6, long a7)
+	{
+		long seq;
+		do
+		{
+			seq = head.get();
+			if (seq - tail.get() >= capacity)
+			{
+				dropped.incrementAndGet();
+				return;
+			}
+		} while (!head.compareAndSet(seq, seq + 1));
+
+		int index = (int) seq & (capacity - 1);
+		int base = index * SLOT_LONGS;
+		slots[base] = System.nanoTime();
+		slots[base + 1] = event;
+		slots[base + 2] = Thread.currentThread().getId();
+		slots[base + 3] = a0;
+		slots[base + 4] = a1;
+		slots[base + 5] = a2;
+		slots[base + 6] = a3;
+		slots[base + 7] = a4;
+		slots[base + 8] = a5;
+		slots[base + 9] = a6;
+		slots[base + 10] = a7;
+		// release the slot only after its contents are written
+		published.lazySet(index, seq + 1);
+	}
+
+	/**
+	 * Drain the ring buffer to the trace file until shutdown, on the drainer thread
+	 *
+	 */
+	private static void drain()
+	{
+		String file = System.getProperty(FILE_PROPERTY, FILE);
+		Writer out;
+		try
+		{
+			out = file.equals("-") ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8) :
+				Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8);
+		}
+		catch (IOException e)
+		{
+			System.err.println("CheckerTrace: couldn't open " + file + ", tracing to the console: " + e.getMessage());
+			out = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+		}
+		out = new BufferedWriter(out, 1 << 16);
+
+		StringBuilder line = new StringBuilder(256);
+		long reported = 0;
+		long next = tail.get();
+		try
+		{
+			while (true)
+			{
+				int index = (int) next & (capacity - 1);
+				if (published.get(index) == next + 1)
+				{
+					line.setLength(0);
+					format(index * SLOT_LONGS, line);
+					// the slot may be reused once the tail moves past it
+					tail.lazySet(++next);
+					out.append(line);
+					continue;
+				}
+
+				long lost = dropped.get();
+				if (lost != reported)
+				{
+					out.append("CheckerTrace: ").append(Long.toString(lost - reported)).append(" events dropped\n");
+					reported = lost;
+				}
+				out.flush();
+				if (closing && head.get() == next)
+					break;
+				LockSupport.parkNanos(IDLE_NANOS);
+			}
+			if (file.equals("-"))
+				out.flush();
+			else
+				out.close();
+		}
+		catch (IOException e)
+		{
+			System.err.println("CheckerTrace: couldn't write " + file + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Format an event of the ring buffer as one line: microseconds since start, level, thread id and message
+	 *
+	 * @param base Index of the first long of the event in the ring buffer
+	 * @param line Buffer the line is appended to
+	 */
+	private static void format(int base, StringBuilder line)
+	{
+		int event = (int) slots[base + 1];
+		int level = event >>> LEVEL_SHIFT;
+		String format = formats[event & ((1 << LEVEL_SHIFT) - 1)];
+
+		long micros = (slots[base] - start) / 1000L;
+		line.append(micros / 1000000L).append('.');
+		String fraction = Long.toString(micros % 1000000L);
+		for (int i = fraction.length(); i < 6; i++)
+			line.append('0');
+		line.append(fraction).append(' ').append(LEVEL_NAMES[level]).append(" #").append(slots[base + 2]).append(' ');
+
+		int arg = 0;
+		for (int i = 0; i < format.length(); i++)
+		{
+			char c = format.charAt(i);
+			int end = (c == '{') ? format.indexOf('}', i) : -1;
+			if (end < 0 || arg == MAX_ARGS)
+			{
+				line.append(c);
+				continue;
+			}
+			long value = slots[base + 3 + arg++];
+			switch (format.substring(i + 1, end))
+			{
+				case "side":
+					line.append((value == CheckerState.ORANGE) ? "ORANGE" : (value == CheckerState.WHITE) ? "WHITE" : "NONE");
+					break;
+				case "bool":
+					line.append(value != 0);
+					break;
+				case "move":
+					line.append(CheckerMove.toString((int) value));
+					break;
+				default:
+					line.append(value);
+					break;
+			}
+			i = end;
+		}
+		line.append('\n');
+	}
+
+	/**
+	 * Wait for the drainer to write the remaining events and close the trace file, at shutdown
+	 *
+	 */
+	private static void close()
+	{
+		closing = true;
+		LockSupport.unpark(drainer);
+		try
+		{
+			drainer.join(1000L);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Parse a trace level
+	 *
+	 * @param name off, info, debug or trace in any case, or null
+	 * @return int Return trace level, OFF if the name is null or unknown
+	 */
+	private static int parseLevel(String name)
+	{
+		if (name != null)
+		{
+			for (int level = 0; level < LEVEL_NAMES.length; level++)
+			{
+				if (LEVEL_NAMES[level].equalsIgnoreCase(name.trim()))
+					return level;
+			}
+		}
+		return OFF;
+	}
+}
@@ -0,0 +1,67 @@
+package checker.engine;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerZobrist
+{
+	/**
+	 * Fixed seed for the random keys, so that hash values are the same in every run and every process
+	 */
+	private final static long SEED = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Random key for each side, rank (0 for man, 1 for king) and square
+	 */
+	private final static long[][][] PIECE = new long[2][2][CheckerState.SQUARES];
+	/**
+	 * Random key toggled when white is to move
+	 */
+	public final static long WHITE_TO_MOVE;
+
+	static
+	{
+		long seed = SEED;
+		for (int side = 0; side < 2; side++)
+		{
+			for (int rank = 0; rank < 2; rank++)
+			{
+				for (int sq = 0; sq < CheckerState.SQUARES; sq++)
+				{
+					seed += SEED;
+					PIECE[side][rank][sq] = mix(seed);
+				}
+			}
+		}
+		seed += SEED;
+		WHITE_TO_MOVE = mix(seed);
+	}
+
+	/**
+	 * Get the key of a piece on a square
+	 *
+	 * @param side CheckerState.ORANGE or CheckerState.WHITE
+	 * @param king True for a king, false for a man
+	 * @param sq Square index
+	 * @return long Return the random key
+	 */
+	public static long piece(int side, boolean king, int sq)
+	{
+		return PIECE[side][king ? 1 : 0][sq];
+	}
+
+	/**
+	 * Scramble a counter value into a well distributed random key (SplitMix64 finaliser)
+	 *
+	 * @param z Counter value
+	 * @return long Return the random key
+	 */
+	private static long mix(long z)
+	{
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,341 @@
+package checker.gui;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import javax.management.JMException;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+
+import checker.ai.CheckerMetrics;
+import checker.ai.CheckerOpeningBook;
+import checker.ai.CheckerParallelSearch;
+import checker.ai.CheckerSearch;
+import checker.ai.CheckerStrategy;
+import checker.ai.CheckerTablebase;
+import checker.ai.CheckerTranspositionTable;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0   
+ * @since       24 Jun 2020  
+ */
+public class Checker implements CheckerGameListener
+{
+	/**
+	 * Game shown by the frame
+	 */
+	private CheckerGame game;
+	/**
+	 * JLabel for text display
+	 */
+	private JLabel label;
+	/**
+	 * JFrame for the Checker GUI
+	 */
+	private JFrame frame;
+	/**
+	 * Strategy of the computer player. If not set, the computer player plays the action with the lowest risk.
+	 */
+	private static CheckerStrategy strategy = null;
+	/**
+	 * Opening book of the computer player. If not set, every play is decided by the strategy.
+	 */
+	private static CheckerOpeningBook book = null;
+	/**
+	 * Metrics of the computer player. If not set, the computer player is not measured.
+	 */
+	private static CheckerMetrics metrics = null;
+	/**
+	 * Time each hop of the computer player is marked on the board in milliseconds, 0 if the hops are not marked
+	 */
+	private static int animateMillis = 0;
+	
+	/**
+	 * Constructor of Checker class
+	 * <p>                           
+	 * This constructor will construct Checker GUI frame and setup two players to start the game
+	 *   
+	 */
+	public Checker()
+	{
+		// default frame layout is BorderLayout
+		frame = new JFrame("Checker");
+		frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+		frame.setLayout(new BorderLayout()); // good practice to set layout explicitly
+		
+		game = setupGame();
+		game.setListener(this);
+		if (animateMillis > 0)
+			game.getComputerPlayer().setAnimation(new CheckerAnimation(game.getBoard(), animateMillis));
+		frame.add(game.getBoard(), BorderLayout.CENTER);
+				
+		label = new JLabel("Current Player: ORANGE ", SwingConstants.RIGHT);
+		Font font = new Font("Courier", Font.BOLD, 16);
+		label.setFont(font);
+		label.setPreferredSize(new Dimension(CheckerBoard.TILE_SIZE*3,30));
+		
+		frame.add (label, BorderLayout.NORTH);
+		
+		//frame.setSize(800, 800);
+		frame.pack(); // use the size specified by the components, and pack them.	
+		frame.setVisible(true);
+		
+	}
+
+	/**
+	 * Create a game in the starting position against the computer player set up by the program arguments, without any frame
+	 * <p>
+	 * The turns of the computer player are each run in a new thread.
+	 * 
+	 * @return CheckerGame Return the game
+	 */
+	public static CheckerGame setupGame()
+	{
+		CheckerGame game = new CheckerGame(true, turn -> new Thread(turn).start());
+		CheckerComputerPlayer playerWhite = game.getComputerPlayer();
+		playerWhite.setStrategy(strategy);
+		playerWhite.setOpeningBook(book);
+		playerWhite.setMetrics(metrics);
+		return game;
+	}
+	
+	/**
+	 * Reset and restart the checker game 
+	 * 
+	 */
+	public void restartChecker()
+	{	
+		frame.setVisible(false);
+		frame.dispose();
+		new Checker();
+	}
+	
+	/**
+	 * Start new checker game  
+	 */
+	public void startNewGame()
+	{
+		JPanel panel = new JPanel(new BorderLayout());
+		frame.add(panel, BorderLayout.SOUTH);
+		
+		JLabel label = new JLabel("Start New Game?", SwingConstants.RIGHT);
+		Font font = new Font("Courier", Font.BOLD, 16);
+		label.setFont(font);
+		label.setForeground(Color.RED);
+		label.setPreferredSize(new Dimension(CheckerBoard.TILE_SIZE*(CheckerBoard.TILES-1),30));
+		panel.add(label, BorderLayout.WEST);
+		
+		JButton yes = new JButton("Yes");
+		yes.setPreferredSize(new Dimension(50,30));
+		panel.add(yes, BorderLayout.CENTER);
+		yes.addActionListener(new ActionListener()
+			{
+				public void actionPerformed(ActionEvent e)
+				{
+					restartChecker();
+					frame.remove(panel);
+					frame.repaint();
+				}
+			});
+		
+		JButton no = new JButton("No");
+		no.setPreferredSize(new Dimension(50,30));
+		panel.add(no, BorderLayout.EAST);
+		no.addActionListener(new ActionListener()
+			{
+				public void actionPerformed(ActionEvent e)
+				{
+					System.out.println("Quit Checker. Thank for Playing");
+					System.exit(0);
+				}
+			});
+		
+		frame.pack();
+		frame.repaint();
+	}
+	
+	/**
+	 * Show the current player of the game 
+	 * 
+	 * @param game Game the play is turned over in
+	 * @param status Text naming the current player
+	 */
+	public void statusChanged(CheckerGame game, String status)
+	{
+		label.setText(status);
+	}
+	
+	/**
+	 * Show the winner of the game and offer a new game 
+	 * 
+	 * @param game Game that is over
+	 * @param status Text naming the winner
+	 */
+	public void gameOver(CheckerGame game, String status)
+	{
+		label.setText(status);
+		startNewGame();
+	}
+	/**
+	 * Load the endgame tablebase given by "-tablebase file" in the arguments
+	 * 
+	 * @param  args Program arguments
+	 * @return CheckerTablebase Return the tablebase, or null if none is given or it cannot be read
+	 */
+	private static CheckerTablebase loadTablebase(String[] args)
+	{
+		for (int i = 0; i + 1 < args.length; i++)
+		{
+			if (args[i].equals("-tablebase"))
+			{
+				try
+				{
+					return new CheckerTablebase(Paths.get(args[i + 1]));
+				}
+				catch (IOException e)
+				{
+					System.out.println("loadTablebase: couldn't read " + args[i + 1] + ", playing without tablebase: " + e.getMessage());
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Load the opening book given by "-book file" in the arguments
+	 * 
+	 * @param  args Program arguments
+	 * @return CheckerOpeningBook Return the book, or null if none is given or it cannot be read
+	 */
+	private static CheckerOpeningBook loadOpeningBook(String[] args)
+	{
+		for (int i = 0; i + 1 < args.length; i++)
+		{
+			if (args[i].equals("-book"))
+			{
+				try
+				{
+					return new CheckerOpeningBook(Paths.get(args[i + 1]));
+				}
+				catch (IOException e)
+				{
+					System.out.println("loadOpeningBook: couldn't read " + args[i + 1] + ", playing without book: " + e.getMessage());
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Create the metrics of the computer player if "-metrics [file]" is in the arguments
+	 * <p>
+	 * The metrics are registered with JMX as checker:type=CheckerMetrics,name=gui. If a file is given, the metrics are also written to it
+	 * as JSON when the program exits.
+	 * 
+	 * @param  args Program arguments
+	 * @return CheckerMetrics Return the metrics, or null if none are asked for
+	 */
+	private static CheckerMetrics createMetrics(String[] args)
+	{
+		for (int i = 0; i < args.length; i++)
+		{
+			if (args[i].equals("-metrics"))
+			{
+				CheckerMetrics metrics = new CheckerMetrics();
+				try
+				{
+					metrics.register("gui");
+				}
+				catch (JMException e)
+				{
+					System.out.println("createMetrics: couldn't register metrics: " + e.getMessage());
+				}
+				if (i + 1 < args.length && !args[i + 1].startsWith("-"))
+				{
+					String file = args[i + 1];
+					Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+						try
+						{
+							Files.write(Paths.get(file), (metrics.toJson() + "\n").getBytes(StandardCharsets.UTF_8));
+						}
+						catch (IOException e)
+						{
+							System.out.println("createMetrics: couldn't write " + file + ": " + e.getMessage());
+						}
+					}));
+				}
+				return metrics;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Get the time each hop of the computer player is marked on the board, given by "-animate millis" in the arguments, 
+	 * or HOP_MILLIS by default
+	 * 
+	 * @param  args Program arguments
+	 * @return int Return the time in milliseconds, 0 if there is no display
+	 */
+	private static int parseAnimateMillis(String[] args)
+	{
+		if (GraphicsEnvironment.isHeadless())
+			return 0;
+		int millis = CheckerAnimation.HOP_MILLIS;
+		for (int i = 0; i + 1 < args.length; i++)
+		{
+			if (args[i].equals("-animate"))
+				millis = Integer.parseInt(args[i + 1]);
+		}
+		return Math.max(0, millis);
+	}
+	
+	/**
+	 * Main method, entry point of the program to start Checker game 
+	 * <p>
+	 * With arguments "-search millis [megabytes]", the computer player uses alpha-beta search with the given time budget for each action
+	 * and a transposition table of the given memory cap. With arguments "-parallel millis threads", the search shares out the root actions
+	 * among the given number of threads. Either can be followed by "-tablebase file" to probe an endgame tablebase. With "-book file"
+	 * anywhere in the arguments, the computer player plays from an opening book while the position is in it. With "-metrics [file]"
+	 * anywhere in the arguments, the computer player is measured, see createMetrics. With "-animate millis" anywhere in the arguments, 
+	 * each hop of the computer player is marked on the board for the given time, 0 to turn the marks off.
+	 * 
+	 * @param  args Optional computer player strategy 
+	 */
+	public static void main(String[] args) 
+	{
+		metrics = createMetrics(args);
+		animateMillis = parseAnimateMillis(args);
+		if (args.length >= 2 && args[0].equals("-search"))
+		{
+			int megabytes = (args.length >= 3 && !args[2].startsWith("-")) ? Integer.parseInt(args[2]) : CheckerSearch.TABLE_MEGABYTES;
+			CheckerSearch search = new CheckerSearch(Long.parseLong(args[1]), CheckerSearch.MAX_DEPTH, new CheckerTranspositionTable(megabytes));
+			search.setTablebase(loadTablebase(args));
+			search.setMetrics(metrics);
+			strategy = search;
+		}
+		else if (args.length >= 3 && args[0].equals("-parallel"))
+		{
+			CheckerParallelSearch search = new CheckerParallelSearch(Long.parseLong(args[1]), CheckerSearch.MAX_DEPTH, Integer.parseInt(args[2]));
+			search.setTablebase(loadTablebase(args));
+			search.setMetrics(metrics);
+			strategy = search;
+		}
+		book = loadOpeningBook(args);
+		new Checker();
+	}
+
+}
@@ -0,0 +1,104 @@
+package checker.gui;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayDeque;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerAnimation implements ActionListener
+{
+	/**
+	 * Constant value for the default time each hop is shown in milliseconds
+	 */
+	public final static int HOP_MILLIS = 500;
+
+	/**
+	 * Swing timer stepping through the hops, so that the event dispatch thread is never blocked
+	 */
+	private final Timer timer;
+	/**
+	 * Hops waiting to be shown, each as {fromRow, fromCol, toRow, toCol}. Only used on the event dispatch thread.
+	 */
+	private final ArrayDeque<int[]> hops = new ArrayDeque<int[]>();
+	/**
+	 * Hop being shown, null if none
+	 */
+	private int[] shown = null;
+	/**
+	 * Board the hops are marked on
+	 */
+	private final CheckerBoard board;
+
+	/**
+	 * Constructor of CheckerAnimation class
+	 *
+	 * @param board Board the hops are marked on
+	 * @param hopMillis Time each hop is shown in milliseconds
+	 */
+	public CheckerAnimation(CheckerBoard board, int hopMillis)
+	{
+		this.board = board;
+		timer = new Timer(hopMillis, this);
+	}
+
+	/**
+	 * Replay a hop that is already played, by marking its tiles after the hops before it are shown
+	 * <p>
+	 * This can be called from any thread and returns at once. The player does not wait for the replay.
+	 *
+	 * @param fromRow Row number the piece left
+	 * @param fromCol Column number the piece left
+	 * @param toRow Row number the piece landed on
+	 * @param toCol Column number the piece landed on
+	 */
+	public void replay(int fromRow, int fromCol, int toRow, int toCol)
+	{
+		int[] hop = { fromRow, fromCol, toRow, toCol };
+		SwingUtilities.invokeLater(() -> {
+			hops.add(hop);
+			if (shown == null)
+			{
+				next();
+				timer.start();
+			}
+		});
+	}
+
+	/**
+	 * Show the next hop when the time of the shown one is up, or stop when none is left
+	 *
+	 * @param e Timer event
+	 */
+	public void actionPerformed(ActionEvent e)
+	{
+		next();
+		if (shown == null)
+			timer.stop();
+	}
+
+	/**
+	 * Unmark the shown hop and mark the next one waiting
+	 *
+	 */
+	private void next()
+	{
+		if (shown != null)
+		{
+			board.setTileMarked(shown[0], shown[1], false);
+			board.setTileMarked(shown[2], shown[3], false);
+		}
+		shown = hops.poll();
+		if (shown != null)
+		{
+			board.setTileMarked(shown[0], shown[1], true);
+			board.setTileMarked(shown[2], shown[3], true);
+		}
+	}
+}
@@ -0,0 +1,633 @@
+package checker.gui;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.event.ActionEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+
+import checker.engine.CheckerState;
+import checker.engine.CheckerTrace;
+
+@SuppressWarnings("serial")
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0   
+ * @since       24 Jun 2020  
+ */
+public class CheckerBoard extends JComponent implements MouseListener
+{
+	/**
+	 * Constant value for number of tiles at each side of the checker board
+	 */
+	public final static int TILES = 8;
+	
+	/**
+	 * Constant value for the tile size
+	 */
+	public final static int TILE_SIZE = 100;
+	
+	/**
+	 * Constant value of color of the playing tiles, where the pieces can occupy
+	 */
+	public final static Color TILE_PLAYING = Color.black;
+	
+	/**
+	 * Constant value of color of the tiles that are not playing tiles
+	 */
+	public final static Color TILE_NOT_PLAYING = Color.red;
+	
+	/**
+	 * Constant value of color to mark the tiles of a replayed hop
+	 */
+	public final static Color TILE_MARK = Color.yellow;
+	
+	/**
+	 * Constant value for the width of the mark of a tile
+	 */
+	public final static int MARK_WIDTH = 4;
+	
+	/**
+	 * Constant value for the offset of a piece from the edges of its tile
+	 */
+	public final static int PIECE_OFFSET = TILE_SIZE/4;
+	
+	/**
+	 * Trace event of an opponent piece that can capture after an action
+	 */
+	private final static int TRACE_CAPTURED = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: computeRiskToBeCaptured: piece ({},{}) gets to ({},{}) will be captured by opponent({},{})");
+	/**
+	 * Trace event of an action no opponent piece can capture after
+	 */
+	private final static int TRACE_NOT_CAPTURED = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: computeRiskToBeCaptured: piece ({},{}) gets to ({},{}), direction ({},{}): no capture");
+	/**
+	 * Trace event of an opponent king that can capture after an action
+	 */
+	private final static int TRACE_FLY_CAPTURED = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: computeRiskToBeFlyCaptured: if piece ({},{}) moves to ({},{}), can be captured by a king in ({},{}) direction");
+	/**
+	 * Trace event of an action that crowns the piece
+	 */
+	private final static int TRACE_BE_KING = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: computeActionRisk: piece ({},{}) become king if gets to ({},{}), set risk to 0");
+	/**
+	 * Trace event of the risk of an action
+	 */
+	private final static int TRACE_ACTION_RISK = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: computeActionRisk: piece ({},{}) if gets to ({},{}), risk is {}");
+	/**
+	 * Trace event of a tile clicked by the player
+	 */
+	private final static int TRACE_TILE_CLICKED = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: Tile[{}][{}] is clicked");
+		
+	/**
+	 * Stroke of the border drawn around a selected piece
+	 */
+	private final static BasicStroke SELECT_STROKE = new BasicStroke(3);
+	
+	/**
+	 * Authoritative game state of the board. The tiles and pieces only render this state.
+	 */
+	private CheckerState state = new CheckerState();
+	
+	/**
+	 * Directory of the pieces on the board indexed by playable square (see CheckerState.square), null for a free square
+	 */
+	private CheckerPiece piece[] = new CheckerPiece[CheckerState.SQUARES];
+	
+	/**
+	 * Marked squares, bit n set if square n is marked (see setTileMarked)
+	 */
+	private int marked = 0;
+	
+	/**
+	 * Square the mouse is pressed on, CheckerState.NONE if none. A release on the same square is a click.
+	 */
+	private int pressed = CheckerState.NONE;
+	
+	/**
+	 * Game the board belongs to
+	 */
+	private CheckerGame game;
+	
+	/**
+	 * Constructor of CheckerBoard class
+	 * <p>                           
+	 * This constructor will construct a nxn checker board (n is specified by TILES). The tiles are red and black in alternating order. 
+	 * Black tiles are playing tiles where the pieces can occupy. The board is a single component painting the tiles and the pieces from
+	 * the game state. A mouse click on a tile is mapped to its row and column, and invokes an event. 
+	 * 
+	 * @param  game The game the board belongs to
+	 */
+	public CheckerBoard(CheckerGame game)
+	{
+		super(); 
+		this.game = game;
+		this.setOpaque(true);
+		this.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+		Insets insets = getInsets();
+		this.setPreferredSize(new Dimension(TILES*TILE_SIZE + insets.left + insets.right, TILES*TILE_SIZE + insets.top + insets.bottom));
+		this.addMouseListener(this);
+	}
+	
+	/**
+	 * Getter to get the game state of the board 
+	 * 
+	 * @return CheckerState	Return the game state rendered by this board  
+	 */
+	public CheckerState getState()
+	{
+		return state;
+	}
+	
+	/**
+	 * Getter to get the game the board belongs to 
+	 * 
+	 * @return CheckerGame	Return the game of this board  
+	 */
+	public CheckerGame getGame()
+	{
+		return game;
+	}
+	
+	/**
+	 * Convert the color of a player to its side in the game state 
+	 * 
+	 * @param color Color of the player (ORANGE or WHITE)
+	 * @return int Return CheckerState.ORANGE or CheckerState.WHITE
+	 */
+	public static int toSide(Color color)
+	{
+		return (color == Color.ORANGE) ? CheckerState.ORANGE : CheckerState.WHITE;
+	}
+	
+	/**
+	 * Add a piece to the tile of the board 
+	 * 
+	 * @param piece Piece to add to the tile
+	 * @param row Row number of tile on the board for addition
+	 * @param col Column number of tile on the board for addition
+	 */
+	public void addPiece(CheckerPiece piece, int row, int col)
+	{		
+		int sq = CheckerState.square(row, col);
+		state.addPiece(sq, toSide(piece.getColor()), piece.getCrown());
+		this.piece[sq] = piece;
+		
+		// repaint the tile after the addition
+		repaintTile(row, col);
+	}
+	
+	/**
+	 * Remove a piece from the tile of the board 
+	 * 
+	 * @param piece Piece to remove from the tile
+	 * @param row Row number of tile on the board for removal
+	 * @param col Column number of tile on the board for removal
+	 */
+	public void removePiece(CheckerPiece piece, int row, int col)
+	{		
+		int sq = CheckerState.square(row, col);
+		state.removePiece(sq);
+		this.piece[sq] = null;
+		
+		// repaint the tile after the removal
+		repaintTile(row, col);
+	}
+	
+	/**
+	 * Mark or unmark a playing tile with a border, e.g. to replay the hops of the computer player
+	 * 
+	 * @param row Row number of tile
+	 * @param col Column number of tile
+	 * @param marked Draw the border if set, else remove it
+	 */
+	public void setTileMarked(int row, int col, boolean marked)
+	{
+		int sq = CheckerState.square(row, col);
+		if (sq == CheckerState.NONE)
+			return;
+		if (marked)
+			this.marked |= 1 << sq;
+		else
+			this.marked &= ~(1 << sq);
+		repaintTile(row, col);
+	}
+	
+	/**
+	 * Repaint a single tile, so that a play only repaints the tiles it changes
+	 * <p>
+	 * This can be called from any thread, the tile is painted on the event dispatch thread.
+	 * 
+	 * @param row Row number of tile
+	 * @param col Column number of tile
+	 */
+	public void repaintTile(int row, int col)
+	{
+		Insets insets = getInsets();
+		repaint(insets.left + col*TILE_SIZE, insets.top + row*TILE_SIZE, TILE_SIZE, TILE_SIZE);
+	}
+	
+	/**
+	 * Paint the tiles within the clip of the graphics, and the pieces on them from the game state
+	 * <p>
+	 * A piece is drawn from a sprite shared by all boards (see CheckerSprites). If the piece is selected, a blue round bold border is
+	 * drawn around it. A piece hidden to blink it is not drawn.
+	 * 
+	 * @param g Instance of Graphics for painting
+	 */
+	protected void paintComponent(Graphics g)
+	{
+		Graphics2D g2 = (Graphics2D) g;
+		Insets insets = getInsets();
+		Rectangle clip = g2.getClipBounds();
+		if (clip == null)
+			clip = new Rectangle(0, 0, getWidth(), getHeight());
+		
+		// only the tiles within the clip, i.e. the tiles repainted, are painted
+		int firstRow = Math.max(0, (clip.y - insets.top)/TILE_SIZE);
+		int lastRow = Math.min(TILES - 1, (clip.y + clip.height - 1 - insets.top)/TILE_SIZE);
+		int firstCol = Math.max(0, (clip.x - insets.left)/TILE_SIZE);
+		int lastCol = Math.min(TILES - 1, (clip.x + clip.width - 1 - insets.left)/TILE_SIZE);
+		
+		for (int row = firstRow; row <= lastRow; row++)
+		{
+			for (int col = firstCol; col <= lastCol; col++)
+			{
+				int x = insets.left + col*TILE_SIZE;
+				int y = insets.top + row*TILE_SIZE;
+				int sq = CheckerState.square(row, col);
+				if (sq == CheckerState.NONE)
+				{
+					g2.setColor(TILE_NOT_PLAYING);
+					g2.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+					continue;
+				}
+				
+				g2.setColor(TILE_PLAYING);
+				g2.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+				if ((marked & (1 << sq)) != 0)
+				{
+					g2.setColor(TILE_MARK);
+					for (int i = 0; i < MARK_WIDTH; i++)
+						g2.drawRect(x + i, y + i, TILE_SIZE - 1 - 2*i, TILE_SIZE - 1 - 2*i);
+				}
+				
+				CheckerPiece piece = this.piece[sq];
+				if (state.isFree(sq) || (piece != null && !piece.isVisible()))
+					continue;
+				g2.drawImage(CheckerSprites.getPiece(state.getSide(sq), state.isKing(sq)), x + PIECE_OFFSET, y + PIECE_OFFSET, null);
+				if (piece != null && piece.isSelect())
+				{
+					g2.setColor(Color.BLUE);
+					g2.setStroke(SELECT_STROKE);
+					g2.drawOval(x + PIECE_OFFSET, y + PIECE_OFFSET, CheckerSprites.SPRITE_SIZE, CheckerSprites.SPRITE_SIZE);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Get the square of the playing tile at a point of the board
+	 * 
+	 * @param x x-axis location of the point
+	 * @param y y-axis location of the point
+	 * @return int Return the square index, or CheckerState.NONE if the point is not on a playing tile
+	 */
+	private int squareAt(int x, int y)
+	{
+		Insets insets = getInsets();
+		return CheckerState.square(Math.floorDiv(y - insets.top, TILE_SIZE), Math.floorDiv(x - insets.left, TILE_SIZE));
+	}
+	
+	/**
+	 * Getter to get instance of the piece occupying the given tile specified by row and column 
+	 * 
+	 * @param row Row number of tile
+	 * @param col Column number of tile
+	 * @return CheckerPiece Return the piece on the tile, null if the tile is free or not a playing tile
+	 */
+	public CheckerPiece getPiece(int row, int col)
+	{
+		if (isTileInBound(row, col) && ((row + col) % 2 == 0))
+			return piece[CheckerState.square(row, col)];
+		else
+			return null;
+	}
+	
+	/**
+	 * Crown a piece on the board to become king 
+	 * 
+	 * @param piece Piece to crown, it must be located on the board
+	 */
+	public void crownPiece(CheckerPiece piece)
+	{
+		piece.setCrown();
+		state.crown(CheckerState.square(piece.getRow(), piece.getCol()));
+	}
+	
+	/**
+	 * Check if the given tile specified by row and column is within the boundary of the checker board 
+	 * 
+	 * @param row Row number of tile
+	 * @param col Column number of tile
+	 * @return boolean Return true if within boundary, else return false
+	 */
+	public boolean isTileInBound(int row, int col)
+	{
+		return ((row >= 0 && row < TILES && col >= 0 && col < TILES));
+	}
+
+	/**
+	 * Check if the given tile specified by row and column is un-occupied 
+	 * 
+	 * @param row Row number of tile
+	 * @param col Column number of tile
+	 * @return boolean Return true if un-occupied, else return false
+	 */
+	public boolean isTileFree(int row, int col)
+	{
+		if (isTileInBound(row, col))
+			return state.isFree(CheckerState.square(row, col));
+		else
+			return false;
+	}
+	
+	/**
+	 * Check if the given tile specified by row and column is occupied by piece with color
+	 * 
+	 * @param row Row number of tile
+	 * @param col Column number of tile
+	 * @param color Color of the piece
+	 * @return boolean Return true if occupied by piece matches the color, else return false
+	 */	
+	public boolean isTileOccupiedByPlayer(int row, int col, Color color)
+	{
+		if (isTileInBound(row, col))
+			return state.isOccupiedBy(CheckerState.square(row, col), toSide(color));
+		else
+			return false;
+		
+	}
+	
+	/**
+	 * Compute the risk of being captured by opponent piece if making a given action
+	 * 
+	 * @param piece Instance of the piece for action
+	 * @param dstRow Destined tile row number for the piece after the action
+	 * @param dstCol Destined tile column number for the piece after the action
+	 * @return int Return computed risk (CAPTURE_BY_PIECE or NO_CAPTURE)
+	 */	
+	public int computeRiskToBeCaptured(CheckerPiece piece, int dstRow, int dstCol)
+	{		
+		int capture = CheckerPiece.CAPTURE_BY_PIECE;
+		int noCapture = CheckerPiece.NO_CAPTURE;
+		
+		int srcRow = piece.getRow();
+		int srcCol = piece.getCol();
+		int rowDir = (dstRow - srcRow)/Math.abs(dstRow - srcRow);
+		int colDir = (dstCol - srcCol)/Math.abs(dstCol - srcCol);
+		
+		// next tile in direction of rowDir,colDir
+		int row = dstRow + rowDir;
+		int col = dstCol + colDir;
+	
+		if (isTileOccupiedByPlayer(row, col, game.getOpponentPlayer()))
+		{
+			CheckerPiece opponent = getPiece(row, col);
+			if (opponent.getCrown() ||  // if king, should not get here, but check anyway
+			   (!opponent.getCrown() && (((opponent.getColor() == Color.ORANGE) && (dstRow < row)) || ((opponent.getColor() == Color.WHITE)  && (dstRow > row)))))
+			{
+				CheckerTrace.log(TRACE_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, row, col);
+				return capture;
+			}
+		}
+		
+		// next tile in opposite direction of rowDir,colDir
+		int row2 = row;
+		int col2 = col + colDir*(-2);
+		int row3 = row + rowDir*(-2);
+		int col3 = col;
+		
+		if (isTileFree(row3, col3) && isTileOccupiedByPlayer(row2, col2, game.getOpponentPlayer()))
+		{
+			CheckerPiece opponent = getPiece(row2, col2);
+			if (opponent.getCrown() || // if king, should not get here, but check anyway
+			   (!opponent.getCrown() && (((opponent.getColor() == Color.ORANGE) && (row3 < row2)) || ((opponent.getColor() == Color.WHITE)  && (row3 > row2)))))
+			{
+				CheckerTrace.log(TRACE_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, row2, col2);
+				return capture;
+			}
+		}
+
+		if (isTileFree(row2, col2) && isTileOccupiedByPlayer(row3, col3, game.getOpponentPlayer()))
+		{
+			CheckerPiece opponent = getPiece(row3, col3);
+			if (opponent.getCrown() || // if king, should not get here, but check anyway
+			   (!opponent.getCrown() && (((opponent.getColor() == Color.ORANGE) && (row2 < row3)) || ((opponent.getColor() == Color.WHITE)  && (row2 > row3)))))
+			{
+				CheckerTrace.log(TRACE_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, row3, col3);
+				return capture;
+			}
+		}
+		
+		CheckerTrace.log(TRACE_NOT_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, rowDir, colDir);
+		// get here mean no being captured risk
+		return noCapture;
+	}
+
+	/**
+	 * Check if there is opponent king in the given direction that can fly and capture after making the play action
+	 * 
+	 * @param dstRow Destined tile row number for the piece after the action
+	 * @param dstCol Destined tile column number for the piece after the action
+	 * @param rowDir Row direction (+1 is down, -1 is up) 
+	 * @param colDir Column direction (+1 is right, -1 is left)
+	 * @param color Color of the piece
+	 * @return boolean Return true if there is opponent king, else return false
+	 */	
+	public boolean isKingFoundInDirection(int dstRow, int dstCol, int rowDir, int colDir, Color color)
+	{		
+		int row = dstRow + rowDir;
+		int col = dstCol + colDir;
+		
+		while (isTileInBound(row, col))
+		{
+			if (isTileOccupiedByPlayer(row, col, color))
+			{
+				return false;
+			}
+			
+			// next tile is occupied by opponent
+			if (!isTileFree(row,col))
+			{
+				CheckerPiece opponent = getPiece(row, col);
+				
+				if (opponent.getCrown())
+					return true;
+				else
+					return false;
+			}
+			// next tile is free
+			else
+			{
+				// next tile in direction of rowDir,colDir
+				row += rowDir;
+				col += colDir;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Compute the risk of being captured by opponent king if making a given action
+	 * 
+	 * @param piece Instance of the piece for action
+	 * @param dstRow Destined tile row number for the piece after the action
+	 * @param dstCol Destined tile column number for the piece after the action
+	 * @return int Return computed risk (CAPTURE_BY_KING or NO_CAPTURE)
+	 */	
+	public int computeRiskToBeFlyCaptured(CheckerPiece piece, int dstRow, int dstCol)
+	{
+		int capture = CheckerPiece.CAPTURE_BY_KING;
+		int noCapture = CheckerPiece.NO_CAPTURE;
+		
+		int srcRow = piece.getRow();
+		int srcCol = piece.getCol();
+		int rowDir = (dstRow - srcRow)/Math.abs(dstRow - srcRow);
+		int colDir = (dstCol - srcCol)/Math.abs(dstCol - srcCol);
+		
+		// note: after the move, the piece location will be free, no need to check for tile free at piece location
+		if (isKingFoundInDirection(dstRow, dstCol, rowDir, colDir, piece.getColor()))
+		{
+			CheckerTrace.log(TRACE_FLY_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, rowDir, colDir);
+			return capture;
+		}
+	
+		// to check if there is opponent's king is the opposite move direction, start at piece location (instead of dstRow, dstCol) before the move. 
+		// note: before the move, the piece location is occupied
+		if (isTileFree(dstRow+rowDir, dstCol+colDir) && isKingFoundInDirection(piece.getRow(), piece.getCol(), rowDir*(-1), colDir*(-1), piece.getColor()))
+		{
+			CheckerTrace.log(TRACE_FLY_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, rowDir*(-1), colDir*(-1));
+			return capture;
+		}
+		
+		// check if there is opponent's king in the perpendicular direction
+		if (isTileFree(dstRow+rowDir, dstCol+colDir*(-1)) && isKingFoundInDirection(dstRow, dstCol, rowDir*(-1), colDir, piece.getColor()))
+		{
+			CheckerTrace.log(TRACE_FLY_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, rowDir*(-1), colDir);
+			return capture;
+		}
+
+		// check if there is opponent's king in the perpendicular direction
+		if (isTileFree(dstRow+rowDir*(-1), dstCol+colDir) && isKingFoundInDirection(dstRow, dstCol, rowDir, colDir*(-1), piece.getColor()))
+		{
+			CheckerTrace.log(TRACE_FLY_CAPTURED, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, rowDir, colDir*(-1));
+			return capture;
+		}
+
+		return noCapture;
+	}
+
+	/**
+	 * Compute the risk of play action. 
+	 * 
+	 * @param piece Instance of the piece for action
+	 * @param dstRow Destined tile row number for the piece after the action
+	 * @param dstCol Destined tile column number for the piece after the action
+	 * @return int Return computed risk (CAPTURE_BY_KING, CAPTURE_BY_PIECE, NO_CAPTURE, BE_KING)
+	 */	
+	public int computeActionRisk(CheckerPiece piece, int dstRow, int dstCol)
+	{
+		// if the move to king row, no risk to be captured, and it should be priority move to become king
+		if (!piece.getCrown() && (dstRow == game.getPlayer(game.getCurrentPlayer()).getKingRow()))
+		{
+			CheckerTrace.log(TRACE_BE_KING, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol);
+			return CheckerPiece.BE_KING;
+		}
+		else
+		{
+			int risk = computeRiskToBeFlyCaptured(piece, dstRow, dstCol);
+			if (risk < CheckerPiece.CAPTURE_BY_KING) // no capture by a king
+			{
+				risk = computeRiskToBeCaptured(piece, dstRow, dstCol);
+			}
+			CheckerTrace.log(TRACE_ACTION_RISK, piece.getSide(), piece.getRow(), piece.getCol(), dstRow, dstCol, risk);
+			return risk;
+		}	
+
+	}
+	
+	/**
+	 * Mouse press event, remembers the playing tile being pressed on 
+	 * 
+	 * @param e MouseEvent giving the point pressed on
+	 */
+	public void mousePressed(MouseEvent e) 
+	{
+		pressed = squareAt(e.getX(), e.getY());
+	}
+	
+	/**
+	 * Mouse release event, a click if released on the playing tile pressed on, the way a button is clicked 
+	 * <p>
+	 * A click on a piece is an action event of the piece for its player, which selects it. The pieces of the computer player are not
+	 * played by clicks. A click on a free tile is the destination of the piece selected by the current player.
+	 * 
+	 * @param e MouseEvent giving the point released on
+	 */
+	public void mouseReleased(MouseEvent e) 
+	{
+		int sq = squareAt(e.getX(), e.getY());
+		if (sq == CheckerState.NONE || sq != pressed)
+			return;
+		pressed = CheckerState.NONE;
+		
+		CheckerPiece piece = this.piece[sq];
+		if (piece != null)
+		{
+			CheckerPlayer owner = game.getPlayer(piece.getColor());
+			if (owner != game.getComputerPlayer())
+				owner.actionPerformed(new ActionEvent(piece, ActionEvent.ACTION_PERFORMED, null));
+		}
+		else
+		{
+			CheckerPlayer player = game.getPlayer(game.getCurrentPlayer());
+			// the computer chooses its own destination
+			if (player == game.getComputerPlayer())
+				return;
+			CheckerTrace.log(TRACE_TILE_CLICKED, player.getSide(), CheckerState.row(sq), CheckerState.col(sq));
+			player.dstActionNotify(CheckerState.row(sq), CheckerState.col(sq));
+		}
+	}
+
+	// the following events are dummy, not use.
+	@Override
+	public void mouseClicked(MouseEvent e) {
+		// TODO Auto-generated method stub
+		
+	}
+
+	@Override
+	public void mouseEntered(MouseEvent e) {
+		// TODO Auto-generated method stub
+		
+	}
+
+	@Override
+	public void mouseExited(MouseEvent e) {
+		// TODO Auto-generated method stub
+		
+	} 	
+}
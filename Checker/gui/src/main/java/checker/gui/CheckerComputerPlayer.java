@@ -0,0 +1,475 @@
+package checker.gui;
+
+import java.awt.Color;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+
+import javax.swing.SwingUtilities;
+
+import checker.engine.CheckerMove;
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerState;
+import checker.engine.CheckerTrace;
+import checker.ai.CheckerMetrics;
+import checker.ai.CheckerOpeningBook;
+import checker.ai.CheckerStrategy;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0   
+ * @since       24 Jun 2020  
+ */
+public class CheckerComputerPlayer extends CheckerPlayer implements Runnable 
+{
+	/**
+	 * Trace event of each hop of a jump decided
+	 */
+	private final static int TRACE_ACTION_JUMP = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: actionJump: piece ({},{}) jumped to ({},{}), state = {}");
+	/**
+	 * Trace event of a move decided
+	 */
+	private final static int TRACE_ACTION_MOVE = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: actionMove: piece ({},{}) moved to ({},{}), state = {}");
+	/**
+	 * Trace event of a fly decided
+	 */
+	private final static int TRACE_ACTION_FLY = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: actionFly: piece ({},{}) flied to ({},{}), state = {}");
+	/**
+	 * Trace event of each hop of a fly capture decided
+	 */
+	private final static int TRACE_ACTION_FLY_CAPTURE = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: actionFlyCapture: piece ({},{}) flied to ({},{}), state = {}");
+	/**
+	 * Trace event of a king that can capture
+	 */
+	private final static int TRACE_CAN_FLY_CAPTURE = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: checkPlayerPossibleCapture: king ({},{}) can capture");
+	/**
+	 * Trace event of a piece that can capture
+	 */
+	private final static int TRACE_CAN_JUMP = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: checkPlayerPossibleCapture (computer): piece ({},{}) can capture");
+	/**
+	 * Trace event of the best move of a piece
+	 */
+	private final static int TRACE_CAN_MOVE = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: checkPlayerPossibleMove: piece ({},{}) can move to tgt ({},{}). moveRisk {}");
+	/**
+	 * Trace event of the best fly of a king
+	 */
+	private final static int TRACE_CAN_FLY = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: checkPlayerPossibleMove: king ({},{}) can move to tgt ({},{}). moveRisk {}");
+	/**
+	 * Trace event of a player out of moves
+	 */
+	private final static int TRACE_NO_MOVE = CheckerTrace.event(CheckerTrace.INFO, "{side}: checkPlayerPossibleMove: no piece can move, surrender!!!");
+	/**
+	 * Trace event of the start of a decision
+	 */
+	private final static int TRACE_RUN = CheckerTrace.event(CheckerTrace.DEBUG, "{side}: run()");
+	/**
+	 * Trace event of the risk of each legal action
+	 */
+	private final static int TRACE_ACTION_RISK = CheckerTrace.event(CheckerTrace.TRACE, "{side}: selectLowestRisk: action {move}, risk {}");
+	/**
+	 * Trace event of a player out of actions
+	 */
+	private final static int TRACE_SURRENDER = CheckerTrace.event(CheckerTrace.INFO, "{side}: runStrategy: no piece can move, surrender!!!");
+	/**
+	 * Trace event of each hop decided
+	 */
+	private final static int TRACE_DECISION = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: runStrategy: piece ({},{}) to ({},{}), state = {}");
+	
+	/**
+	 * Strategy to select the next play. If not set, the action with the lowest risk is played.
+	 */
+	private CheckerStrategy strategy = null;
+	
+	/**
+	 * Opening book probed before the strategy. If not set, every play is decided by the strategy.
+	 */
+	private CheckerOpeningBook book = null;
+	
+	/**
+	 * Metrics the opening book probes are recorded in. If not set, the probes are not measured.
+	 */
+	private CheckerMetrics metrics = null;
+	
+	/**
+	 * Animation replaying each hop after it is played. If not set, the hops are not replayed.
+	 */
+	private CheckerAnimation animation = null;
+	
+	/**
+	 * Random number generator to choose between book actions
+	 */
+	private Random random = new Random();
+	
+	/**
+	 * Move list filled by the strategy
+	 */
+	private CheckerMoveList moves = new CheckerMoveList();
+	
+	/**
+	 * Constructor of CheckerComputerPlayer class
+	 * <p>                           
+	 * This constructor will call CheckerPlayer constructor to initialize computer player. The board does not pass clicks on its pieces to
+	 * the computer player, which moves without user action.
+	 * 
+	 * @param  color	The color of the pieces	
+	 * @param  game     The game the player plays in, its board is where the pieces are placed on  
+	 * @see CheckerPlayer
+	 */
+	public CheckerComputerPlayer(Color color, CheckerGame game)
+	{
+		super(color, game);
+	}
+	/**
+	 * Setter to set the strategy to select the next play 
+	 * 
+	 * @param  strategy Strategy for next play, or null to play the action with the lowest risk   
+	 */
+	public void setStrategy(CheckerStrategy strategy)
+	{
+		this.strategy = strategy;
+	}
+	
+	/**
+	 * Getter to get the strategy to select the next play 
+	 * 
+	 * @return CheckerStrategy Return the strategy, or null if the action with the lowest risk is played  
+	 */
+	public CheckerStrategy getStrategy()
+	{
+		return strategy;
+	}
+	
+	/**
+	 * Setter to set the opening book probed before the strategy 
+	 * 
+	 * @param  book Opening book, or null to decide every play by the strategy   
+	 */
+	public void setOpeningBook(CheckerOpeningBook book)
+	{
+		this.book = book;
+	}
+	
+	/**
+	 * Setter to set the metrics the opening book probes are recorded in 
+	 * 
+	 * @param  metrics Metrics, or null to leave the probes unmeasured   
+	 */
+	public void setMetrics(CheckerMetrics metrics)
+	{
+		this.metrics = metrics;
+	}
+	
+	/**
+	 * Setter to set the animation replaying each hop after it is played 
+	 * 
+	 * @param  animation Animation, or null to play without replay, e.g. without a display   
+	 */
+	public void setAnimation(CheckerAnimation animation)
+	{
+		this.animation = animation;
+	}
+	
+	/**
+	 * Perform jump action and capture opponent piece                
+	 * 
+	 * @param  piece Selected piece for jump        
+	 */
+	public void actionJump(CheckerPiece piece)
+	{
+		srcActionNotify(piece);		
+		do
+		{
+			CheckerTrace.log(TRACE_ACTION_JUMP, side, piece.getRow(), piece.getCol(), piece.getTgtRow(), piece.getTgtCol(), getState());
+			jump(piece);			
+		} while (getState() == STATE_JUMPED);
+	
+	}
+	
+	/**
+	 * Perform move action                
+	 * 
+	 * @param  piece Selected piece for move        
+	 */
+	public void actionMove(CheckerPiece piece)
+	{
+		srcActionNotify(piece);
+		CheckerTrace.log(TRACE_ACTION_MOVE, side, piece.getRow(), piece.getCol(), piece.getTgtRow(), piece.getTgtCol(), getState());
+		move(piece);
+	}
+	
+	/**
+	 * Perform fly action                
+	 * 
+	 * @param  king Selected king for fly        
+	 */
+	public void actionFly(CheckerPiece king)
+	{
+		srcActionNotify(king);
+		CheckerTrace.log(TRACE_ACTION_FLY, side, king.getRow(), king.getCol(), king.getTgtRow(), king.getTgtCol(), getState());
+		fly(king);
+	}
+	
+	/**
+	 * Perform fly and capture opponent piece               
+	 * 
+	 * @param  king Selected king for fly capture        
+	 */
+	public void actionFlyCapture(CheckerPiece king)
+	{
+		srcActionNotify(king);		
+		do
+		{
+			CheckerTrace.log(TRACE_ACTION_FLY_CAPTURE, side, king.getRow(), king.getCol(), king.getTgtRow(), king.getTgtCol(), getState());
+			flyCapture(king);			
+		} while (getState() == STATE_FLIED);
+	}
+	
+	/**
+	 * Check all the pieces that have valid jump and flyCapture in the play and saves them to preSelectList ArrayList
+	 * <p>
+	 * One of these pieces must be selected for next play.                     
+	 * 
+	 */
+	public void checkPlayerPossibleCapture()
+	{		
+		// check any piece have capture possibility in next action
+		for (CheckerPiece piece : pieces)
+		{
+			int row = piece.getRow();
+			int col = piece.getCol();
+			
+			if (piece.canFlyCapture())
+			{
+				// save the crowned king piece with capture possibility to preSelectList
+				preSelectList.add(0, piece);
+				piece.setNextAction(CheckerPiece.A_FLYCAPTURE);
+				CheckerTrace.log(TRACE_CAN_FLY_CAPTURE, side, row, col);
+			}
+			else if (piece.canJump())
+			{
+				// save the piece with capture possibility to preSelectList
+				preSelectList.add(piece);
+				piece.setNextAction(CheckerPiece.A_JUMP);
+				CheckerTrace.log(TRACE_CAN_JUMP, side, row, col);
+			}
+		}
+		
+	}
+	
+	/**
+	 * Check all the pieces that have valid move and fly in the play and saves them to preSelectList ArrayList
+	 * <p>
+	 * If no piece has valid move or fly, surrender flag will be set.                       
+	 * 
+	 */
+	public void checkPlayerPossibleMove()
+	{			
+		// check any piece have move possibility in next action
+		for (CheckerPiece piece : pieces)
+		{
+			int row = piece.getRow();
+			int col = piece.getCol();
+				
+			if (piece.canFly() || piece.canMove())
+			{
+				// save the piece with move possibility to preSelectList, sorted with moveRisk value. Lowest value (0, followed by 1, 2, 3) is at the head
+				if (preSelectList.isEmpty())
+					preSelectList.add(piece);
+				else
+				{
+					int index = 0;
+					CheckerPiece p;
+					boolean addToList = false;
+					while (index < preSelectList.size())
+					{
+						p = preSelectList.get(index);
+						if (piece.getRisk() <= p.getRisk())
+						{
+							preSelectList.add(index, piece);
+							addToList = true;
+							break;
+						}
+						index++;
+					}
+					if (addToList == false)
+						preSelectList.add(piece);
+				}
+				
+				if (!piece.getCrown())
+				{
+					piece.setNextAction(CheckerPiece.A_MOVE);
+					CheckerTrace.log(TRACE_CAN_MOVE, side, row, col, piece.getTgtRow(), piece.getTgtCol(), piece.getRisk());
+				}
+				else
+				{
+					piece.setNextAction(CheckerPiece.A_FLY);
+					CheckerTrace.log(TRACE_CAN_FLY, side, row, col, piece.getTgtRow(), piece.getTgtCol(), piece.getRisk());
+				}
+			}
+		}
+		
+		if (preSelectList.isEmpty())
+		{
+			CheckerTrace.log(TRACE_NO_MOVE, side);
+			surrender = true;
+		}
+			
+	}
+	
+	/**
+	 * This method will run to check all possible actions (jump, flycapture, move and fly) and decide the optimal action for next play                      
+	 * <p>
+	 * Implement Runnable interface to run in a thread. 
+	 * 
+	 */
+	public void run()
+	{
+		CheckerTrace.log(TRACE_RUN, side);
+		runStrategy();
+	}
+	
+	/**
+	 * Select the legal action with the lowest risk (see CheckerBoard.computeActionRisk)
+	 * <p>
+	 * Every legal action of every piece is rated, not only the best target of each piece, so that no alternative is hidden.
+	 * Among actions of the same risk, the first one generated is selected.
+	 * 
+	 * @param state Game state, the side to move is this player
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if there is no legal action
+	 */
+	private int selectLowestRisk(CheckerState state, int chainSquare, CheckerMoveList moves)
+	{
+		CheckerBoard board = game.getBoard();
+		int count = CheckerMoveGenerator.generate(state, chainSquare, moves);
+		int best = CheckerState.NONE;
+		int bestRisk = CheckerPiece.INITIAL_RISK;
+		
+		for (int i = 0; i < count; i++)
+		{
+			int move = moves.get(i);
+			int to = CheckerMove.getTo(move);
+			CheckerPiece piece = board.getPiece(CheckerState.row(CheckerMove.getFrom(move)), CheckerState.col(CheckerMove.getFrom(move)));
+			int risk = board.computeActionRisk(piece, CheckerState.row(to), CheckerState.col(to));
+			CheckerTrace.log(TRACE_ACTION_RISK, side, move, risk);
+			if (risk < bestRisk)
+			{
+				bestRisk = risk;
+				best = i;
+			}
+		}
+		return best;
+	}
+	
+	/**
+	 * Play the actions of the opening book while the position is in it, else the actions selected by the strategy, or the actions with the
+	 * lowest risk if there is no strategy. 
+	 * A capture is continued, one decision per hop, until the piece cannot capture any more.                      
+	 * <p>
+	 * Each hop is played as soon as it is decided. The animation, if any, replays it on the Swing side while the next hop is decided.
+	 * 
+	 */
+	private void runStrategy()
+	{
+		CheckerBoard board = game.getBoard();
+		CheckerState state = new CheckerState();
+		int chainSquare = CheckerState.NONE;
+		
+		do
+		{
+			state.copyFrom(board.getState());
+			state.setSideToMove(CheckerBoard.toSide(playerColor));
+			
+			// a book action costs a lookup instead of a search
+			int index = (book != null) ? book.probe(state, chainSquare, moves, random) : CheckerState.NONE;
+			if (book != null && metrics != null && chainSquare == CheckerState.NONE)
+				metrics.recordBookProbe(index != CheckerState.NONE);
+			if (index == CheckerState.NONE)
+				index = (strategy != null) ? strategy.selectMove(state, chainSquare, moves) : selectLowestRisk(state, chainSquare, moves);
+			if (index == CheckerState.NONE)
+			{
+				CheckerTrace.log(TRACE_SURRENDER, side);
+				surrender = true;
+				commit(this::actionComplete);
+				return;
+			}
+			
+			int from = moves.getFrom(index);
+			int to = moves.getTo(index);
+			boolean capture = moves.getCaptured(index) != CheckerState.NONE;
+			CheckerTrace.log(TRACE_DECISION, side, CheckerState.row(from), CheckerState.col(from), CheckerState.row(to), CheckerState.col(to),
+				getState());
+			commit(() -> play(from, to, capture));
+			if (animation != null)
+				animation.replay(CheckerState.row(from), CheckerState.col(from), CheckerState.row(to), CheckerState.col(to));
+			
+			chainSquare = to;
+		} while ((getState() == STATE_JUMPED) || (getState() == STATE_FLIED));
+	}
+	
+	/**
+	 * Play one hop on the board. The piece is selected first at the start of the turn.
+	 * 
+	 * @param from Square index the piece leaves
+	 * @param to Square index the piece lands on
+	 * @param capture Flag set if the hop captures
+	 */
+	private void play(int from, int to, boolean capture)
+	{
+		CheckerPiece piece = game.getBoard().getPiece(CheckerState.row(from), CheckerState.col(from));
+		if (getState() == STATE_FREE)
+			srcActionNotify(piece);
+		piece.setTgtRow(CheckerState.row(to));
+		piece.setTgtCol(CheckerState.col(to));
+		if (capture)
+		{
+			if (piece.getCrown())
+				flyCapture(piece);
+			else
+				jump(piece);
+		}
+		else if (piece.getCrown())
+			fly(piece);
+		else
+			move(piece);
+	}
+	
+	/**
+	 * Run a change of the board and the pieces on the event dispatch thread and wait for it, unless the board is not shown in a frame
+	 * <p>
+	 * The change is committed before the next decision, which reads the board. Games without a frame are played on their own thread, so
+	 * that many of them do not queue up on the event dispatch thread.
+	 * 
+	 * @param change Change of the board
+	 */
+	private void commit(Runnable change)
+	{
+		if (!game.getBoard().isDisplayable() || SwingUtilities.isEventDispatchThread())
+		{
+			change.run();
+			return;
+		}
+		try
+		{
+			SwingUtilities.invokeAndWait(change);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (InvocationTargetException e)
+		{
+			throw new IllegalStateException("Couldn't play the action", e.getCause());
+		}
+	}
+}
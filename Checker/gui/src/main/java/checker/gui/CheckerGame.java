@@ -0,0 +1,228 @@
+package checker.gui;
+
+import java.awt.Color;
+import java.util.concurrent.Executor;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerGame
+{
+	/**
+	 * Color of the current player (WHITE or ORANGE)
+	 */
+	private Color currentPlayer;
+	/**
+	 * Color of the opponent player (WHITE or ORANGE)
+	 */
+	private Color opponentPlayer;
+	/**
+	 * Checker board instance of this game
+	 */
+	private final CheckerBoard board;
+	/**
+	 * Checker player instance for orange-color player
+	 */
+	private final CheckerPlayer playerOrange;
+	/**
+	 * Checker player instance for white-color player, a computer player if computerPlayer is set
+	 */
+	private final CheckerPlayer playerWhite;
+	/**
+	 * Computer player flag. If set, the white player is computer.
+	 */
+	private final boolean computerPlayer;
+	/**
+	 * Executor running the turns of the computer player, e.g. a thread pool shared by many games
+	 */
+	private final Executor executor;
+	/**
+	 * Listener told when the play is turned over or the game is over. If not set, nobody is told.
+	 */
+	private CheckerGameListener listener = null;
+
+	/**
+	 * Constructor of CheckerGame class
+	 * <p>
+	 * This constructor will create the board and two players in the starting position. The game has no frame; a frame can show the board
+	 * of the game and listen to it.
+	 *
+	 * @param computerPlayer Flag set if the white player is computer
+	 * @param executor Executor running the turns of the computer player
+	 */
+	public CheckerGame(boolean computerPlayer, Executor executor)
+	{
+		this.computerPlayer = computerPlayer;
+		this.executor = executor;
+		board = new CheckerBoard(this);
+
+		currentPlayer = Color.ORANGE;
+		opponentPlayer = Color.WHITE;
+		playerOrange = new CheckerPlayer(currentPlayer, this);
+		if (computerPlayer)
+			playerWhite = new CheckerComputerPlayer(opponentPlayer, this);
+		else
+			playerWhite = new CheckerPlayer(opponentPlayer, this);
+	}
+
+	/**
+	 * Setter to set the listener told when the play is turned over or the game is over
+	 *
+	 * @param listener Listener, or null to tell nobody
+	 */
+	public void setListener(CheckerGameListener listener)
+	{
+		this.listener = listener;
+	}
+
+	/**
+	 * Getter to get the current player's color
+	 *
+	 * @return Color Return the color of current player
+	 */
+	public Color getCurrentPlayer()
+	{
+		return currentPlayer;
+	}
+
+	/**
+	 * Setter to set the current player, without turning over the play
+	 *
+	 * @param color Color of the current player, the other color becomes the opponent player
+	 */
+	public void setCurrentPlayer(Color color)
+	{
+		currentPlayer = color;
+		opponentPlayer = (color == Color.ORANGE) ? Color.WHITE : Color.ORANGE;
+		board.getState().setSideToMove(CheckerBoard.toSide(currentPlayer));
+	}
+
+	/**
+	 * Getter to get the opponent player's color
+	 *
+	 * @return Color Return the color of opponent player
+	 */
+	public Color getOpponentPlayer()
+	{
+		return opponentPlayer;
+	}
+
+	/**
+	 * Getter to get the player instance for a given color
+	 *
+	 * @param  color Color of the player
+	 * @return CheckerPlayer Return the player instance
+	 */
+	public CheckerPlayer getPlayer(Color color)
+	{
+		if (color == Color.ORANGE)
+			return playerOrange;
+		else
+			return playerWhite;
+	}
+
+	/**
+	 * Getter to get the computer player
+	 *
+	 * @return CheckerComputerPlayer Return the white player, or null if it is not computer
+	 */
+	public CheckerComputerPlayer getComputerPlayer()
+	{
+		return computerPlayer ? (CheckerComputerPlayer) playerWhite : null;
+	}
+
+	/**
+	 * Getter to get the checker board instance
+	 *
+	 * @return CheckerBoard Return the board instance for the game
+	 */
+	public CheckerBoard getBoard()
+	{
+		return board;
+	}
+
+	/**
+	 * Turn over the game from current player to opponent player. Computer player will be run by the executor. End game and declare winner
+	 * if any player is out of move.
+	 *
+	 */
+	public void turnOver()
+	{
+		Color tmp = currentPlayer;
+
+		currentPlayer = opponentPlayer;
+		opponentPlayer = tmp;
+		board.getState().setSideToMove(CheckerBoard.toSide(currentPlayer));
+
+		if (currentPlayer == Color.ORANGE)
+		{
+			if (!playerOrange.getPieceArrayList().isEmpty())
+			{
+				statusChanged("Current Player: ORANGE ");
+				playerOrange.checkPlayerPossibleCapture();
+				if (playerOrange.getPreSelectArrayList().isEmpty())
+				{
+					// check if player is running out of move
+					playerOrange.checkPlayerPossibleMove();
+					playerOrange.clrPreSelection(); // clear preSelectList here to allow player to move
+				}
+				if (playerOrange.getSurrender())
+					gameOver("Player WHITE won !!!");
+			}
+			else
+				gameOver("Player WHITE won !!!");
+		}
+		else
+		{
+			if (computerPlayer)
+			{
+				statusChanged("Current Player: WHITE  ");
+				executor.execute((CheckerComputerPlayer) playerWhite);
+			}
+			else
+			{
+				if (!playerWhite.getPieceArrayList().isEmpty())
+				{
+					statusChanged("Current Player: WHITE  ");
+					playerWhite.checkPlayerPossibleCapture();
+
+					if (playerWhite.getPreSelectArrayList().isEmpty())
+					{
+						// check if player is running out of move
+						playerWhite.checkPlayerPossibleMove();
+						playerWhite.clrPreSelection(); // clear preSelectList here to allow player to move
+					}
+					if (playerWhite.getSurrender())
+						gameOver("Player ORANGE won !!!");
+				}
+			}
+
+			if (playerWhite.getPieceArrayList().isEmpty() || playerWhite.getSurrender())
+				gameOver("Player ORANGE won !!!");
+		}
+	}
+
+	/**
+	 * Tell the listener, if any, that the play is turned over
+	 *
+	 * @param status Text naming the current player
+	 */
+	private void statusChanged(String status)
+	{
+		if (listener != null)
+			listener.statusChanged(this, status);
+	}
+
+	/**
+	 * Tell the listener, if any, that the game is over
+	 *
+	 * @param status Text naming the winner
+	 */
+	private void gameOver(String status)
+	{
+		if (listener != null)
+			listener.gameOver(this, status);
+	}
+}
@@ -0,0 +1,25 @@
+package checker.gui;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public interface CheckerGameListener
+{
+	/**
+	 * Called when the play is turned over to the other player
+	 *
+	 * @param game Game the play is turned over in
+	 * @param status Text naming the current player, e.g. "Current Player: ORANGE "
+	 */
+	public void statusChanged(CheckerGame game, String status);
+
+	/**
+	 * Called when a player is out of pieces or out of actions
+	 *
+	 * @param game Game that is over
+	 * @param status Text naming the winner, e.g. "Player WHITE won !!!"
+	 */
+	public void gameOver(CheckerGame game, String status);
+}
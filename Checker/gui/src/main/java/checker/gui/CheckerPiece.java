@@ -1,38 +1,67 @@
-import java.awt.BasicStroke;
+package checker.gui;
+
 import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Image;
-import java.io.File;
-import java.io.IOException;
 
-import javax.imageio.ImageIO;
-import javax.swing.JButton;
+import checker.engine.CheckerMoveTable;
+import checker.engine.CheckerState;
+import checker.engine.CheckerTrace;
 
-@SuppressWarnings("serial")
 /**
  * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
  * @version     1.0   
  * @since       24 Jun 2020  
  */
-public class CheckerPiece extends JButton
+public class CheckerPiece
 {
 	/**
-	 * x-axis location of the piece to be drawn on the tile
+	 * Trace event of the best jump of a piece
+	 */
+	private final static int TRACE_CAN_JUMP = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canJump: piece ({},{}), jump status {bool}, best jump ({},{}), risk {}");
+	/**
+	 * Trace event of a jump a piece can make
+	 */
+	private final static int TRACE_JUMP_TARGET = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canJump(): piece ({},{}) can jump to ({},{}) and capture ({},{})");
+	/**
+	 * Trace event of the best fly capture of a king
+	 */
+	private final static int TRACE_CAN_FLY_CAPTURE = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canFlyCapture: piece ({},{}) best attempt to ({},{}), moveRisk {}");
+	/**
+	 * Trace event of an opponent piece a king can fly capture
 	 */
-	private int pieceX = CheckerTile.TILE_SIZE/4;
+	private final static int TRACE_FLY_CAPTURE_TARGET = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canFlyCapture: piece ({},{}) can flycapture opponent at ({},{})");
 	/**
-	 * y-axis location of the piece to be drawn on the tile
+	 * Trace event of a square a king can fly to
 	 */
-	private int pieceY = CheckerTile.TILE_SIZE/4;
+	private final static int TRACE_FLY_TARGET = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canFly: piece ({},{}) can fly to ({},{})");
 	/**
-	 * size of the piece to be drawn on the tile
+	 * Trace event of the best fly of a king
 	 */
-	private int pieceSize = CheckerTile.TILE_SIZE/2;
+	private final static int TRACE_CAN_FLY = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canFly: piece ({},{}) best attempt to ({},{}), moveRisk {}");
+	/**
+	 * Trace event of the best move of a piece
+	 */
+	private final static int TRACE_CAN_MOVE = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canMove: piece ({},{}), move status {bool}, best move ({},{}), risk {}");
+	/**
+	 * Trace event of a square a piece can move to
+	 */
+	private final static int TRACE_MOVE_TARGET = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: canMove: piece ({},{}) can move to ({},{})");
+
 	/**
 	 * Color of the piece (WHITE or ORANGE)
 	 */
 	private Color color = Color.WHITE;
+	/**
+	 * Side of the piece in the game state (CheckerState.ORANGE or CheckerState.WHITE)
+	 */
+	private int side;
 	/**
 	 * Row number of tile on the board where the piece occupies
 	 */
@@ -41,6 +70,10 @@ public class CheckerPiece extends JButton
 	 * Column number of tile on the board where the piece occupies
 	 */
 	private int col;
+	/**
+	 * Position of the piece in the ArrayList of its player, kept so that a capture can remove the piece without searching the list
+	 */
+	private int index = -1;
 	/**
 	 * select flag. This flag will be set when the piece is selected for play action
 	 */
@@ -50,9 +83,9 @@ public class CheckerPiece extends JButton
 	 */
 	private boolean preSelect = false;
 	/**
-	 * image of the crown, indicating the piece is a king
+	 * visible flag. This flag will be cleared while the piece is hidden to blink it
 	 */
-	private Image img;	
+	private boolean visible = true;
 	/**
 	 * crowned flag. This flag will be set when a piece is promoted to king
 	 */
@@ -122,71 +155,30 @@ public class CheckerPiece extends JButton
 	 */
 	private String label;
 	/**
-	 * Color for the piece in String format, mainly use for tracing and debugging only 
+	 * The board the piece is played on
 	 */
-	public String colorCode; 
+	private CheckerBoard board;
 	
 	/**
 	 * Constructor of CheckerPiece class
 	 * <p>                           
-	 * This constructor will construct a JButton piece. It will also load the crown image.
+	 * This constructor will construct a piece. The piece is painted by the board it is played on, from a sprite shared by all pieces.
 	 * 
 	 * @param  row Row number of the tile where the piece will be located
 	 * @param  col Column number of the tile where the piece will be located
 	 * @param  color Color of the piece
+	 * @param  board The board the piece is played on
 	 */
-	public CheckerPiece(int row, int col, Color color)
+	public CheckerPiece(int row, int col, Color color, CheckerBoard board)
 	{
-		super();
-		// do not paint button border, as the button will be re-drawn in oval shape
-		setBorderPainted(false);
+		this.board = board;
 		this.color = color;
+		this.side = CheckerBoard.toSide(color);
 		this.row = row;
 		this.col = col;
 		this.label = "(" + row + "," + col + ")";
-		try 
-		   {
-			   this.img = ImageIO.read(new File("src/crown.png"));
-		   }   catch (IOException e)
-		   {
-			   System.out.println("Couldn't load/find crown.png");
-			   System.exit(0);
-		   }
-		if (color == Color.ORANGE)
-			colorCode = "ORANGE: ";
-		else
-			colorCode = "WHITE: ";
 	}
 	
-	/**
-	 * Paint the piece in round shape in the middle of the tile 
-	 * <p>
-	 * If the piece is a king, a crown image will be painted on the piece. If the piece is selected, a blue round bold boarder will be drawn.
-	 * 
-	 * @param  g Instance of Graphics for painting
-	 */
-	public void paintComponent(Graphics g)
-	{
-		Graphics2D g2 = (Graphics2D) g;
-		
-		super.paintComponent(g2);
-		
-		g2.setColor(color);
-		g2.fillOval(pieceX, pieceY, pieceSize, pieceSize);
-		if (crowned)
-	    {
-	    	g2.drawImage(img, pieceX, pieceY, pieceSize, pieceSize, null);
-	    }  
-	
-		if (select)
-		{
-			g2.setColor(Color.BLUE);
-			// increase the line thickness
-			g2.setStroke(new BasicStroke(3));
-		}
-		g2.drawOval(pieceX, pieceY, pieceSize, pieceSize);  
-	}
-
 	/**
 	 * Setter to set next action for the piece
 	 * 
@@ -267,6 +259,26 @@ public class CheckerPiece extends JButton
 		this.col = col;
 	}
 	
+	/**
+	 * Getter to get the position of the piece in the ArrayList of its player
+	 * 
+	 * @return int Return the index of the piece in the player ArrayList, -1 if not in the list
+	 */
+	public int getIndex()
+	{
+		return this.index;
+	}
+	
+	/**
+	 * Setter to set the position of the piece in the ArrayList of its player
+	 * 
+	 * @param  index Index of the piece in the player ArrayList
+	 */
+	public void setIndex(int index)
+	{
+		this.index = index;
+	}
+	
 	/**
 	 * Getter to get row number of the destined tile for the piece
 	 * 
@@ -317,6 +329,16 @@ public class CheckerPiece extends JButton
 		return this.color;
 	}
 	
+	/**
+	 * Getter to get side for the piece in the game state
+	 * 
+	 * @return int Return CheckerState.ORANGE or CheckerState.WHITE   
+	 */
+	public int getSide()
+	{
+		return this.side;
+	}
+	
 	/**
 	 * Setter to set label of the piece
 	 * 
@@ -375,7 +397,28 @@ public class CheckerPiece extends JButton
 	public void select(boolean s)
 	{
 		this.select = s;
-		repaint();
+		board.repaintTile(row, col);
+	}
+	
+	/**
+	 * Setter to set visible flag, to blink the piece
+	 * 
+	 * @param  visible visible flag value  
+	 */
+	public void setVisible(boolean visible)
+	{
+		this.visible = visible;
+		board.repaintTile(row, col);
+	}
+	
+	/**
+	 * Check if visible flag for the piece is set
+	 * 
+	 * @return boolean Return visible flag value   
+	 */
+	public boolean isVisible()
+	{
+		return visible;
 	}
 	
 	/**
@@ -385,7 +428,7 @@ public class CheckerPiece extends JButton
 	public void setCrown()
 	{
 		this.crowned = true;
-		repaint();
+		board.repaintTile(row, col);
 	}
 	
 	/**
@@ -405,36 +448,24 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canJump()
 	{
-		boolean status1, status2, status3, status4;
+		boolean status = false;
 		
 		setRisk(INITIAL_RISK); // initialize risk to high number 
 		setTgtRow(-1);
 		setTgtCol(-1);
 		
-		// random generate row and col direction 
-		int randRow = ((int) Math.random())%2;
-		if (randRow == 0)
-			randRow = -1;
-		int randCol = ((int) Math.random())%2 ;
-		if (randCol == 0)
-			randCol = -1;
-			
-		int row = this.row+2*randRow;
-		int col = this.col+2*randCol;
-		status1 = canJump(row, col, true);
-		
-		row = this.row+randRow*(-2);
-		status2 = canJump(row, col, true);
-		
-		col = this.col+randCol*(-2);
-		status3 = canJump(row, col, true);
-		
-		row = this.row+2*randRow;
-		status4 = canJump(row, col, true);
+		// try the landing square in every direction, the best (lowest risk) jump is kept in tgtRow/tgtCol
+		int src = CheckerState.square(this.row, this.col);
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			int dst = CheckerMoveTable.JUMP[src][dir];
+			if (dst != CheckerState.NONE && canJump(CheckerState.row(dst), CheckerState.col(dst), true))
+				status = true;
+		}
 		
-		System.out.printf(colorCode + "canJump: piece %s, jump status %s, best jump (%d,%d), risk %s\n", label, status1 || status2 || status3 || status4, tgtRow, tgtCol, risk);
+		CheckerTrace.log(TRACE_CAN_JUMP, side, this.row, this.col, status ? 1 : 0, tgtRow, tgtCol, risk);
 		
-		return (status1 || status2 || status3 || status4);	
+		return status;	
 	}
 	
 	/**
@@ -447,29 +478,26 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canJump(int row, int col, boolean computeRisk)
 	{
-		CheckerBoard board = Checker.getBoard();
-		int srcRow = this.row;
-		int srcCol = this.col;
+		CheckerState state = board.getState();
+		int src = CheckerState.square(this.row, this.col);
+		int dst = CheckerState.square(row, col);
 		
-		// check if the jump is diagonally up or down two tiles
-		if (Math.abs(row-srcRow)!=2 || Math.abs(col-srcCol)!=2)
+		// check out of boundary
+		if (dst == CheckerState.NONE)
 			return false;
 		
-		int midRow = srcRow + (row-srcRow)/Math.abs(row-srcRow);
-		int midCol = srcCol + (col-srcCol)/Math.abs(col-srcCol);
-		
-		// check out of boundary
-		if ((row < 0 || row >= CheckerBoard.TILES || col < 0 || col >= CheckerBoard.TILES) ||
-		    (midRow < 0 || midRow >= CheckerBoard.TILES || midCol < 0 || midCol >= CheckerBoard.TILES))
+		// check if the jump is diagonally up or down two tiles
+		int dir = CheckerMoveTable.DIRECTION[src][dst];
+		if (dir == CheckerState.NONE || CheckerMoveTable.JUMP[src][dir] != dst)
 			return false;
 			
 		// check if the piece (not king, i.e. not yet crowned) is jumped backward 
-		if ((!this.crowned && (this.color == Color.orange) && (row > srcRow)) ||
-			(!this.crowned && (this.color == Color.white) && (row < srcRow)))
+		if (!this.crowned && !CheckerMoveTable.isForward(dir, side))
 			return false;
 
 		// check if the jump-to tile is free
-		if (board.isTileFree(row,  col) && board.isTileOccupiedByPlayer(midRow, midCol, Checker.getOpponentPlayer())) 
+		int mid = CheckerMoveTable.NEIGHBOUR[src][dir];
+		if (state.isFree(dst) && state.isOccupiedBy(mid, CheckerState.opponent(side))) 
 		{
 			if (computeRisk)
 			{
@@ -481,7 +509,7 @@ public class CheckerPiece extends JButton
 					setTgtCol(col);
 				}
 			}
-			System.out.printf(colorCode + "canJump(): piece %s can jump to (%d,%d) and capture (%d,%d)\n", label, row,col,midRow,midCol);
+			CheckerTrace.log(TRACE_JUMP_TARGET, side, this.row, this.col, row, col, CheckerState.row(mid), CheckerState.col(mid));
 			return true;
 		}
 		else
@@ -496,7 +524,7 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canFlyCapture()
 	{
-		boolean status1, status2, status3, status4;
+		boolean status = false;
 		
 		if (!crowned)
 			return false;
@@ -505,20 +533,13 @@ public class CheckerPiece extends JButton
 		setTgtRow(-1);
 		setTgtCol(-1);
 			
-		// random generate row and col direction 
-		int randRow = ((int) Math.random())%2;
-		if (randRow == 0)
-			randRow = -1;
-		int randCol = ((int) Math.random())%2 ;
-		if (randCol == 0)
-			randCol = -1;
-		
-		status1 = canFlyCapture(this, randRow, randCol);
-		status2 = canFlyCapture(this, randRow*(-1), randCol);
-		status3 = canFlyCapture(this, randRow, randCol*(-1));
-		status4 = canFlyCapture(this, randRow*(-1), randCol*(-1));
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			if (canFlyCapture(this, CheckerMoveTable.ROW_DIR[dir], CheckerMoveTable.COL_DIR[dir]))
+				status = true;
+		}
 		
-		return (status1 || status2 || status3 || status4);		
+		return status;		
 	}
 		
 	/**
@@ -531,56 +552,40 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canFlyCapture(CheckerPiece piece, int rowDir, int colDir)
 	{
-		CheckerBoard board = Checker.getBoard();
+		CheckerState state = board.getState();
 		int srcRow = piece.getRow();
 		int srcCol = piece.getCol();
-		int row = srcRow+rowDir;
-		int col = srcCol+colDir;
-		boolean detectOpponent = false;
+		int[] ray = CheckerMoveTable.RAY[CheckerState.square(srcRow, srcCol)][CheckerMoveTable.direction(rowDir, colDir)];
+		int i = 0;
 		
-		while (board.isTileInBound(row,  col))
-		{
-			// detect own piece along the fly, cannot capture
-			if (board.isTileOccupiedByPlayer(row, col, piece.getColor()))
-				return false;
-						
-			if (board.isTileOccupiedByPlayer(row, col, Checker.getOpponentPlayer()))
-			{
-				detectOpponent = true;
-				break;
-			}
-			row+=rowDir;
-			col+=colDir;
-		}
+		// skip the free tiles along the fly
+		while (i < ray.length && state.isFree(ray[i]))
+			i++;
 		
-		// no opponent piece is detected
-		if (!detectOpponent)
+		// no opponent piece is detected, or own piece along the fly, cannot capture
+		if (i == ray.length || !state.isOccupiedBy(ray[i], CheckerState.opponent(piece.side)))
 			return false;
 		
 		// detect opponent piece, check if valid capture can happen and the low risk location to land after capture
-		row = row+rowDir;
-		col = col+colDir;
 		int count = 0;
 		int risk;
 		
-		while (board.isTileFree(row,  col))
+		for (i++; i < ray.length && state.isFree(ray[i]); i++)
 		{
 			count++;
 			
-			risk = board.computeActionRisk(piece, row, col);
+			risk = board.computeActionRisk(piece, CheckerState.row(ray[i]), CheckerState.col(ray[i]));
 			if (risk < piece.getRisk()) 
 			{
 				piece.setRisk(risk);
-				piece.setTgtRow(row);
-				piece.setTgtCol(col);
+				piece.setTgtRow(CheckerState.row(ray[i]));
+				piece.setTgtCol(CheckerState.col(ray[i]));
 			}
-			row+=rowDir;
-			col+=colDir;
 		}
 		
 		if (count > 0)
 		{
-			System.out.printf(colorCode + "canFlyCapture: piece (%d,%d) best attempt to (%d,%d), moveRisk %d\n", srcRow, srcCol, piece.getTgtRow(), piece.getTgtCol(), piece.getRisk());
+			CheckerTrace.log(TRACE_CAN_FLY_CAPTURE, side, srcRow, srcCol, piece.getTgtRow(), piece.getTgtCol(), piece.getRisk());
 			return true;
 		}
 		else
@@ -589,6 +594,8 @@ public class CheckerPiece extends JButton
 	
 	/**
 	 * Check if the king can fly to a destination and capture an opponent.
+	 * <p>
+	 * The fly must pass exactly one piece, an opponent, and land on a free tile.
 	 * 
 	 * @param dstRow The row number of the destined tile where the king is flied to
 	 * @param dstCol The column number of the destined tile where the piece is flied to
@@ -596,42 +603,26 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canFlyCapture(int dstRow, int dstCol)
 	{
-		CheckerBoard board = Checker.getBoard();
-		int srcRow = this.row;
-		int srcCol = this.col;
+		CheckerState state = board.getState();
+		int src = CheckerState.square(this.row, this.col);
+		int dst = CheckerState.square(dstRow, dstCol);
 		
 		if (!this.crowned)
 			return false;
 		
 		// check if the fly is diagonally up or down
-		if (Math.abs(dstRow-srcRow) != Math.abs(dstCol-srcCol))
+		if (dst == CheckerState.NONE || CheckerMoveTable.DIRECTION[src][dst] == CheckerState.NONE)
 			return false;
 		
-		int rowDir = (dstRow - srcRow)/Math.abs(dstRow-srcRow);
-		int colDir = (dstCol - srcCol)/Math.abs(dstCol-srcCol);
-		int row = srcRow+rowDir;
-		int col = srcCol+colDir;
-		boolean opponentDetected = false;
-		
-		while (row != dstRow)
-		{
-			// detect own piece along the fly, cannot capture
-			if (board.isTileOccupiedByPlayer(row, col, this.color))
-				return false;
-			
-			if (board.isTileOccupiedByPlayer(row, col, Checker.getOpponentPlayer()))
-			{
-				opponentDetected = true;
-				break;
-			}
-			
-			row+=rowDir;
-			col+=colDir;
-		}
+		// the only piece along the fly must be an opponent
+		int between = CheckerMoveTable.BETWEEN[src][dst] & state.getOccupied();
+		if (Integer.bitCount(between) != 1 || (between & state.getPieces(CheckerState.opponent(side))) == 0)
+			return false;
 		
-		if (opponentDetected && board.isTileFree(row+rowDir, col+colDir))
+		if (state.isFree(dst))
 		{
-			System.out.printf(colorCode + "canFlyCapture: piece (%d,%d) can flycapture opponent at (%d,%d)!!! \n", srcRow, srcCol, row,col);
+			int opponent = Integer.numberOfTrailingZeros(between);
+			CheckerTrace.log(TRACE_FLY_CAPTURE_TARGET, side, this.row, this.col, CheckerState.row(opponent), CheckerState.col(opponent));
 			return true;
 		}
 		else
@@ -645,7 +636,7 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canFly()
 	{
-		boolean status1, status2, status3, status4;
+		boolean status = false;
 		
 		if (!crowned)
 			return false;
@@ -654,20 +645,13 @@ public class CheckerPiece extends JButton
 		setTgtRow(-1);
 		setTgtCol(-1);
 		
-		// random generate row and col direction 
-		int randRow = ((int) Math.random())%2;
-		if (randRow == 0)
-			randRow = -1;
-		int randCol = ((int) Math.random())%2;
-		if (randCol == 0)
-			randCol = -1;
-		
-		status1 = canFly(this, randRow, randCol);
-		status2 = canFly(this, randRow*(-1), randCol);
-		status3 = canFly(this, randRow, randCol*(-1));
-		status4 = canFly(this, randRow*(-1), randCol*(-1));
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			if (canFly(this, CheckerMoveTable.ROW_DIR[dir], CheckerMoveTable.COL_DIR[dir]))
+				status = true;
+		}
 		
-		return (status1 || status2 || status3 || status4);
+		return status;
 	}
 	
 	/**
@@ -679,30 +663,22 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canFly(int dstRow, int dstCol)
 	{
-		CheckerBoard board = Checker.getBoard();
-		int srcRow = this.row;
-		int srcCol = this.col;
+		CheckerState state = board.getState();
+		int src = CheckerState.square(this.row, this.col);
+		int dst = CheckerState.square(dstRow, dstCol);
 		
 		if (!this.crowned)
 			return false;
 		
 		// check if the fly is diagonally up or down
-		if (Math.abs(dstRow-srcRow) != Math.abs(dstCol-srcCol))
+		if (dst == CheckerState.NONE || CheckerMoveTable.DIRECTION[src][dst] == CheckerState.NONE)
 			return false;
 		
-		int rowDir = (dstRow - srcRow)/Math.abs(dstRow-srcRow);
-		int colDir = (dstCol - srcCol)/Math.abs(dstCol-srcCol);
-		int row = srcRow+rowDir;
-		int col = srcCol+colDir;
+		// all tiles along the fly must be free
+		if ((CheckerMoveTable.BETWEEN[src][dst] & state.getOccupied()) != 0)
+			return false;
 		
-		while (row != dstRow)
-		{
-			if (!board.isTileFree(row,col))
-				return false;
-			row+=rowDir;
-			col+=colDir;
-		}
-		System.out.printf(colorCode + "canFly: piece (%d,%d) can fly to (%d,%d) !!! \n", srcRow, srcCol, row,col);
+		CheckerTrace.log(TRACE_FLY_TARGET, side, this.row, this.col, dstRow, dstCol);
 		return true;
 	}
 	
@@ -716,37 +692,30 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canFly(CheckerPiece piece, int rowDir, int colDir)
 	{
-		CheckerBoard board = Checker.getBoard();
+		CheckerState state = board.getState();
 		int srcRow = piece.getRow();
 		int srcCol = piece.getCol();
-		int row = srcRow+rowDir;
-		int col = srcCol+colDir;
+		int[] ray = CheckerMoveTable.RAY[CheckerState.square(srcRow, srcCol)][CheckerMoveTable.direction(rowDir, colDir)];
 		int risk;
 		boolean fly = false;
 		
-		while (board.isTileInBound(row,  col))
+		for (int i = 0; i < ray.length && state.isFree(ray[i]); i++)
 		{
-			if (board.isTileFree(row,  col))
+			int row = CheckerState.row(ray[i]);
+			int col = CheckerState.col(ray[i]);
+			risk = board.computeActionRisk(piece, row, col);
+			if (risk < piece.getRisk()) 
 			{
-				risk = board.computeActionRisk(piece, row, col);
-				if (risk < piece.getRisk()) 
-				{
-					piece.setRisk(risk);
-					piece.setTgtRow(row);
-					piece.setTgtCol(col);
-				}
-				row+=rowDir;
-				col+=colDir;
-				fly = true;
+				piece.setRisk(risk);
+				piece.setTgtRow(row);
+				piece.setTgtCol(col);
 			}
-			else
-				break;
+			fly = true;
 		}
-	
 		
 		if (fly)
 		{
-			System.out.printf(colorCode + "canFly: piece (%d,%d) best attempt to (%d,%d), moveRisk %d\n", srcRow, srcCol, piece.getTgtRow(), piece.getTgtCol(), piece.getRisk());
+			CheckerTrace.log(TRACE_CAN_FLY, side, srcRow, srcCol, piece.getTgtRow(), piece.getTgtCol(), piece.getRisk());
 			return true;	
 		}
 		else
@@ -761,35 +730,23 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canMove()
 	{
-		boolean status1, status2, status3, status4;
+		boolean status = false;
 		
 		setRisk(INITIAL_RISK); // initialize risk to high number 
 		setTgtRow(-1);
 		setTgtCol(-1);
 		
-		// random generate row and col direction 
-		int randRow = ((int) Math.random())%2;
-		if (randRow == 0)
-			randRow = -1;
-		int randCol = ((int) Math.random())%2;
-		if (randCol == 0)
-			randCol = -1;
-			
-		int row = this.row+randRow;
-		int col = this.col+randCol;
-		status1 = canMove(row, col, true);
-		
-		row = this.row+randRow*(-1);
-		status2 = canMove(row, col, true);
-		
-		col = this.col+randCol*(-1);
-		status3 = canMove(row, col, true);
-		
-		row = this.row+randRow;
-		status4 = canMove(row, col, true);
+		// try the neighbour in every direction, the best (lowest risk) move is kept in tgtRow/tgtCol
+		int src = CheckerState.square(this.row, this.col);
+		for (int dir = 0; dir < CheckerMoveTable.DIRECTIONS; dir++)
+		{
+			int dst = CheckerMoveTable.NEIGHBOUR[src][dir];
+			if (dst != CheckerState.NONE && canMove(CheckerState.row(dst), CheckerState.col(dst), true))
+				status = true;
+		}
 		
-		System.out.printf(colorCode + "canMove: piece %s, move status %s, best move (%d,%d), risk %s\n", label, status1 || status2 || status3 || status4, tgtRow, tgtCol, risk);
-		return (status1 || status2 || status3 || status4);
+		CheckerTrace.log(TRACE_CAN_MOVE, side, this.row, this.col, status ? 1 : 0, tgtRow, tgtCol, risk);
+		return status;
 		
 	}
 	
@@ -803,30 +760,28 @@ public class CheckerPiece extends JButton
 	 */
 	public boolean canMove(int row, int col, boolean computeRisk)
 	{
-		CheckerBoard board = Checker.getBoard();
+		int src = CheckerState.square(this.row, this.col);
+		int dst = CheckerState.square(row, col);
 		
 		// check out of boundary
-		if (row < 0 || row >= CheckerBoard.TILES || col < 0 || col >= CheckerBoard.TILES)
+		if (dst == CheckerState.NONE)
 			return false;
 		
-		int srcRow = this.row;
-		int srcCol = this.col;
-		
 		// if the piece is pre-Selected, must jump, prohibit move
 		if (preSelect)
 			return false;
 		
 		// check if the move is diagonally up or down a tile 
-		if (Math.abs(row-srcRow)!=1 || Math.abs(col-srcCol)!=1)
+		int dir = CheckerMoveTable.DIRECTION[src][dst];
+		if (dir == CheckerState.NONE || CheckerMoveTable.NEIGHBOUR[src][dir] != dst)
 			return false;
 				
 		// check if the move-to tile is free
-		if (!board.isTileFree(row,  col))
+		if (!board.getState().isFree(dst))
 			return false;
 		
 		// check if the piece (not king, i.e. not yet crowned) is moved backward 
-		if ((!this.crowned && (this.color == Color.orange) && (row > srcRow)) ||
-			(!this.crowned && (this.color == Color.white) && (row < srcRow)))
+		if (!this.crowned && !CheckerMoveTable.isForward(dir, side))
 			return false;
 	
 		if (computeRisk)
@@ -839,7 +794,7 @@ public class CheckerPiece extends JButton
 				setTgtCol(col);
 			}
 		}
-		System.out.printf(colorCode + "canMove: piece %s can move to (%d,%d)\n", label, row, col);
+		CheckerTrace.log(TRACE_MOVE_TARGET, side, this.row, this.col, row, col);
 		return true;
 	}
 }
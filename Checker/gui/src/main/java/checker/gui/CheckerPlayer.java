@@ -1,15 +1,96 @@
+package checker.gui;
+
 import java.awt.Color;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.Timer;
 
+import checker.engine.CheckerTrace;
+
 /**
  * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
  * @version     1.0   
  * @since       24 Jun 2020  
  */
 public class CheckerPlayer implements ActionListener {
+	/**
+	 * Trace event of a piece of the player
+	 */
+	private final static int TRACE_PIECE_LIST = CheckerTrace.event(CheckerTrace.DEBUG, "{side}: Player piece list: ({},{})");
+	/**
+	 * Trace event of a piece clicked
+	 */
+	private final static int TRACE_PIECE_CLICKED = CheckerTrace.event(CheckerTrace.DEBUG, "{side}: actionPerformed(): piece ({},{}) is clicked");
+	/**
+	 * Trace event of a piece selected
+	 */
+	private final static int TRACE_SRC_ACTION = CheckerTrace.event(CheckerTrace.DEBUG, "{side}: srcActionNotify(): piece ({},{}) state {}");
+	/**
+	 * Trace event of a target tile selected
+	 */
+	private final static int TRACE_DST_ACTION = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: dstActionNotify(): piece ({},{}) target ({},{}) state {}");
+	/**
+	 * Trace event of a target tile the selected piece cannot play to
+	 */
+	private final static int TRACE_INVALID_ACTION = CheckerTrace.event(CheckerTrace.INFO, "{side}: dstActionNotify(): Invalid action for ({},{})");
+	/**
+	 * Trace event of a pre-selected piece cleared
+	 */
+	private final static int TRACE_CLEAR_SELECTION = CheckerTrace.event(CheckerTrace.DEBUG, "{side}: clrPreSelection(): preSelectList: ({},{})");
+	/**
+	 * Trace event of the end of a turn
+	 */
+	private final static int TRACE_ACTION_COMPLETE = CheckerTrace.event(CheckerTrace.DEBUG, "{side}: actionComplete for player");
+	/**
+	 * Trace event of a move played
+	 */
+	private final static int TRACE_MOVE = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: move: piece ({},{}) is moved to ({},{}), state {}, crown {bool}");
+	/**
+	 * Trace event of an opponent piece captured
+	 */
+	private final static int TRACE_CAPTURE = CheckerTrace.event(CheckerTrace.DEBUG, "{side}: capture: Piece ({},{}) was captured");
+	/**
+	 * Trace event of a capture of a square without piece
+	 */
+	private final static int TRACE_CAPTURE_NONE = CheckerTrace.event(CheckerTrace.INFO,
+		"{side}: capture: Piece ({},{}) does not exist, cannot capture");
+	/**
+	 * Trace event of a jump played, the captured piece is traced by capture
+	 */
+	private final static int TRACE_JUMP = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: jump: piece ({},{}) is jumped to ({},{}), state {}, crowning {bool}");
+	/**
+	 * Trace event of a fly played
+	 */
+	private final static int TRACE_FLY = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: fly: piece ({},{}) is flied to ({},{}), state {}, crown {bool}");
+	/**
+	 * Trace event of a fly capture played
+	 */
+	private final static int TRACE_FLY_CAPTURE = CheckerTrace.event(CheckerTrace.DEBUG,
+		"{side}: flyCapture: piece ({},{}) is flied to ({},{}), captured ({},{}), state {}");
+	/**
+	 * Trace event of a king that can fly
+	 */
+	private final static int TRACE_POSSIBLE_FLY = CheckerTrace.event(CheckerTrace.TRACE, "{side}: checkPlayerPossibleMove: king ({},{}) can fly");
+	/**
+	 * Trace event of a piece that can move
+	 */
+	private final static int TRACE_POSSIBLE_MOVE = CheckerTrace.event(CheckerTrace.TRACE, "{side}: checkPlayerPossibleMove: piece ({},{}) can move");
+	/**
+	 * Trace event of a king that can capture
+	 */
+	private final static int TRACE_POSSIBLE_FLY_CAPTURE = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: checkPlayerPossibleCapture (player): king ({},{}) can capture");
+	/**
+	 * Trace event of a piece that can capture
+	 */
+	private final static int TRACE_POSSIBLE_JUMP = CheckerTrace.event(CheckerTrace.TRACE,
+		"{side}: checkPlayerPossibleCapture (player): piece ({},{}) can capture");
+	
 	/**
 	 * the row number where the piece can become king when reaching this row
 	 */
@@ -57,9 +138,9 @@ public class CheckerPlayer implements ActionListener {
 	// state = 3: flied, possible next action: flyCapture again (double fly or more)
 	
 	/**
-	 * Timer instance
+	 * Timer instance shared by the players of all games, a daemon thread so that it does not keep the program running
 	 */
-	protected Timer timer;
+	protected final static Timer timer = new Timer("CheckerPlayer", true);
 	
 	/**
 	 * CheckerTimerTask instance inheriting TimerTask
@@ -67,23 +148,31 @@ public class CheckerPlayer implements ActionListener {
 	protected CheckerTimerTask task;
 	
 	/**
-	 * string that shows Color (WHITE or ORANGE) for tracing and debugging use only
+	 * Side of the player in the game state (CheckerState.ORANGE or CheckerState.WHITE)
+	 */
+	protected int side;
+	
+	/**
+	 * Game the player plays in
 	 */
-	public String colorCode; 
+	protected CheckerGame game;
 	
 	/**
 	 * Constructor of CheckerPlayer class
 	 * <p>                           
-	 * This constructor will create the pieces and place them on the board. All the pieces will be added to ArrayList. A timer is also created.
+	 * This constructor will create the pieces and place them on the board. All the pieces will be added to ArrayList.
 	 * 
 	 * @param  color	The color of the pieces	
-	 * @param  board    The CheckerBoard instance where the pieces are placed on  
+	 * @param  game     The game the player plays in, its board is where the pieces are placed on  
 	 */
-	public CheckerPlayer(Color color, CheckerBoard board)
+	public CheckerPlayer(Color color, CheckerGame game)
 	{
 		int startRow, endRow;
+		CheckerBoard board = game.getBoard();
 		
+		this.game = game;
 		this.playerColor = color;
+		this.side = CheckerBoard.toSide(color);
 		this.pieces = new ArrayList<CheckerPiece>();
 		this.preSelectList = new ArrayList<CheckerPiece>();
 		this.state = 0;
@@ -94,7 +183,6 @@ public class CheckerPlayer implements ActionListener {
 			startRow = CheckerBoard.TILES - PLAY_ROWS;
 			endRow = CheckerBoard.TILES;
 			kingRow = 0;
-			colorCode = "ORANGE: ";
 		}
 		// player WHITE is at top of board
 		else
@@ -102,7 +190,6 @@ public class CheckerPlayer implements ActionListener {
 			startRow = 0;
 			endRow = PLAY_ROWS;
 			kingRow = CheckerBoard.TILES - 1;
-			colorCode = "WHITE: ";
 		}
 		for (int row = startRow; row < endRow; row++)
 		{
@@ -110,7 +197,7 @@ public class CheckerPlayer implements ActionListener {
 			for (int col = row %2; col < CheckerBoard.TILES; col+=2)
 			{
 				// create piece and add to the board
-				CheckerPiece piece = new CheckerPiece(row, col, playerColor);
+				CheckerPiece piece = new CheckerPiece(row, col, playerColor, board);
 				board.addPiece(piece, row, col);
 				
 				// randomly add piece to player array list (head or tail)
@@ -119,15 +206,10 @@ public class CheckerPlayer implements ActionListener {
 					pieces.add(0, piece);
 				else
 					pieces.add(piece);
-				
-				// action action listener for button click
-				piece.addActionListener(this);
 			}
 		}
+		indexPieces();
 		showPlayerPieceList();
-		
-		// start timer
-		timer = new Timer();
 	}
 	
 	/**
@@ -170,6 +252,16 @@ public class CheckerPlayer implements ActionListener {
 		return this.state;
 	}
 	
+	/**
+	 * Getter to get side of the player in the game state 
+	 * 
+	 * @return int Return CheckerState.ORANGE or CheckerState.WHITE  
+	 */
+	public int getSide()
+	{
+		return this.side;
+	}
+	
 	/**
 	 * Getter to get ArrayList which stores all pieces of this player 
 	 *  
@@ -180,6 +272,56 @@ public class CheckerPlayer implements ActionListener {
 		return pieces;
 	}
 	
+	/**
+	 * Add a piece to the tail of the ArrayList which stores all pieces of this player 
+	 *  
+	 * @param  piece The piece to add
+	 */
+	public void addPiece(CheckerPiece piece)
+	{
+		piece.setIndex(pieces.size());
+		pieces.add(piece);
+	}
+	
+	/**
+	 * Record the position of every piece in the ArrayList for pieces on the piece itself
+	 *
+	 */
+	private void indexPieces()
+	{
+		for (int i = 0; i < pieces.size(); i++)
+			pieces.get(i).setIndex(i);
+	}
+	
+	/**
+	 * Swap two pieces in the ArrayList for pieces and update their positions
+	 *  
+	 * @param  i Index of first piece
+	 * @param  j Index of second piece
+	 */
+	private void swapPieces(int i, int j)
+	{
+		CheckerPiece a = pieces.get(i);
+		CheckerPiece b = pieces.get(j);
+		pieces.set(i, b);
+		pieces.set(j, a);
+		a.setIndex(j);
+		b.setIndex(i);
+	}
+	
+	/**
+	 * Remove a piece from the ArrayList for pieces in constant time by moving the tail piece into its position
+	 *  
+	 * @param  piece The piece to remove, it must be in the ArrayList
+	 */
+	private void removePiece(CheckerPiece piece)
+	{
+		int last = pieces.size() - 1;
+		swapPieces(piece.getIndex(), last);
+		pieces.remove(last);
+		piece.setIndex(-1);
+	}
+	
 	/**
 	 * Getter to get ArrayList which stores all pieces pre-selected for next play 
 	 *  
@@ -196,16 +338,14 @@ public class CheckerPlayer implements ActionListener {
 	 */
 	private void showPlayerPieceList()
 	{
-		System.out.print(colorCode + "Player piece list: ");
 		for (CheckerPiece piece : pieces)
 		{
-			System.out.print(piece.getLabel() + " ");
+			CheckerTrace.log(TRACE_PIECE_LIST, side, piece.getRow(), piece.getCol());
 		}
-		System.out.println("");
 	}
 
 	/**
-	 * This method is an action event called when a piece is mouse clicked by the player                            
+	 * This method is an action event called when a piece is mouse clicked by the player, see CheckerBoard.mouseReleased                            
 	 * <p>
 	 * If the clicked piece is owned by the player, srcActionNotify will be called for further action
 	 * 
@@ -215,10 +355,10 @@ public class CheckerPlayer implements ActionListener {
 	{
 		CheckerPiece piece = (CheckerPiece) e.getSource();
 		
-		System.out.println(piece.colorCode + "actionPerformed(): piece " + piece.getLabel() + " is clicked");
+		CheckerTrace.log(TRACE_PIECE_CLICKED, piece.getSide(), piece.getRow(), piece.getCol());
 		
 		// check if current player's piece is in action
-		if (Checker.getCurrentPlayer() == piece.getColor())
+		if (game.getCurrentPlayer() == piece.getColor())
 		{
 			if (preSelectList.isEmpty())
 			{
@@ -258,7 +398,7 @@ public class CheckerPlayer implements ActionListener {
 		// state = 3: invalid
 		
 		int state = getState();
-		System.out.printf(colorCode + "srcxActionNotify(): piece %s state %d\n", piece.getLabel(), state);			
+		CheckerTrace.log(TRACE_SRC_ACTION, side, piece.getRow(), piece.getCol(), state);
 		if ((state == STATE_FREE) || (state == STATE_SELECTED))
 		{
 			setState(STATE_SELECTED); // select or re-select sets this state
@@ -273,8 +413,7 @@ public class CheckerPlayer implements ActionListener {
 			piece.select(true);
 						
 			// and move the selected piece to the head of the player piece array list  
-			pieces.remove(piece);
-			pieces.add(0, piece); 
+			swapPieces(0, piece.getIndex());
 		}			
 	}
 	
@@ -288,9 +427,10 @@ public class CheckerPlayer implements ActionListener {
 	 * <br>STATE_JUMPED &emsp; &emsp;jump
 	 * <br>STATE_FLIED &emsp; &emsp; &emsp;flycapture
 	 * 
-	 * @param  tile  CheckerTile instance which specifies the destination where the piece will get to based on the possible action        
+	 * @param  dstRow  Row number of the tile where the piece will get to based on the possible action        
+	 * @param  dstCol  Column number of the tile where the piece will get to based on the possible action        
 	 */
-	public void dstActionNotify(CheckerTile tile)
+	public void dstActionNotify(int dstRow, int dstCol)
 	{
 		// state = 0: free state, possible next action: none
 		// state = 1: a piece is selected, possible next action: move and jump
@@ -306,11 +446,8 @@ public class CheckerPlayer implements ActionListener {
 		// de-select any piece formerly selected
 		// if there is one, it is always located at head of the player piece array list (index 0)
 		CheckerPiece piece = pieces.get(0);
-					
-		int dstRow = tile.getRow();
-		int dstCol = tile.getCol();
 		
-		System.out.printf(colorCode + "dstActionNotify(): piece %s target (%d,%d) state %d\n", piece.getLabel(), dstRow, dstCol, state);
+		CheckerTrace.log(TRACE_DST_ACTION, side, piece.getRow(), piece.getCol(), dstRow, dstCol, state);
 		// if a piece is selected, possible next action is move or jump
 		// if a king is selected, possible next action is fly
 		if (state == STATE_SELECTED)
@@ -340,7 +477,7 @@ public class CheckerPlayer implements ActionListener {
 				move(piece);
 			}
 			else
-				System.out.println(colorCode + "dstActionNotify(): Invalid action for " + piece.getLabel());
+				CheckerTrace.log(TRACE_INVALID_ACTION, side, piece.getRow(), piece.getCol());
 		}	
 		// check for double/continuous jump possibility 
 		else if (state == STATE_JUMPED)
@@ -373,7 +510,6 @@ public class CheckerPlayer implements ActionListener {
 	public void clrPreSelection()
 	{	
 		
-		System.out.print(colorCode + "clrPreSelection() : preSelectList: ");
 		// clear preSelectList and its pieces
 		for (CheckerPiece piece: preSelectList)
 		{
@@ -387,9 +523,8 @@ public class CheckerPlayer implements ActionListener {
 			piece.setRisk(CheckerPiece.INITIAL_RISK);
 			piece.setTgtRow(-1);
 			piece.setTgtCol(-1);
-			System.out.print(piece.getLabel() + " ");
+			CheckerTrace.log(TRACE_CLEAR_SELECTION, side, piece.getRow(), piece.getCol());
 		}
-		System.out.println("");
 		
 		// clear preSelectList
 		preSelectList.clear();
@@ -407,10 +542,10 @@ public class CheckerPlayer implements ActionListener {
 	 */
 	public void actionComplete()
 	{
-		System.out.println(colorCode + "actionComplete for player ");
+		CheckerTrace.log(TRACE_ACTION_COMPLETE, side);
 		clrPreSelection();
 		setState(STATE_FREE); // reset to free state
-		Checker.turnOver();
+		game.turnOver();
 	}
 	
 	/**
@@ -425,7 +560,7 @@ public class CheckerPlayer implements ActionListener {
 		int col = piece.getTgtCol();
 		
 		// move piece in the board
-		CheckerBoard board = Checker.getBoard();
+		CheckerBoard board = game.getBoard();
 		board.removePiece(piece, piece.getRow(), piece.getCol());
 		board.addPiece(piece, row, col);	
 			
@@ -435,9 +570,9 @@ public class CheckerPlayer implements ActionListener {
 		piece.setCol(col);
 		piece.setLabel("(" + row + "," + col + ")");
 		if ((row == kingRow) && !piece.getCrown())
-			piece.setCrown();
+			board.crownPiece(piece);
 
-		System.out.printf("%s move: piece (%d,%d) is moved to (%d,%d), state %d, crown %s\n", colorCode, piece.getRow(), piece.getCol(), row, col, getState(), piece.getCrown());	
+		CheckerTrace.log(TRACE_MOVE, side, piece.getRow(), piece.getCol(), row, col, getState(), piece.getCrown() ? 1 : 0);
 					
 		actionComplete();
 	}
@@ -450,19 +585,11 @@ public class CheckerPlayer implements ActionListener {
 	 */
 	private void capture(int row, int col)
 	{
-		CheckerBoard board = Checker.getBoard();
-		CheckerPlayer player = Checker.getPlayer(Checker.getOpponentPlayer());
-		CheckerPiece capturePiece = null;
+		CheckerBoard board = game.getBoard();
+		CheckerPlayer player = game.getPlayer(game.getOpponentPlayer());
 		
 		// get the piece to capture
-		for (CheckerPiece piece : player.pieces)
-		{
-			if ((piece.getRow()==row) && (piece.getCol()==col))
-			{
-				capturePiece = piece;
-				break;
-			}
-		}
+		CheckerPiece capturePiece = board.getPiece(row, col);
 		
 		if (capturePiece != null)
 		{	
@@ -470,11 +597,11 @@ public class CheckerPlayer implements ActionListener {
 			board.removePiece(capturePiece, row, col);
 			
 			// remove piece from Opponent Player piece array list
-			player.pieces.remove(capturePiece);
-			System.out.println(colorCode + "capture: Piece (" + row + "," + col + ") was captured");
+			player.removePiece(capturePiece);
+			CheckerTrace.log(TRACE_CAPTURE, side, row, col);
 		}
 		else
-			System.out.println(colorCode + "capture: Piece (" + row + "," + col + ") does not exist, cannot capture");
+			CheckerTrace.log(TRACE_CAPTURE_NONE, side, row, col);
 	}
 	
 	/**
@@ -494,7 +621,7 @@ public class CheckerPlayer implements ActionListener {
 		int midCol = srcCol+(col-srcCol)/2;
 			
 		
-		CheckerBoard board = Checker.getBoard();			
+		CheckerBoard board = game.getBoard();			
 		// move piece in the board
 		board.removePiece(piece, srcRow, srcCol);
 		board.addPiece(piece, row, col);	
@@ -507,7 +634,7 @@ public class CheckerPlayer implements ActionListener {
 		if ((row == kingRow) && !piece.getCrown())
 		{
 			crowning = true;
-			piece.setCrown();
+			board.crownPiece(piece);
 		}		
 		// remove opponent piece
 		capture(midRow, midCol);
@@ -515,7 +642,7 @@ public class CheckerPlayer implements ActionListener {
 		// clear preSelectList after making one successful jump
 		clrPreSelection();
 		
-		System.out.printf("%s jump: piece (%d,%d) is jumped to (%d,%d), captured (%d,%d), state %d, crowning %s\n", colorCode, srcRow, srcCol, row, col, midRow, midCol, getState(), crowning);	
+		CheckerTrace.log(TRACE_JUMP, side, srcRow, srcCol, row, col, getState(), crowning ? 1 : 0);
 		
 		// check for double jump
 		if (!crowning && piece.canJump())
@@ -538,7 +665,7 @@ public class CheckerPlayer implements ActionListener {
 		int col = piece.getTgtCol();
 		
 		// move piece in the board
-		CheckerBoard board = Checker.getBoard();
+		CheckerBoard board = game.getBoard();
 		board.removePiece(piece, piece.getRow(), piece.getCol());
 		board.addPiece(piece, row, col);	
 			
@@ -548,7 +675,7 @@ public class CheckerPlayer implements ActionListener {
 		piece.setCol(col);
 		piece.setLabel("(" + row + "," + col + ")");
 		
-		System.out.printf("%s fly: piece (%d,%d) is flied to (%d,%d), state %d, crown %s\n", colorCode, piece.getRow(), piece.getCol(), row, col, getState(), piece.getCrown());	
+		CheckerTrace.log(TRACE_FLY, side, piece.getRow(), piece.getCol(), row, col, getState(), piece.getCrown() ? 1 : 0);
 			
 		actionComplete();
 	}
@@ -566,7 +693,7 @@ public class CheckerPlayer implements ActionListener {
 		int col = piece.getTgtCol();
 			
 
-		CheckerBoard board = Checker.getBoard();			
+		CheckerBoard board = game.getBoard();			
 		// move piece in the board
 		board.removePiece(piece, srcRow, srcCol);
 		board.addPiece(piece, row, col);	
@@ -582,13 +709,13 @@ public class CheckerPlayer implements ActionListener {
 		int colDir = (col-srcCol)/Math.abs(col-srcCol);
 		int opponentRow = srcRow + rowDir;
 		int opponentCol = srcCol + colDir;
-		while (!board.isTileOccupiedByPlayer(opponentRow, opponentCol, Checker.getOpponentPlayer()))
+		while (!board.isTileOccupiedByPlayer(opponentRow, opponentCol, game.getOpponentPlayer()))
 		{
 			opponentRow+=rowDir;
 			opponentCol+=colDir;
 		}
 		capture(opponentRow, opponentCol);
-		System.out.printf(colorCode + "flyCapture: piece (%d,%d) is flied to (%d,%d), captured (%d,%d), state %d\n", srcRow, srcCol, row, col, opponentRow, opponentCol, getState());
+		CheckerTrace.log(TRACE_FLY_CAPTURE, side, srcRow, srcCol, row, col, opponentRow, opponentCol, getState());
 			
 		// clear preSelectList after making one successful jump
 		clrPreSelection();
@@ -622,14 +749,14 @@ public class CheckerPlayer implements ActionListener {
 				// save the crowned king piece with fly possibility to preSelectList
 				preSelectList.add(0, piece);
 				//piece.setNextAction(CheckerPiece.A_FLY);
-				System.out.println(colorCode + "checkPlayerPossibleMove: king (" + row + "," + col + ") can fly. ");
+				CheckerTrace.log(TRACE_POSSIBLE_FLY, side, row, col);
 			}
 			else if (piece.canMove())
 			{
 				// save the piece with move possibility to preSelectList
 				preSelectList.add(piece);
 				//piece.setNextAction(CheckerPiece.A_MOVE);
-				System.out.println(colorCode + "checkPlayerPossibleMove: piece (" + row + "," + col + ") can move. ");
+				CheckerTrace.log(TRACE_POSSIBLE_MOVE, side, row, col);
 			}
 		}
 		
@@ -648,7 +775,7 @@ public class CheckerPlayer implements ActionListener {
 	 */
 	public void checkPlayerPossibleCapture()
 	{
-		CheckerPlayer player = Checker.getPlayer(Checker.getCurrentPlayer());
+		CheckerPlayer player = game.getPlayer(game.getCurrentPlayer());
 		ArrayList<CheckerPiece> preSelectList = player.getPreSelectArrayList();
 		
 		// check any piece have capture possibility in next action
@@ -662,21 +789,21 @@ public class CheckerPlayer implements ActionListener {
 				// save the crowned king piece with capture possibility to preSelectList
 				preSelectList.add(0, piece);
 				//piece.setNextAction(CheckerPiece.A_FLYCAPTURE);
-				System.out.println(colorCode + "checkPlayerPossibleCapture (player): king (" + row + "," + col + ") can capture. ");
+				CheckerTrace.log(TRACE_POSSIBLE_FLY_CAPTURE, side, row, col);
 			}
 			else if (piece.canJump())
 			{
 				// save the piece with capture possibility to preSelectList
 				preSelectList.add(piece);
 				//piece.setNextAction(CheckerPiece.A_JUMP);
-				System.out.println(colorCode + "checkPlayerPossibleCapture (player): piece (" + row + "," + col + ") can capture. ");
+				CheckerTrace.log(TRACE_POSSIBLE_JUMP, side, row, col);
 			}
 		}
 		
-		if (!preSelectList.isEmpty())
+		if (!preSelectList.isEmpty() && game.getBoard().isDisplayable())
 		{
-			// start a timer task to blink the piece for attention
-			task = new CheckerTimerTask();
+			// start a timer task to blink the piece for attention, only if the board is shown in a frame
+			task = new CheckerTimerTask(player);
 			timer.schedule(task, 500, 500);
 		}
 	}
@@ -0,0 +1,137 @@
+package checker.gui;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.imageio.ImageIO;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public final class CheckerSprites
+{
+	/**
+	 * Constant value for the classpath resource of the crown image
+	 */
+	public final static String CROWN_RESOURCE = "/crown.png";
+	/**
+	 * Constant value for the size the sprites are scaled to, the size of a piece
+	 */
+	public final static int SPRITE_SIZE = CheckerBoard.TILE_SIZE/2;
+
+	/**
+	 * Holder of the crown sprite, so that the image is loaded once, by the first king sprite drawn
+	 */
+	private static final class Crown
+	{
+		/**
+		 * Crown scaled to SPRITE_SIZE, or null if the image cannot be loaded
+		 */
+		private final static BufferedImage IMAGE = load(CROWN_RESOURCE, SPRITE_SIZE);
+	}
+
+	/**
+	 * Holder of the piece sprites, so that they are drawn once, by the first board painted
+	 */
+	private static final class Pieces
+	{
+		/**
+		 * Piece sprites indexed by side * 2 + (1 for a king)
+		 */
+		private final static BufferedImage[] IMAGES = {
+			draw(Color.ORANGE, false), draw(Color.ORANGE, true), draw(Color.WHITE, false), draw(Color.WHITE, true)
+		};
+	}
+
+	/**
+	 * Constructor of CheckerSprites class, no instance is made
+	 *
+	 */
+	private CheckerSprites()
+	{
+	}
+
+	/**
+	 * Getter to get the crown, indicating a piece is a king. All pieces share the same image, it must not be changed.
+	 *
+	 * @return BufferedImage Return the crown scaled to SPRITE_SIZE, or null if the image cannot be loaded
+	 */
+	public static BufferedImage getCrown()
+	{
+		return Crown.IMAGE;
+	}
+
+	/**
+	 * Getter to get the sprite of a piece. All boards share the same images, they must not be changed.
+	 * <p>
+	 * The sprite is SPRITE_SIZE + 1 wide and high, so that it holds the outline of the piece.
+	 *
+	 * @param side CheckerState.ORANGE or CheckerState.WHITE
+	 * @param king Flag set for a king, which has a crown
+	 * @return BufferedImage Return the sprite of the piece
+	 */
+	public static BufferedImage getPiece(int side, boolean king)
+	{
+		return Pieces.IMAGES[side*2 + (king ? 1 : 0)];
+	}
+
+	/**
+	 * Draw a piece in round shape, with a crown on it if it is a king
+	 *
+	 * @param color Color of the piece
+	 * @param king Flag set for a king
+	 * @return BufferedImage Return the sprite of the piece
+	 */
+	private static BufferedImage draw(Color color, boolean king)
+	{
+		BufferedImage sprite = new BufferedImage(SPRITE_SIZE + 1, SPRITE_SIZE + 1, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = sprite.createGraphics();
+		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g2.setColor(color);
+		g2.fillOval(0, 0, SPRITE_SIZE, SPRITE_SIZE);
+		g2.drawOval(0, 0, SPRITE_SIZE, SPRITE_SIZE);
+		if (king && getCrown() != null)
+			g2.drawImage(getCrown(), 0, 0, null);
+		g2.dispose();
+		return sprite;
+	}
+
+	/**
+	 * Load an image from the classpath and scale it once, so that painting draws it without scaling
+	 *
+	 * @param resource Classpath resource of the image
+	 * @param size Width and height of the scaled image
+	 * @return BufferedImage Return the scaled image, or null if the image cannot be loaded
+	 */
+	private static BufferedImage load(String resource, int size)
+	{
+		BufferedImage image;
+		try (InputStream in = CheckerSprites.class.getResourceAsStream(resource))
+		{
+			image = (in == null) ? null : ImageIO.read(in);
+		}
+		catch (IOException e)
+		{
+			image = null;
+		}
+		if (image == null)
+		{
+			System.err.println("Couldn't load/find " + resource + ", kings are drawn without crown");
+			return null;
+		}
+
+		BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2 = scaled.createGraphics();
+		g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+		g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g2.drawImage(image, 0, 0, size, size, null);
+		g2.dispose();
+		return scaled;
+	}
+}
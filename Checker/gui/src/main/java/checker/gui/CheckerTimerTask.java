@@ -1,3 +1,4 @@
+package checker.gui;
 
 import java.util.ArrayList;
 import java.util.TimerTask;
@@ -9,13 +10,27 @@ import java.util.TimerTask;
  */
 public class CheckerTimerTask extends TimerTask
 {
+	/**
+	 * The player whose preSelectList is blinked
+	 */
+	private CheckerPlayer player;
+	
+	/**
+	 * Constructor of CheckerTimerTask class
+	 * 
+	 * @param  player The player whose preSelectList is blinked
+	 */
+	public CheckerTimerTask(CheckerPlayer player)
+	{
+		this.player = player;
+	}
+	
 	
 	/**
 	 * This method will blink all the pieces stored in preSelectList for player's attention 
 	 */
 	public void run()
 	{
-		CheckerPlayer player = Checker.getPlayer(Checker.getCurrentPlayer());
 		ArrayList<CheckerPiece> preSelectList = player.getPreSelectArrayList();
 				
 		if (!preSelectList.isEmpty())
@@ -0,0 +1,252 @@
+package checker.server;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import checker.ai.CheckerSearch;
+import checker.engine.CheckerMove;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerBinaryProtocol implements CheckerEngineListener
+{
+	/**
+	 * Constant value for the opcode of a position: packed position (see CheckerPositionFormat.pack), chain square, action count, then
+	 * the actions as from and to square bytes
+	 */
+	public final static int OP_POSITION = 0x01;
+	/**
+	 * Constant value for the opcode of a go: time budget in milliseconds as an int (0 for the default), depth as a byte (0 for no limit),
+	 * flags as a byte (GO_INFINITE)
+	 */
+	public final static int OP_GO = 0x02;
+	/**
+	 * Constant value for the opcode of a stop, no payload
+	 */
+	public final static int OP_STOP = 0x03;
+	/**
+	 * Constant value for the opcode of an isready, no payload
+	 */
+	public final static int OP_ISREADY = 0x04;
+	/**
+	 * Constant value for the opcode of a quit, no payload
+	 */
+	public final static int OP_QUIT = 0x05;
+	/**
+	 * Constant value for the opcode of an info: depth as a byte, score as an int, nodes as a long, time in milliseconds as an int, then
+	 * the from and to square bytes of the best action
+	 */
+	public final static int OP_INFO = 0x41;
+	/**
+	 * Constant value for the opcode of a bestmove: the from and to square bytes of the action, both NO_SQUARE without legal action
+	 */
+	public final static int OP_BESTMOVE = 0x42;
+	/**
+	 * Constant value for the opcode of a readyok, no payload
+	 */
+	public final static int OP_READYOK = 0x44;
+	/**
+	 * Constant value for the opcode of an error: the reason in UTF-8
+	 */
+	public final static int OP_ERROR = 0x45;
+	/**
+	 * Constant value for the flag of a go searching until stopped
+	 */
+	public final static int GO_INFINITE = 0x01;
+	/**
+	 * Constant value for a square byte that is no square, e.g. no chain square
+	 */
+	public final static int NO_SQUARE = 0xff;
+	/**
+	 * Constant value for the largest frame, length prefix not counted
+	 */
+	public final static int MAX_FRAME = 0xffff;
+
+	/**
+	 * Engine driven by the frames read
+	 */
+	private final CheckerEngine engine;
+	/**
+	 * Output to the front end, written by the reading and the searching thread, one whole frame at a time
+	 */
+	private final OutputStream out;
+
+	/**
+	 * Constructor of CheckerBinaryProtocol class
+	 *
+	 * @param search Search of the engine
+	 * @param out Output to the front end
+	 */
+	public CheckerBinaryProtocol(CheckerSearch search, OutputStream out)
+	{
+		this.out = out;
+		this.engine = new CheckerEngine(search, this);
+	}
+
+	/**
+	 * Read and run frames until OP_QUIT or the end of the input
+	 * <p>
+	 * A frame is an unsigned 16-bit big-endian length, then that many bytes: an opcode byte and its payload, all big-endian. Squares are
+	 * square indexes 0..31 (square number - 1). The frames mean the same as the lines of CheckerTextProtocol.
+	 *
+	 * @param in Input from the front end
+	 * @throws IOException if the input cannot be read
+	 */
+	public void run(InputStream in) throws IOException
+	{
+		DataInputStream data = new DataInputStream(in);
+		byte[] frame = new byte[MAX_FRAME];
+		try
+		{
+			while (true)
+			{
+				int length;
+				try
+				{
+					length = data.readUnsignedShort();
+				}
+				catch (EOFException e)
+				{
+					break;
+				}
+				data.readFully(frame, 0, length);
+				ByteBuffer buffer = ByteBuffer.wrap(frame, 0, length);
+				if (length == 0)
+					continue;
+				int op = buffer.get() & 0xff;
+				if (op == OP_QUIT)
+					break;
+				try
+				{
+					handle(op, buffer);
+				}
+				catch (RuntimeException e)
+				{
+					sendError((e instanceof BufferUnderflowException) ? "Frame too short" : e.getMessage());
+				}
+			}
+		}
+		finally
+		{
+			engine.close();
+		}
+	}
+
+	/**
+	 * Run one frame
+	 *
+	 * @param op Opcode
+	 * @param buffer Payload
+	 */
+	private void handle(int op, ByteBuffer buffer)
+	{
+		if (op == OP_ISREADY)
+			send(ByteBuffer.allocate(3).putShort((short) 1).put((byte) OP_READYOK));
+		else if (op == OP_POSITION)
+		{
+			int orange = buffer.getInt();
+			int white = buffer.getInt();
+			int kings = buffer.getInt();
+			int chain = buffer.get() & 0xff;
+			int[] hops = new int[(buffer.get() & 0xff) * 2];
+			for (int i = 0; i < hops.length; i++)
+				hops[i] = buffer.get() & 0xff;
+			engine.setPosition(orange, white, kings, (chain == NO_SQUARE) ? CheckerState.NONE : chain, hops);
+		}
+		else if (op == OP_GO)
+		{
+			long millis = buffer.getInt() & 0xffffffffL;
+			int depth = buffer.get() & 0xff;
+			int flags = buffer.get() & 0xff;
+			if (millis == 0)
+				millis = (depth != 0) ? CheckerEngine.INFINITE_MILLIS : CheckerEngine.MOVE_MILLIS;
+			engine.go(millis, (depth == 0) ? CheckerSearch.MAX_DEPTH : depth, (flags & GO_INFINITE) != 0);
+		}
+		else if (op == OP_STOP)
+			engine.stop();
+		else
+			throw new IllegalArgumentException("Unknown opcode " + op);
+	}
+
+	/**
+	 * Report a completed iteration as an info frame
+	 *
+	 * @param depth Depth of the completed iteration
+	 * @param score Score of the best action from the view of the side to move
+	 * @param nodes Number of nodes searched so far
+	 * @param nanos Time searched so far in nanoseconds
+	 * @param move Best action of the iteration, packed by CheckerMove
+	 */
+	public void iterationCompleted(int depth, int score, long nodes, long nanos, int move)
+	{
+		send(ByteBuffer.allocate(22).putShort((short) 20).put((byte) OP_INFO).put((byte) depth).putInt(score).putLong(nodes)
+			.putInt((int) (nanos / 1000000)).put((byte) CheckerMove.getFrom(move)).put((byte) CheckerMove.getTo(move)));
+	}
+
+	/**
+	 * Report the result of a search as a bestmove frame
+	 *
+	 * @param move Selected action packed by CheckerMove, or CheckerState.NONE if there is no legal action
+	 */
+	public void bestMove(int move)
+	{
+		int from = (move == CheckerState.NONE) ? NO_SQUARE : CheckerMove.getFrom(move);
+		int to = (move == CheckerState.NONE) ? NO_SQUARE : CheckerMove.getTo(move);
+		send(ByteBuffer.allocate(5).putShort((short) 3).put((byte) OP_BESTMOVE).put((byte) from).put((byte) to));
+	}
+
+	/**
+	 * Report a failed search as an error frame
+	 *
+	 * @param reason Description of the failure
+	 */
+	public void searchFailed(String reason)
+	{
+		sendError(reason);
+	}
+
+	/**
+	 * Write an error frame
+	 *
+	 * @param reason Description of the error, cut to fit in a frame
+	 */
+	private void sendError(String reason)
+	{
+		byte[] text = String.valueOf(reason).getBytes(StandardCharsets.UTF_8);
+		int length = Math.min(text.length, MAX_FRAME - 1);
+		send(ByteBuffer.allocate(3 + length).putShort((short) (1 + length)).put((byte) OP_ERROR).put(text, 0, length));
+	}
+
+	/**
+	 * Write one frame and flush it, so that the front end sees it at once
+	 *
+	 * @param frame Frame with its length prefix, filled up to its capacity
+	 * @throws UncheckedIOException if the output cannot be written
+	 */
+	private void send(ByteBuffer frame)
+	{
+		synchronized (out)
+		{
+			try
+			{
+				out.write(frame.array(), 0, frame.position());
+				out.flush();
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,391 @@
+package checker.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import checker.ai.CheckerSearch;
+import checker.ai.CheckerSearchListener;
+import checker.ai.CheckerTablebase;
+import checker.ai.CheckerTranspositionTable;
+import checker.engine.CheckerMove;
+import checker.engine.CheckerMoveGenerator;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerPositionFormat;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerEngine implements CheckerSearchListener
+{
+	/**
+	 * Constant value for the time budget of a search given no time limit, in milliseconds
+	 */
+	public final static long MOVE_MILLIS = 1000;
+	/**
+	 * Constant value for the time budget of an infinite search in milliseconds, small enough that the deadline does not overflow
+	 */
+	public final static long INFINITE_MILLIS = Long.MAX_VALUE / 4000000L;
+
+	/**
+	 * Search, only used by the searching thread while a search runs
+	 */
+	private final CheckerSearch search;
+	/**
+	 * Listener told of the progress and the result of each search
+	 */
+	private final CheckerEngineListener listener;
+	/**
+	 * Single thread running the searches, so that commands are read while a search runs
+	 */
+	private final ExecutorService searcher = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "CheckerEngine");
+		thread.setDaemon(true);
+		return thread;
+	});
+	/**
+	 * Position set by the front end, only used by the reading thread
+	 */
+	private final CheckerState state = new CheckerState();
+	/**
+	 * Square index of the piece that must continue capturing in the position, or CheckerState.NONE
+	 */
+	private int chainSquare = CheckerState.NONE;
+	/**
+	 * Position being set up by the front end, copied to state once all its actions are legal. Only used by the reading thread.
+	 */
+	private final CheckerState scratch = new CheckerState();
+	/**
+	 * Move list to check the actions of the front end, only used by the reading thread
+	 */
+	private final CheckerMoveList moves = new CheckerMoveList();
+	/**
+	 * Copy of the position being searched, only used by the searching thread
+	 */
+	private final CheckerState searchState = new CheckerState();
+	/**
+	 * Move list of the search, only used by the searching thread
+	 */
+	private final CheckerMoveList searchMoves = new CheckerMoveList();
+	/**
+	 * Flag set from go until the best action is found
+	 */
+	private volatile boolean searching = false;
+	/**
+	 * Flag set when the running search is asked to stop
+	 */
+	private volatile boolean stopRequested = false;
+	/**
+	 * Lock an infinite search waits on for stop before its best action is told
+	 */
+	private final Object stopLock = new Object();
+
+	/**
+	 * Constructor of CheckerEngine class
+	 * <p>
+	 * The engine starts in the starting position.
+	 *
+	 * @param search Search used for every go, given to the engine for its own
+	 * @param listener Listener told of the progress and the result of each search
+	 */
+	public CheckerEngine(CheckerSearch search, CheckerEngineListener listener)
+	{
+		this.search = search;
+		this.listener = listener;
+		search.setListener(this);
+		state.setup();
+	}
+
+	/**
+	 * Set the position, then play the given actions
+	 * <p>
+	 * The position is only changed if the text and all actions are valid.
+	 *
+	 * @param position Position as text (see CheckerPositionFormat), or "startpos"
+	 * @param actions Actions as square numbers, e.g. "22-18" or "22x15", one hop each
+	 * @throws IllegalArgumentException if the position or an action is not valid, or a search is running
+	 */
+	public void setPosition(String position, String[] actions)
+	{
+		checkIdle();
+		if (position.equals("startpos"))
+			scratch.setup();
+		else
+			CheckerPositionFormat.fromText(position, scratch);
+		int chain = CheckerState.NONE;
+		for (String action : actions)
+		{
+			String[] squares = action.split("[-x]");
+			if (squares.length != 2)
+				throw new IllegalArgumentException("Bad action \"" + action + "\": expected from-to or fromxto");
+			chain = play(chain, Integer.parseInt(squares[0]) - 1, Integer.parseInt(squares[1]) - 1);
+		}
+		commit(chain);
+	}
+
+	/**
+	 * Set the position from its packed form (see CheckerPositionFormat), then play the given hops
+	 * <p>
+	 * The position is only changed if the chain square and all hops are valid.
+	 *
+	 * @param orange Orange pieces
+	 * @param white White pieces
+	 * @param kings Kings word, see CheckerPositionFormat.packKings
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param hops Square indexes of the hops, from and to of each hop in turn
+	 * @throws IllegalArgumentException if a search is running, the chain square is not a piece of the side to move that can capture,
+	 * or a hop is not legal
+	 */
+	public void setPosition(int orange, int white, int kings, int chainSquare, int[] hops)
+	{
+		checkIdle();
+		CheckerPositionFormat.unpack(orange, white, kings, scratch);
+		if (chainSquare != CheckerState.NONE && (chainSquare < 0 || chainSquare >= CheckerState.SQUARES ||
+			!scratch.isOccupiedBy(chainSquare, scratch.getSideToMove()) || !CheckerMoveGenerator.hasCapture(scratch, chainSquare)))
+			throw new IllegalArgumentException("Bad chain square " + chainSquare + ": expected a piece of the side to move that can capture");
+		int chain = chainSquare;
+		for (int i = 0; i + 1 < hops.length; i += 2)
+			chain = play(chain, hops[i], hops[i + 1]);
+		commit(chain);
+	}
+
+	/**
+	 * Play one hop of the side to move in the position being set up
+	 * <p>
+	 * If the hop is a capture the same piece must continue, the side to move does not change.
+	 *
+	 * @param chain Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param from Square index the piece leaves
+	 * @param to Square index the piece lands on
+	 * @return int Return square index of the piece that must continue capturing after the hop, or CheckerState.NONE
+	 * @throws IllegalArgumentException if the hop is not legal
+	 */
+	private int play(int chain, int from, int to)
+	{
+		CheckerMoveGenerator.generate(scratch, chain, moves);
+		int index = CheckerState.NONE;
+		for (int i = 0; i < moves.size(); i++)
+		{
+			if (moves.getFrom(i) == from && moves.getTo(i) == to)
+				index = i;
+		}
+		if (index == CheckerState.NONE)
+			throw new IllegalArgumentException("Illegal action " + (from + 1) + "-" + (to + 1));
+
+		int captured = moves.getCaptured(index);
+		boolean crowning = scratch.play(from, to, captured);
+		// continue the capture with the same piece, else turn over
+		if (captured != CheckerState.NONE && !crowning && CheckerMoveGenerator.hasCapture(scratch, to))
+			return to;
+		scratch.setSideToMove(CheckerState.opponent(scratch.getSideToMove()));
+		return CheckerState.NONE;
+	}
+
+	/**
+	 * Make the position being set up the position of the engine
+	 *
+	 * @param chain Square index of the piece that must continue capturing, or CheckerState.NONE
+	 */
+	private void commit(int chain)
+	{
+		state.copyFrom(scratch);
+		chainSquare = chain;
+	}
+
+	/**
+	 * Start searching the position on the searching thread and return at once
+	 * <p>
+	 * The listener is told of each completed iteration, then of the best action when the search is over. A capture that the same piece
+	 * must continue is decided one hop per search. If the search fails, the listener is told of the error, then of no action.
+	 * <p>
+	 * An infinite search is not limited by time or depth, and its best action is only told after stop, even if the search has proven the
+	 * result or reached CheckerSearch.MAX_DEPTH before.
+	 *
+	 * @param millis Time budget in milliseconds, INFINITE_MILLIS for no time limit
+	 * @param depth Maximum depth, at most CheckerSearch.MAX_DEPTH
+	 * @param infinite Flag set to search until stopped, millis and depth are then not used
+	 * @throws IllegalArgumentException if a search is running
+	 */
+	public void go(long millis, int depth, boolean infinite)
+	{
+		checkIdle();
+		searching = true;
+		stopRequested = false;
+		search.setTimeBudget(infinite ? INFINITE_MILLIS : millis);
+		search.setMaxDepth(infinite ? CheckerSearch.MAX_DEPTH : depth);
+		searchState.copyFrom(state);
+		int chain = chainSquare;
+		searcher.execute(() -> {
+			int move = CheckerState.NONE;
+			try
+			{
+				int index = search.selectMove(searchState, chain, searchMoves);
+				if (index != CheckerState.NONE)
+					move = searchMoves.get(index);
+			}
+			catch (RuntimeException e)
+			{
+				listener.searchFailed("Search failed: " + e);
+			}
+			finally
+			{
+				if (infinite)
+					awaitStop();
+				searching = false;
+				listener.bestMove(move);
+			}
+		});
+	}
+
+	/**
+	 * Stop the running search, if any. The search returns within a node, and the listener is told of the best action found so far.
+	 *
+	 */
+	public void stop()
+	{
+		search.stop();
+		synchronized (stopLock)
+		{
+			stopRequested = true;
+			stopLock.notifyAll();
+		}
+	}
+
+	/**
+	 * Wait until the search is asked to stop
+	 *
+	 */
+	private void awaitStop()
+	{
+		synchronized (stopLock)
+		{
+			while (!stopRequested)
+			{
+				try
+				{
+					stopLock.wait();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check if a search is running
+	 *
+	 * @return boolean Return true from go until the best action is found
+	 */
+	public boolean isSearching()
+	{
+		return searching;
+	}
+
+	/**
+	 * Getter to get the position as text
+	 *
+	 * @return String Return the position, see CheckerPositionFormat
+	 */
+	public String getPosition()
+	{
+		return CheckerPositionFormat.toText(state);
+	}
+
+	/**
+	 * Stop the running search, if any, and the searching thread
+	 *
+	 */
+	public void close()
+	{
+		stop();
+		searcher.shutdown();
+	}
+
+	/**
+	 * Tell the listener of a completed iteration, and stop the search if a stop came before the search had started
+	 *
+	 * @param depth Depth of the completed iteration
+	 * @param score Score of the best action from the view of the side to move
+	 * @param nodes Number of nodes searched so far
+	 * @param nanos Time searched so far in nanoseconds
+	 * @param move Best action of the iteration, packed by CheckerMove
+	 */
+	public void iterationCompleted(int depth, int score, long nodes, long nanos, int move)
+	{
+		// selectMove clears the stop flag of the search as it starts, a stop sent right after go is applied here
+		if (stopRequested)
+			search.stop();
+		listener.iterationCompleted(depth, score, nodes, nanos, move);
+	}
+
+	/**
+	 * Check that no search is running
+	 *
+	 * @throws IllegalArgumentException if a search is running
+	 */
+	private void checkIdle()
+	{
+		if (searching)
+			throw new IllegalArgumentException("Searching, send stop first");
+	}
+
+	/**
+	 * Get an action as text, the square numbers joined by '-' for a move or 'x' for a capture
+	 *
+	 * @param move Action packed by CheckerMove
+	 * @return String Return the action as text, e.g. "22-18"
+	 */
+	public static String toText(int move)
+	{
+		return (CheckerMove.getFrom(move) + 1) + (CheckerMove.isCapture(move) ? "x" : "-") + (CheckerMove.getTo(move) + 1);
+	}
+
+	/**
+	 * Main method, entry point of the program to run the engine for a front end on standard input and output
+	 * <p>
+	 * With argument "-binary", the length-prefixed binary protocol is spoken (see CheckerBinaryProtocol), else the line protocol
+	 * (see CheckerTextProtocol). With "-megabytes n" the transposition table is n megabytes, with "-tablebase file" an endgame
+	 * tablebase is probed.
+	 *
+	 * @param args Program arguments
+	 * @throws IOException if a file cannot be read or the front end cannot be read from or written to
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		boolean binary = false;
+		int megabytes = CheckerSearch.TABLE_MEGABYTES;
+		CheckerTablebase tablebase = null;
+		for (int i = 0; i < args.length; i++)
+		{
+			if (args[i].equals("-binary"))
+				binary = true;
+			else if (args[i].equals("-megabytes") && i + 1 < args.length)
+				megabytes = Integer.parseInt(args[++i]);
+			else if (args[i].equals("-tablebase") && i + 1 < args.length)
+				tablebase = new CheckerTablebase(Paths.get(args[++i]));
+			else
+				throw new IllegalArgumentException("Unknown argument " + args[i]);
+		}
+
+		CheckerSearch search = new CheckerSearch(MOVE_MILLIS, CheckerSearch.MAX_DEPTH, new CheckerTranspositionTable(megabytes));
+		search.setTablebase(tablebase);
+		if (binary)
+			new CheckerBinaryProtocol(search, new BufferedOutputStream(System.out)).run(new BufferedInputStream(System.in));
+		else
+			new CheckerTextProtocol(search, new PrintStream(System.out, false, StandardCharsets.UTF_8))
+				.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,25 @@
+package checker.server;
+
+import checker.ai.CheckerSearchListener;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public interface CheckerEngineListener extends CheckerSearchListener
+{
+	/**
+	 * Called on the searching thread when a search is over, because it is stopped, out of time, at its depth or proven
+	 *
+	 * @param move Selected action packed by CheckerMove, or CheckerState.NONE if the side to move has no legal action
+	 */
+	public void bestMove(int move);
+
+	/**
+	 * Called on the searching thread when a search fails, before bestMove is called with no action
+	 *
+	 * @param reason Description of the failure
+	 */
+	public void searchFailed(String reason);
+}
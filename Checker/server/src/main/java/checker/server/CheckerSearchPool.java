@@ -0,0 +1,90 @@
+package checker.server;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import checker.ai.CheckerMetrics;
+import checker.ai.CheckerSearch;
+import checker.ai.CheckerStrategy;
+import checker.ai.CheckerTablebase;
+import checker.ai.CheckerTranspositionTable;
+import checker.engine.CheckerMoveList;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerSearchPool implements CheckerStrategy
+{
+	/**
+	 * Searches not in use. A search is not thread-safe, so each decision borrows one for its own.
+	 */
+	private final BlockingQueue<CheckerSearch> idle;
+
+	/**
+	 * Constructor of CheckerSearchPool class
+	 * <p>
+	 * The pool bounds the number of searches running at the same time, and so the processor time and the memory of the transposition
+	 * tables. Further decisions wait for a search to be returned.
+	 *
+	 * @param searches Number of searches, the most decisions that can run at the same time
+	 * @param timeBudget Time budget of each decision in milliseconds
+	 * @param megabytes Memory cap of the transposition table of each search
+	 * @param tablebase Endgame tablebase shared by the searches, or null
+	 * @param metrics Metrics shared by the searches, or null
+	 */
+	public CheckerSearchPool(int searches, long timeBudget, int megabytes, CheckerTablebase tablebase, CheckerMetrics metrics)
+	{
+		idle = new ArrayBlockingQueue<CheckerSearch>(searches);
+		for (int i = 0; i < searches; i++)
+		{
+			CheckerSearch search = new CheckerSearch(timeBudget, CheckerSearch.MAX_DEPTH, new CheckerTranspositionTable(megabytes));
+			search.setTablebase(tablebase);
+			search.setMetrics(metrics);
+			idle.add(search);
+		}
+	}
+
+	/**
+	 * Select the next action with a search borrowed from the pool, waiting for one if all are in use
+	 *
+	 * @param state Game state, the side to move is the player to decide for. It is not changed.
+	 * @param chainSquare Square index of the piece that must continue capturing, or CheckerState.NONE
+	 * @param moves Move list which will be filled with all legal actions
+	 * @return int Return index of the selected action in moves, or CheckerState.NONE if there is no legal action
+	 * @throws IllegalStateException if the thread is interrupted while waiting
+	 */
+	public int selectMove(CheckerState state, int chainSquare, CheckerMoveList moves)
+	{
+		CheckerSearch search;
+		try
+		{
+			search = idle.take();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a search", e);
+		}
+		try
+		{
+			return search.selectMove(state, chainSquare, moves);
+		}
+		finally
+		{
+			idle.add(search);
+		}
+	}
+
+	/**
+	 * Getter to get number of searches not in use
+	 *
+	 * @return int Return number of idle searches
+	 */
+	public int getIdle()
+	{
+		return idle.size();
+	}
+}
@@ -0,0 +1,504 @@
+package checker.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.JMException;
+
+import checker.ai.CheckerMetrics;
+import checker.ai.CheckerOpeningBook;
+import checker.ai.CheckerStrategy;
+import checker.ai.CheckerTablebase;
+import checker.engine.CheckerTrace;
+import checker.gui.CheckerComputerPlayer;
+import checker.gui.CheckerGame;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerServer implements Runnable
+{
+	/**
+	 * Constant value for the default port
+	 */
+	public final static int PORT = 7777;
+	/**
+	 * Constant value for the default number of sessions admitted at the same time
+	 */
+	public final static int MAX_SESSIONS = 20000;
+	/**
+	 * Constant value for the default number of searches running at the same time
+	 */
+	public final static int SEARCHES = 256;
+	/**
+	 * Constant value for the default time budget of each computer decision in milliseconds
+	 */
+	public final static long SEARCH_MILLIS = 1000;
+	/**
+	 * Constant value for the default memory cap of the transposition table of each search
+	 */
+	public final static int TABLE_MEGABYTES = 1;
+	/**
+	 * Constant value for the longest command line accepted, a client sending a longer one is disconnected
+	 */
+	public final static int MAX_LINE = 256;
+
+	/**
+	 * Trace event of a session admitted
+	 */
+	private final static int TRACE_OPEN = CheckerTrace.event(CheckerTrace.INFO, "session opened, {} sessions");
+	/**
+	 * Trace event of a session closed
+	 */
+	private final static int TRACE_CLOSE = CheckerTrace.event(CheckerTrace.INFO, "session closed, {} sessions");
+	/**
+	 * Trace event of a connection refused as the server is full
+	 */
+	private final static int TRACE_REFUSE = CheckerTrace.event(CheckerTrace.INFO, "connection refused, {} sessions");
+
+	/**
+	 * Reply to a connection refused as the server is full
+	 */
+	private final static byte[] BUSY = "BUSY\n".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Selector of the listening channel and all session channels, only used by the server thread
+	 */
+	private final Selector selector;
+	/**
+	 * Listening channel
+	 */
+	private final ServerSocketChannel serverChannel;
+	/**
+	 * Number of sessions admitted at the same time
+	 */
+	private final int maxSessions;
+	/**
+	 * Executor running the commands of the sessions
+	 */
+	private final ExecutorService executor;
+	/**
+	 * Strategy of the computer players of all sessions, thread-safe
+	 */
+	private final CheckerStrategy strategy;
+	/**
+	 * Opening book of the computer players of all sessions, or null
+	 */
+	private final CheckerOpeningBook book;
+	/**
+	 * Number of sessions open
+	 */
+	private final AtomicInteger sessions = new AtomicInteger();
+	/**
+	 * Number of connections refused as the server was full
+	 */
+	private final AtomicInteger refused = new AtomicInteger();
+	/**
+	 * Sessions with replies to write, handed from the session threads to the server thread
+	 */
+	private final Queue<CheckerSession> writable = new ConcurrentLinkedQueue<CheckerSession>();
+	/**
+	 * Buffer the sessions are read into, only used by the server thread
+	 */
+	private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(8192);
+	/**
+	 * Flag cleared to stop the server
+	 */
+	private volatile boolean running = true;
+
+	/**
+	 * Constructor of CheckerServer class
+	 * <p>
+	 * The server listens on the address at once. Run it to serve the sessions.
+	 *
+	 * @param address Address to listen on, port 0 for any free port
+	 * @param maxSessions Number of sessions admitted at the same time, further connections are refused with "BUSY"
+	 * @param executor Executor running the commands of the sessions, see newSessionExecutor
+	 * @param strategy Strategy of the computer players, shared by all sessions so it must be thread-safe, e.g. a CheckerSearchPool
+	 * @param book Opening book of the computer players, or null
+	 * @throws IOException if the address cannot be listened on
+	 */
+	public CheckerServer(InetSocketAddress address, int maxSessions, ExecutorService executor, CheckerStrategy strategy,
+		CheckerOpeningBook book) throws IOException
+	{
+		this.maxSessions = maxSessions;
+		this.executor = executor;
+		this.strategy = strategy;
+		this.book = book;
+		selector = Selector.open();
+		serverChannel = ServerSocketChannel.open();
+		serverChannel.bind(address, 1024);
+		serverChannel.configureBlocking(false);
+		serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+	}
+
+	/**
+	 * Create the executor for the commands of the sessions: a virtual thread per drain where the runtime has virtual threads, else a
+	 * pool of daemon threads. Idle sessions hold no thread either way.
+	 *
+	 * @return ExecutorService Return the executor
+	 */
+	public static ExecutorService newSessionExecutor()
+	{
+		try
+		{
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			return Executors.newCachedThreadPool(r -> {
+				Thread thread = new Thread(r, "CheckerSession");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Getter to get the port the server listens on
+	 *
+	 * @return int Return port number
+	 */
+	public int getPort()
+	{
+		return serverChannel.socket().getLocalPort();
+	}
+
+	/**
+	 * Getter to get number of sessions open
+	 *
+	 * @return int Return number of sessions
+	 */
+	public int getSessions()
+	{
+		return sessions.get();
+	}
+
+	/**
+	 * Getter to get number of connections refused as the server was full
+	 *
+	 * @return int Return number of refused connections
+	 */
+	public int getRefused()
+	{
+		return refused.get();
+	}
+
+	/**
+	 * Serve the sessions until stopped: accept connections, read commands and write replies, without blocking on any one connection
+	 *
+	 */
+	public void run()
+	{
+		try
+		{
+			while (running)
+			{
+				selector.select();
+				for (CheckerSession session; (session = writable.poll()) != null; )
+				{
+					if (session.key.isValid())
+						session.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+				}
+
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext())
+				{
+					SelectionKey key = keys.next();
+					keys.remove();
+					if (!key.isValid())
+						continue;
+					if (key.isAcceptable())
+						accept();
+					else
+					{
+						if (key.isReadable())
+							read(key);
+						if (key.isValid() && key.isWritable())
+							write(key);
+					}
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			System.out.println("CheckerServer: " + e.getMessage());
+		}
+		finally
+		{
+			for (SelectionKey key : selector.keys())
+			{
+				if (key.isValid() && key.attachment() != null)
+					close(key);
+			}
+			try
+			{
+				serverChannel.close();
+				selector.close();
+			}
+			catch (IOException e)
+			{
+				System.out.println("CheckerServer: " + e.getMessage());
+			}
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Stop serving, closing all sessions
+	 *
+	 */
+	public void stop()
+	{
+		running = false;
+		selector.wakeup();
+	}
+
+	/**
+	 * Create a game for a session, the computer player set up with the shared strategy and book
+	 * <p>
+	 * The computer player's turn is run on the session's thread, right after the turn of the client.
+	 *
+	 * @return CheckerGame Return the game
+	 */
+	CheckerGame newGame()
+	{
+		CheckerGame game = new CheckerGame(true, Runnable::run);
+		CheckerComputerPlayer playerWhite = game.getComputerPlayer();
+		playerWhite.setStrategy(strategy);
+		playerWhite.setOpeningBook(book);
+		return game;
+	}
+
+	/**
+	 * Queue a reply line for the server thread to write
+	 *
+	 * @param session Session to reply to
+	 * @param text Reply without the line end
+	 */
+	void send(CheckerSession session, String text)
+	{
+		session.outbox.add(ByteBuffer.wrap((text + "\n").getBytes(StandardCharsets.UTF_8)));
+		writable.add(session);
+		selector.wakeup();
+	}
+
+	/**
+	 * Close a session once the replies queued so far are written
+	 *
+	 * @param session Session to close
+	 */
+	void close(CheckerSession session)
+	{
+		session.closing = true;
+		writable.add(session);
+		selector.wakeup();
+	}
+
+	/**
+	 * Accept the waiting connections, admitting each as a session unless the server is full
+	 *
+	 * @throws IOException if the listening channel fails
+	 */
+	private void accept() throws IOException
+	{
+		SocketChannel channel;
+		while ((channel = serverChannel.accept()) != null)
+		{
+			if (sessions.get() >= maxSessions)
+			{
+				refused.incrementAndGet();
+				CheckerTrace.log(TRACE_REFUSE, sessions.get());
+				channel.configureBlocking(false);
+				channel.write(ByteBuffer.wrap(BUSY));
+				channel.close();
+				continue;
+			}
+			channel.configureBlocking(false);
+			channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+			CheckerSession session = new CheckerSession(this, executor);
+			session.key = channel.register(selector, SelectionKey.OP_READ, session);
+			CheckerTrace.log(TRACE_OPEN, sessions.incrementAndGet());
+		}
+	}
+
+	/**
+	 * Read from a session and hand each complete command line to it
+	 *
+	 * @param key Selection key of the session
+	 */
+	private void read(SelectionKey key)
+	{
+		CheckerSession session = (CheckerSession) key.attachment();
+		int count;
+		readBuffer.clear();
+		try
+		{
+			count = ((SocketChannel) key.channel()).read(readBuffer);
+		}
+		catch (IOException e)
+		{
+			count = -1;
+		}
+		if (count < 0)
+		{
+			close(key);
+			return;
+		}
+
+		readBuffer.flip();
+		while (readBuffer.hasRemaining() && !session.closing)
+		{
+			byte b = readBuffer.get();
+			if (b == '\n')
+			{
+				String command = (session.input != null) ? session.input.toString() : "";
+				session.input = null;
+				if (!session.receive(command))
+				{
+					send(session, "ERR too many commands waiting");
+					close(session);
+				}
+			}
+			else if (b != '\r')
+			{
+				if (session.input == null)
+					session.input = new StringBuilder();
+				if (session.input.length() >= MAX_LINE)
+				{
+					send(session, "ERR command longer than " + MAX_LINE);
+					close(session);
+				}
+				else
+					session.input.append((char) (b & 0xff));
+			}
+		}
+	}
+
+	/**
+	 * Write the queued replies of a session as far as the connection takes them, and close the session if it is closing and all
+	 * replies are written
+	 *
+	 * @param key Selection key of the session
+	 */
+	private void write(SelectionKey key)
+	{
+		CheckerSession session = (CheckerSession) key.attachment();
+		SocketChannel channel = (SocketChannel) key.channel();
+		try
+		{
+			for (ByteBuffer buffer; (buffer = session.outbox.peek()) != null; session.outbox.poll())
+			{
+				channel.write(buffer);
+				if (buffer.hasRemaining())
+					return;
+			}
+		}
+		catch (IOException e)
+		{
+			close(key);
+			return;
+		}
+		if (session.closing)
+			close(key);
+		else
+			key.interestOps(SelectionKey.OP_READ);
+	}
+
+	/**
+	 * Close the connection of a session at once
+	 *
+	 * @param key Selection key of the session
+	 */
+	private void close(SelectionKey key)
+	{
+		CheckerSession session = (CheckerSession) key.attachment();
+		session.closing = true;
+		key.cancel();
+		try
+		{
+			key.channel().close();
+		}
+		catch (IOException e)
+		{
+			// the connection is gone either way
+		}
+		CheckerTrace.log(TRACE_CLOSE, sessions.decrementAndGet());
+	}
+
+	/**
+	 * Main method, entry point of the program to start the session server
+	 * <p>
+	 * Arguments are pairs: "-port n" (default PORT), "-sessions n" (default MAX_SESSIONS), "-searches n" searches running at the same
+	 * time (default SEARCHES), "-millis n" time budget of each decision (default SEARCH_MILLIS), "-megabytes n" transposition table of
+	 * each search (default TABLE_MEGABYTES), "-tablebase file", "-book file", and "-metrics name" to register the search metrics with JMX.
+	 * Clients connect with a line protocol, see CheckerSession.
+	 *
+	 * @param args Program arguments
+	 * @throws IOException if the port cannot be listened on or a file cannot be read
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		System.setProperty("java.awt.headless", "true");
+		int port = PORT;
+		int maxSessions = MAX_SESSIONS;
+		int searches = SEARCHES;
+		long millis = SEARCH_MILLIS;
+		int megabytes = TABLE_MEGABYTES;
+		CheckerTablebase tablebase = null;
+		CheckerOpeningBook book = null;
+		CheckerMetrics metrics = null;
+		for (int i = 0; i + 1 < args.length; i += 2)
+		{
+			if (args[i].equals("-port"))
+				port = Integer.parseInt(args[i + 1]);
+			else if (args[i].equals("-sessions"))
+				maxSessions = Integer.parseInt(args[i + 1]);
+			else if (args[i].equals("-searches"))
+				searches = Integer.parseInt(args[i + 1]);
+			else if (args[i].equals("-millis"))
+				millis = Long.parseLong(args[i + 1]);
+			else if (args[i].equals("-megabytes"))
+				megabytes = Integer.parseInt(args[i + 1]);
+			else if (args[i].equals("-tablebase"))
+				tablebase = new CheckerTablebase(Paths.get(args[i + 1]));
+			else if (args[i].equals("-book"))
+				book = new CheckerOpeningBook(Paths.get(args[i + 1]));
+			else if (args[i].equals("-metrics"))
+			{
+				metrics = new CheckerMetrics();
+				try
+				{
+					metrics.register(args[i + 1]);
+				}
+				catch (JMException e)
+				{
+					System.out.println("CheckerServer: couldn't register metrics: " + e.getMessage());
+				}
+			}
+			else
+				throw new IllegalArgumentException("Unknown argument " + args[i]);
+		}
+
+		CheckerSearchPool pool = new CheckerSearchPool(searches, millis, megabytes, tablebase, metrics);
+		CheckerServer server = new CheckerServer(new InetSocketAddress(port), maxSessions, newSessionExecutor(), pool, book);
+		System.out.println("CheckerServer: listening on port " + server.getPort() + ", " + maxSessions + " sessions, " + searches + " searches");
+		server.run();
+	}
+}
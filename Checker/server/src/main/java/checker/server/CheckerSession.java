@@ -0,0 +1,283 @@
+package checker.server;
+
+import java.awt.Color;
+import java.awt.event.ActionEvent;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import checker.engine.CheckerPositionFormat;
+import checker.engine.CheckerState;
+import checker.gui.CheckerBoard;
+import checker.gui.CheckerGame;
+import checker.gui.CheckerGameListener;
+import checker.gui.CheckerPiece;
+import checker.gui.CheckerPlayer;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerSession implements CheckerGameListener
+{
+	/**
+	 * Constant value for the number of commands that may wait for the session, a client sending more is disconnected
+	 */
+	public final static int MAX_PENDING = 16;
+
+	/**
+	 * Server the session is connected through
+	 */
+	private final CheckerServer server;
+	/**
+	 * Executor running the commands of the session, one drain at a time
+	 */
+	private final Executor executor;
+	/**
+	 * Commands received and not yet run
+	 */
+	private final BlockingQueue<String> inbox = new ArrayBlockingQueue<String>(MAX_PENDING);
+	/**
+	 * Flag set while a drain of the inbox is scheduled or running
+	 */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	/**
+	 * Replies not yet written to the connection, written by the server
+	 */
+	final Queue<ByteBuffer> outbox = new ConcurrentLinkedQueue<ByteBuffer>();
+	/**
+	 * Selection key of the connection, only used by the server
+	 */
+	SelectionKey key;
+	/**
+	 * Partial command received so far, null if there is none. Only used by the server.
+	 */
+	StringBuilder input = null;
+	/**
+	 * Flag set once the connection is to be closed after the replies are written
+	 */
+	volatile boolean closing = false;
+	/**
+	 * Game of the session, created by the first command that needs one
+	 */
+	private CheckerGame game = null;
+	/**
+	 * Text naming the winner once the game is over, else null
+	 */
+	private String result = null;
+
+	/**
+	 * Constructor of CheckerSession class
+	 * <p>
+	 * A session holds no thread and no game while it is idle, so that many idle sessions cost little more than their connections.
+	 *
+	 * @param server Server the session is connected through
+	 * @param executor Executor running the commands of the session
+	 */
+	CheckerSession(CheckerServer server, Executor executor)
+	{
+		this.server = server;
+		this.executor = executor;
+	}
+
+	/**
+	 * Queue a command received from the client, and schedule a drain of the inbox unless one is scheduled already
+	 *
+	 * @param command Command line without the line end
+	 * @return boolean Return false if too many commands are waiting
+	 */
+	boolean receive(String command)
+	{
+		if (!inbox.offer(command))
+			return false;
+		schedule();
+		return true;
+	}
+
+	/**
+	 * Schedule a drain of the inbox unless one is scheduled already or the inbox is empty
+	 *
+	 */
+	private void schedule()
+	{
+		if (!inbox.isEmpty() && scheduled.compareAndSet(false, true))
+			executor.execute(this::drain);
+	}
+
+	/**
+	 * Run the commands waiting in the inbox, in the order received
+	 *
+	 */
+	private void drain()
+	{
+		String command;
+		while (!closing && (command = inbox.poll()) != null)
+			handle(command);
+		scheduled.set(false);
+		// a command received after the last poll and before the flag was cleared must not be left waiting
+		schedule();
+	}
+
+	/**
+	 * Run one command and send its reply
+	 * <p>
+	 * Commands are "new" to start a new game, "move s1 s2 [s3 ...]" to play a piece from square s1 through the following squares
+	 * (square numbers 1..32, see CheckerPositionFormat), "position" to get the position and "quit" to close the session. The client
+	 * plays orange; the computer plays white in reply to each completed turn. Replies are "OK position", followed by "END result" once
+	 * the game is over, or "ERR reason".
+	 *
+	 * @param command Command line without the line end
+	 */
+	private void handle(String command)
+	{
+		String[] words = command.trim().split("\\s+");
+		try
+		{
+			if (words[0].isEmpty())
+				return;
+			else if (words[0].equals("new"))
+			{
+				newGame();
+				sendPosition();
+			}
+			else if (words[0].equals("move"))
+				move(words);
+			else if (words[0].equals("position"))
+			{
+				if (game == null)
+					newGame();
+				sendPosition();
+			}
+			else if (words[0].equals("quit"))
+			{
+				server.send(this, "BYE");
+				server.close(this);
+			}
+			else
+				server.send(this, "ERR unknown command " + words[0]);
+		}
+		catch (RuntimeException e)
+		{
+			server.send(this, "ERR " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Play the hops of a move command for the orange player, and the reply of the computer player once the turn is complete
+	 *
+	 * @param words Words of the command, the squares from the second word on
+	 */
+	private void move(String[] words)
+	{
+		if (words.length < 3)
+		{
+			server.send(this, "ERR expected move s1 s2 [s3 ...]");
+			return;
+		}
+		if (game == null)
+			newGame();
+		if (result != null)
+		{
+			server.send(this, "ERR game over, send new");
+			return;
+		}
+
+		for (int i = 1; i + 1 < words.length; i++)
+		{
+			if (!hop(parseSquare(words[i]), parseSquare(words[i + 1])))
+			{
+				server.send(this, "ERR illegal action " + words[i] + "-" + words[i + 1] + " in " +
+					CheckerPositionFormat.toText(game.getBoard().getState()));
+				return;
+			}
+		}
+		sendPosition();
+	}
+
+	/**
+	 * Play one hop of the orange player the way a click on the piece then on the target tile does
+	 *
+	 * @param from Square index the piece leaves
+	 * @param to Square index the piece lands on
+	 * @return boolean Return true if the piece got to the target
+	 */
+	private boolean hop(int from, int to)
+	{
+		CheckerBoard board = game.getBoard();
+		CheckerPlayer player = game.getPlayer(Color.ORANGE);
+		CheckerPiece piece = board.getPiece(CheckerState.row(from), CheckerState.col(from));
+		if (piece == null || piece.getColor() != Color.ORANGE || game.getCurrentPlayer() != Color.ORANGE)
+			return false;
+
+		player.actionPerformed(new ActionEvent(piece, ActionEvent.ACTION_PERFORMED, null));
+		// the piece is not selected if another piece must capture, the target must not be played by the piece selected before
+		if (!piece.isSelect())
+			return false;
+		player.dstActionNotify(CheckerState.row(to), CheckerState.col(to));
+		return (piece.getRow() == CheckerState.row(to)) && (piece.getCol() == CheckerState.col(to));
+	}
+
+	/**
+	 * Get a square index from a square number
+	 *
+	 * @param word Square number 1..32
+	 * @return int Return square index
+	 * @throws IllegalArgumentException if the word is not a square number
+	 */
+	private static int parseSquare(String word)
+	{
+		int number = Integer.parseInt(word);
+		if (number < 1 || number > CheckerState.SQUARES)
+			throw new IllegalArgumentException("Bad square " + word + ": expected 1.." + CheckerState.SQUARES);
+		return number - 1;
+	}
+
+	/**
+	 * Start a new game, the orange player to move
+	 *
+	 */
+	private void newGame()
+	{
+		game = server.newGame();
+		game.setListener(this);
+		result = null;
+	}
+
+	/**
+	 * Send the position of the game, and the result if the game is over
+	 *
+	 */
+	private void sendPosition()
+	{
+		server.send(this, "OK " + CheckerPositionFormat.toText(game.getBoard().getState()));
+		if (result != null)
+			server.send(this, "END " + result);
+	}
+
+	/**
+	 * The play is turned over, nothing to send as the reply to the command carries the position
+	 *
+	 * @param game Game the play is turned over in
+	 * @param status Text naming the current player
+	 */
+	public void statusChanged(CheckerGame game, String status)
+	{
+	}
+
+	/**
+	 * Keep the result to send with the reply to the command
+	 *
+	 * @param game Game that is over
+	 * @param status Text naming the winner
+	 */
+	public void gameOver(CheckerGame game, String status)
+	{
+		result = status.trim();
+	}
+}
@@ -0,0 +1,175 @@
+package checker.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import checker.ai.CheckerSearch;
+import checker.engine.CheckerState;
+
+/**
+ * @author      Chin Kooi Khor (chin.kooi.khor@gmail.com)
+ * @version     1.0
+ * @since       18 Oct 2026
+ */
+public class CheckerTextProtocol implements CheckerEngineListener
+{
+	/**
+	 * Engine driven by the commands read
+	 */
+	private final CheckerEngine engine;
+	/**
+	 * Output to the front end, written by the reading and the searching thread, one whole line at a time
+	 */
+	private final PrintStream out;
+
+	/**
+	 * Constructor of CheckerTextProtocol class
+	 *
+	 * @param search Search of the engine
+	 * @param out Output to the front end
+	 */
+	public CheckerTextProtocol(CheckerSearch search, PrintStream out)
+	{
+		this.out = out;
+		this.engine = new CheckerEngine(search, this);
+	}
+
+	/**
+	 * Read and run commands until "quit" or the end of the input
+	 * <p>
+	 * Commands, one per line:
+	 * <br>"isready" is answered "readyok", also while a search runs.
+	 * <br>"position startpos|text [moves a1 a2 ...]" sets the position (text see CheckerPositionFormat), then plays the actions given as
+	 * square numbers, e.g. "22-18" or "22x15", one hop each.
+	 * <br>"go [movetime ms] [depth n] [infinite]" starts a search and returns at once. An infinite search runs until "stop". Each completed iteration is reported as
+	 * "info depth d score s nodes n time ms nps n pv action", the result as "bestmove action", or "bestmove none" without legal action.
+	 * <br>"stop" ends the search, its bestmove follows at once.
+	 * <br>"d" prints the position, "quit" stops and leaves.
+	 * <br>Errors are reported as "error reason".
+	 *
+	 * @param in Input from the front end
+	 * @throws IOException if the input cannot be read
+	 */
+	public void run(BufferedReader in) throws IOException
+	{
+		try
+		{
+			for (String line; (line = in.readLine()) != null; )
+			{
+				String[] words = line.trim().split("\\s+");
+				if (words[0].equals("quit"))
+					break;
+				try
+				{
+					handle(words);
+				}
+				catch (RuntimeException e)
+				{
+					send("error " + e.getMessage());
+				}
+			}
+		}
+		finally
+		{
+			engine.close();
+		}
+	}
+
+	/**
+	 * Run one command
+	 *
+	 * @param words Words of the command line
+	 */
+	private void handle(String[] words)
+	{
+		if (words[0].isEmpty())
+			return;
+		else if (words[0].equals("isready"))
+			send("readyok");
+		else if (words[0].equals("position") && words.length >= 2)
+		{
+			int moves = Arrays.asList(words).indexOf("moves");
+			String[] actions = (moves < 0) ? new String[0] : Arrays.copyOfRange(words, moves + 1, words.length);
+			engine.setPosition(words[1], actions);
+		}
+		else if (words[0].equals("go"))
+		{
+			long millis = CheckerState.NONE;
+			int depth = CheckerSearch.MAX_DEPTH;
+			boolean infinite = false;
+			for (int i = 1; i < words.length; i++)
+			{
+				if (words[i].equals("movetime") && i + 1 < words.length)
+					millis = Long.parseLong(words[++i]);
+				else if (words[i].equals("depth") && i + 1 < words.length)
+					depth = Integer.parseInt(words[++i]);
+				else if (words[i].equals("infinite"))
+					infinite = true;
+				else
+					throw new IllegalArgumentException("Unknown go parameter " + words[i]);
+			}
+			// a depth limit alone is not cut short by the default time budget
+			if (millis < 0)
+				millis = (depth < CheckerSearch.MAX_DEPTH) ? CheckerEngine.INFINITE_MILLIS : CheckerEngine.MOVE_MILLIS;
+			engine.go(millis, depth, infinite);
+		}
+		else if (words[0].equals("stop"))
+			engine.stop();
+		else if (words[0].equals("d"))
+			send("position " + engine.getPosition());
+		else
+			throw new IllegalArgumentException("Unknown command " + String.join(" ", words));
+	}
+
+	/**
+	 * Report a completed iteration as an info line
+	 *
+	 * @param depth Depth of the completed iteration
+	 * @param score Score of the best action from the view of the side to move
+	 * @param nodes Number of nodes searched so far
+	 * @param nanos Time searched so far in nanoseconds
+	 * @param move Best action of the iteration, packed by CheckerMove
+	 */
+	public void iterationCompleted(int depth, int score, long nodes, long nanos, int move)
+	{
+		long nps = (nanos > 0) ? (long) (nodes * 1e9 / nanos) : 0;
+		send("info depth " + depth + " score " + score + " nodes " + nodes + " time " + (nanos / 1000000) + " nps " + nps + " pv " +
+			CheckerEngine.toText(move));
+	}
+
+	/**
+	 * Report the result of a search as a bestmove line
+	 *
+	 * @param move Selected action packed by CheckerMove, or CheckerState.NONE if there is no legal action
+	 */
+	public void bestMove(int move)
+	{
+		send("bestmove " + ((move == CheckerState.NONE) ? "none" : CheckerEngine.toText(move)));
+	}
+
+	/**
+	 * Report a failed search as an error line
+	 *
+	 * @param reason Description of the failure
+	 */
+	public void searchFailed(String reason)
+	{
+		send("error " + reason);
+	}
+
+	/**
+	 * Write one line and flush it, so that the front end sees it at once
+	 *
+	 * @param line Line without the line end
+	 */
+	private void send(String line)
+	{
+		synchronized (out)
+		{
+			out.println(line);
+			out.flush();
+		}
+	}
+}